@@ -0,0 +1,100 @@
+package com.example.performance_management_system;
+
+import com.example.performance_management_system.goal.dto.GoalResponse;
+import com.example.performance_management_system.goal.model.GoalStatus;
+import com.example.performance_management_system.keyresult.dto.KeyResultResponse;
+import com.example.performance_management_system.performancecycle.model.CycleStatus;
+import com.example.performance_management_system.performancecycle.model.PerformanceCycle;
+import com.example.performance_management_system.rating.dto.RatingResponse;
+import com.example.performance_management_system.rating.model.RatingStatus;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body serialization for goal and rating lists, using the same
+ * Jackson 3 mapper type that Spring MVC writes responses with.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    private List<GoalResponse> goals;
+    private List<RatingResponse> ratings;
+
+    @Setup
+    public void setUp() {
+        PerformanceCycle cycle = new PerformanceCycle();
+        cycle.setId(1L);
+        cycle.setName("FY26");
+        cycle.setCycleType("ANNUAL");
+        cycle.setStartDate(LocalDate.of(2026, 1, 1));
+        cycle.setEndDate(LocalDate.of(2026, 12, 31));
+        cycle.setStatus(CycleStatus.ACTIVE);
+        cycle.setCreatedBy("hr@example.com");
+        cycle.setCreatedAt(LocalDateTime.of(2026, 1, 1, 9, 0));
+
+        goals = new ArrayList<>(size);
+        ratings = new ArrayList<>(size);
+
+        for (long i = 1; i <= size; i++) {
+            GoalResponse goal = new GoalResponse();
+            goal.id = i;
+            goal.title = "Goal " + i;
+            goal.description = "Deliver milestone " + i + " of the quarterly roadmap";
+            goal.status = GoalStatus.APPROVED;
+            goal.employeeId = i;
+            goal.cycleName = cycle.getName();
+            goal.cycleType = cycle.getCycleType();
+            goal.keyResults = new ArrayList<>();
+            for (long k = 1; k <= 3; k++) {
+                KeyResultResponse kr = new KeyResultResponse();
+                kr.id = i * 10 + k;
+                kr.metric = "Metric " + k;
+                kr.targetValue = 100.0;
+                kr.currentValue = 25.0 * k;
+                goal.keyResults.add(kr);
+            }
+            goals.add(goal);
+
+            ratings.add(new RatingResponse(
+                    i,
+                    i,
+                    "Employee " + i,
+                    1L,
+                    "Manager",
+                    cycle.getId(),
+                    cycle.getName(),
+                    3.75,
+                    RatingStatus.DRAFT,
+                    "Auto-generated by system",
+                    null,
+                    LocalDateTime.of(2026, 3, 1, 9, 0)
+            ));
+        }
+    }
+
+    @Benchmark
+    public byte[] goalResponses() {
+        return mapper.writeValueAsBytes(goals);
+    }
+
+    @Benchmark
+    public byte[] ratingResponses() {
+        return mapper.writeValueAsBytes(ratings);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.performance_management_system.performance.application.service;
+
+import com.example.performance_management_system.performance.application.port.out.EmployeePerformanceMetricsRepository;
+import com.example.performance_management_system.performance.domain.model.valueobject.EmployeeId;
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalProgress;
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalProgressAggregate;
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalStatusSnapshot;
+import com.example.performance_management_system.performance.domain.model.valueobject.KeyResultProgress;
+import com.example.performance_management_system.performance.domain.model.valueobject.PerformanceScore;
+import com.example.performance_management_system.performance.domain.model.valueobject.ReviewCycleId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cached score reads (the rating edit path) vs. a read right after an eviction.
+ * The metrics repository is an in-memory stub, so misses measure scoring only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PerformanceScoringEngineBenchmark {
+
+    private final EmployeeId employeeId = new EmployeeId(1L);
+    private final ReviewCycleId cycleId = new ReviewCycleId(1L);
+
+    private PerformanceScoringEngine engine;
+
+    @Setup
+    public void setUp() {
+        List<GoalProgress> goals = List.of(
+                new GoalProgress(GoalStatusSnapshot.APPROVED, List.of(
+                        new KeyResultProgress(40, 100),
+                        new KeyResultProgress(80, 100)
+                )),
+                new GoalProgress(GoalStatusSnapshot.COMPLETED, List.of(
+                        new KeyResultProgress(10, 10)
+                ))
+        );
+
+        // roll-up of the goals above, as maintained by the goal write paths
+        GoalProgressAggregate aggregate = new GoalProgressAggregate(2, 1.0, 0.6, 0, 0, 0, 0);
+
+        engine = new PerformanceScoringEngine(new EmployeePerformanceMetricsRepository() {
+            @Override
+            public List<GoalProgress> loadGoalProgress(EmployeeId employeeId, ReviewCycleId reviewCycleId) {
+                return goals;
+            }
+
+            @Override
+            public Map<EmployeeId, List<GoalProgress>> loadGoalProgress(
+                    Collection<EmployeeId> employeeIds,
+                    ReviewCycleId reviewCycleId
+            ) {
+                Map<EmployeeId, List<GoalProgress>> result = new HashMap<>();
+                employeeIds.forEach(id -> result.put(id, goals));
+                return result;
+            }
+
+            @Override
+            public Map<EmployeeId, List<GoalProgress>> loadGoalProgressForCycle(ReviewCycleId reviewCycleId) {
+                return Map.of(employeeId, goals);
+            }
+
+            @Override
+            public Optional<GoalProgressAggregate> loadProgressAggregate(EmployeeId employeeId, ReviewCycleId reviewCycleId) {
+                return Optional.of(aggregate);
+            }
+
+            @Override
+            public Map<EmployeeId, GoalProgressAggregate> loadProgressAggregates(
+                    Collection<EmployeeId> employeeIds,
+                    ReviewCycleId reviewCycleId
+            ) {
+                Map<EmployeeId, GoalProgressAggregate> result = new HashMap<>();
+                employeeIds.forEach(id -> result.put(id, aggregate));
+                return result;
+            }
+        });
+
+        engine.score(employeeId, cycleId);
+    }
+
+    @Benchmark
+    public PerformanceScore cachedRead() {
+        return engine.score(employeeId, cycleId);
+    }
+
+    @Benchmark
+    public PerformanceScore readAfterEviction() {
+        engine.evict(employeeId, cycleId);
+        return engine.score(employeeId, cycleId);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.performance_management_system.performance.domain.service;
+
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalProgress;
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalStatusSnapshot;
+import com.example.performance_management_system.performance.domain.model.valueobject.KeyResultProgress;
+import com.example.performance_management_system.performance.domain.model.valueobject.RatingCriteria;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Record-based scoring vs. the columnar kernel over the same synthetic cycle
+ * (4 goals x 5 key results per employee).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PerformanceScoreCalculatorBenchmark {
+
+    private static final int GOALS_PER_EMPLOYEE = 4;
+    private static final int KEY_RESULTS_PER_GOAL = 5;
+
+    @Param({"1000", "100000", "1000000"})
+    public int keyResults;
+
+    private final PerformanceScoreCalculator calculator = new PerformanceScoreCalculator();
+    private final RatingCriteria criteria = RatingCriteria.standard();
+
+    private List<List<GoalProgress>> goalsByEmployee;
+    private ScoringColumns columns;
+    private double[] weights;
+    private double[] scores;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        GoalStatusSnapshot[] statuses = GoalStatusSnapshot.values();
+        int employees = Math.max(1, keyResults / (GOALS_PER_EMPLOYEE * KEY_RESULTS_PER_GOAL));
+
+        goalsByEmployee = new ArrayList<>(employees);
+        ScoringColumns.Builder builder = ScoringColumns.builder();
+
+        for (int e = 0; e < employees; e++) {
+            List<GoalProgress> goals = new ArrayList<>(GOALS_PER_EMPLOYEE);
+            builder.startEmployee();
+
+            for (int g = 0; g < GOALS_PER_EMPLOYEE; g++) {
+                List<KeyResultProgress> krs = new ArrayList<>(KEY_RESULTS_PER_GOAL);
+                for (int k = 0; k < KEY_RESULTS_PER_GOAL; k++) {
+                    krs.add(new KeyResultProgress(random.nextDouble() * 120, 100));
+                }
+                GoalProgress goal = new GoalProgress(statuses[random.nextInt(statuses.length)], krs);
+                goals.add(goal);
+                builder.addGoal(goal);
+            }
+            goalsByEmployee.add(goals);
+        }
+
+        columns = builder.build();
+        weights = PerformanceScoreKernel.statusWeights(criteria);
+        scores = new double[employees];
+    }
+
+    @Benchmark
+    public void recordBased(Blackhole blackhole) {
+        for (List<GoalProgress> goals : goalsByEmployee) {
+            blackhole.consume(calculator.calculate(goals, criteria));
+        }
+    }
+
+    @Benchmark
+    public double[] kernelSingleThread() {
+        PerformanceScoreKernel.score(columns, weights, scores, 0, columns.employeeCount());
+        return scores;
+    }
+
+    @Benchmark
+    public double[] kernelCalculateAll() {
+        return calculator.calculateAll(columns, criteria);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.performance_management_system.rating.service;
+
+import com.example.performance_management_system.rating.model.NormalizationMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calibration proposals over a synthetic cycle (8 ratings per manager, with
+ * manager-specific leniency), excluding the database read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreNormalizerBenchmark {
+
+    private static final int RATINGS_PER_MANAGER = 8;
+
+    @Param({"10000", "100000"})
+    public int ratings;
+
+    @Param({"Z_SCORE", "FORCED_DISTRIBUTION"})
+    public NormalizationMode mode;
+
+    private final ScoreNormalizer normalizer = new ScoreNormalizer();
+
+    private long[] managerIds;
+    private double[] scores;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        managerIds = new long[ratings];
+        scores = new double[ratings];
+
+        for (int i = 0; i < ratings; i++) {
+            managerIds[i] = i / RATINGS_PER_MANAGER;
+            double leniency = (managerIds[i] % 5) * 0.3;
+            double score = 2.5 + leniency + random.nextGaussian() * 0.6;
+            scores[i] = Math.round(Math.max(1.0, Math.min(5.0, score)) * 100.0) / 100.0;
+        }
+    }
+
+    @Benchmark
+    public ScoreNormalizer.Result normalize() {
+        return normalizer.normalize(managerIds, scores, mode, 3);
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.performance_management_system.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Subscription registry, after-commit deferral, local dispatch and metrics
+ * shared by the bus transports.
+ * <p>
+ * A send that fails is not retried as is: keys may carry values that a later
+ * message has already superseded. Instead its cache is remembered and a flush
+ * of that cache is sent every {@code pms.cache-bus.retry-interval-ms} until
+ * one gets through, so other nodes are stale for as long as this node cannot
+ * reach the transport, not until they restart.
+ */
+public abstract class AbstractCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractCacheInvalidationBus.class);
+
+    protected final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, List<CacheInvalidationListener>> listeners = new ConcurrentHashMap<>();
+
+    // caches with a failed send; other nodes still have to be told to flush them
+    private final Set<String> unsentFlushes = ConcurrentHashMap.newKeySet();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter published;
+    private final Counter received;
+    private final Counter flushes;
+    private final Counter sendFailures;
+
+    protected AbstractCacheInvalidationBus(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.published = Counter.builder("cache.invalidation.published")
+                .description("Invalidations sent by this node")
+                .register(meterRegistry);
+        this.received = Counter.builder("cache.invalidation.received")
+                .description("Invalidations received from other nodes")
+                .register(meterRegistry);
+        this.flushes = Counter.builder("cache.invalidation.flushes")
+                .description("Full flushes of every subscribed cache")
+                .register(meterRegistry);
+        this.sendFailures = Counter.builder("cache.invalidation.send_failures")
+                .description("Invalidations that could not be sent to other nodes")
+                .register(meterRegistry);
+        Gauge.builder("cache.invalidation.unsent_flushes", unsentFlushes, Set::size)
+                .description("Caches other nodes still have to flush after a failed send")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        afterCommit(new CacheInvalidation(nodeId, System.currentTimeMillis(), cacheName, key));
+    }
+
+    @Override
+    public void publishFlush(String cacheName) {
+        afterCommit(new CacheInvalidation(nodeId, System.currentTimeMillis(), cacheName, null));
+    }
+
+    @Override
+    public void subscribe(String cacheName, CacheInvalidationListener listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Sends the invalidation to the other nodes.
+     */
+    protected abstract void send(CacheInvalidation invalidation);
+
+    /**
+     * Entry point for transports when an invalidation arrives from any node.
+     */
+    protected void receive(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.originNodeId())) {
+            // already applied locally when it was published
+            return;
+        }
+        received.increment();
+        Timer.builder("cache.invalidation.delivery")
+                .description("Time from publish on one node to receipt on another")
+                .tag("cache", invalidation.cacheName())
+                .register(meterRegistry)
+                .record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - invalidation.sentAtMillis())));
+        dispatch(invalidation);
+    }
+
+    /**
+     * Sends a flush for every cache whose invalidation could not be sent.
+     * Stops at the first failure; the rest wait for the next run.
+     */
+    @Scheduled(fixedDelayString = "${pms.cache-bus.retry-interval-ms:5000}")
+    public void resendFailed() {
+        for (String cacheName : List.copyOf(unsentFlushes)) {
+            // removed first, so a send failing concurrently re-adds it
+            unsentFlushes.remove(cacheName);
+            try {
+                send(new CacheInvalidation(nodeId, System.currentTimeMillis(), cacheName, null));
+                log.info("Sent deferred flush of cache {} to other nodes", cacheName);
+            } catch (RuntimeException e) {
+                unsentFlushes.add(cacheName);
+                log.warn("Still cannot broadcast invalidations for cache {}: {}", cacheName, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Flushes every subscribed cache on this node.
+     */
+    protected void flushAll(String reason) {
+        log.info("Flushing all invalidation-bus caches: {}", reason);
+        flushes.increment();
+        listeners.values().forEach(subscribed -> subscribed.forEach(this::safeInvalidateAll));
+    }
+
+    private void afterCommit(CacheInvalidation invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(invalidation);
+                }
+            });
+        } else {
+            publishNow(invalidation);
+        }
+    }
+
+    private void publishNow(CacheInvalidation invalidation) {
+        dispatch(invalidation);
+        published.increment();
+        try {
+            send(invalidation);
+        } catch (RuntimeException e) {
+            // the change is committed; other nodes get a flush of the cache once sends work again
+            sendFailures.increment();
+            unsentFlushes.add(invalidation.cacheName());
+            log.error("Failed to broadcast invalidation {}, flush of the cache deferred", invalidation, e);
+        }
+    }
+
+    private void dispatch(CacheInvalidation invalidation) {
+        List<CacheInvalidationListener> subscribed = listeners.get(invalidation.cacheName());
+        if (subscribed == null) {
+            return;
+        }
+        for (CacheInvalidationListener listener : subscribed) {
+            try {
+                if (invalidation.key() == null) {
+                    listener.invalidateAll();
+                } else {
+                    listener.invalidate(invalidation.key());
+                }
+            } catch (RuntimeException e) {
+                log.error("Cache listener failed for {}", invalidation, e);
+                safeInvalidateAll(listener);
+            }
+        }
+    }
+
+    private void safeInvalidateAll(CacheInvalidationListener listener) {
+        try {
+            listener.invalidateAll();
+        } catch (RuntimeException e) {
+            log.error("Cache flush failed", e);
+        }
+    }
+
+    /**
+     * {@code key} is null for a full flush of the cache.
+     */
+    protected record CacheInvalidation(String originNodeId, long sentAtMillis, String cacheName, String key) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.performance_management_system.common.cache;
+
+/**
+ * Broadcasts {@code (cacheName, key)} invalidations to every node.
+ * <p>
+ * Inside a transaction, {@link #publish} is deferred until after commit, so
+ * no node can reload the old value in between; outside one it is sent at once.
+ * The publishing node is notified synchronously, other nodes asynchronously.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(String cacheName, String key);
+
+    void publishFlush(String cacheName);
+
+    void subscribe(String cacheName, CacheInvalidationListener listener);
+}
@@ -0,0 +1,14 @@
+package com.example.performance_management_system.common.cache;
+
+/**
+ * Receives invalidations for one cache, on every node including the publisher's.
+ */
+public interface CacheInvalidationListener {
+
+    void invalidate(String key);
+
+    /**
+     * Drop everything: invalidations may have been missed (e.g. after a reconnect).
+     */
+    void invalidateAll();
+}
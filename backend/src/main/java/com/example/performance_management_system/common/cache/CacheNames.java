@@ -0,0 +1,15 @@
+package com.example.performance_management_system.common.cache;
+
+/**
+ * Names of the in-process caches that take part in cross-node invalidation.
+ */
+public final class CacheNames {
+
+    public static final String PERFORMANCE_CYCLE = "performance-cycle";
+    public static final String ORG_HIERARCHY = "org-hierarchy";
+    public static final String PERFORMANCE_SCORE = "performance-score";
+    public static final String GOAL_ALIGNMENT = "goal-alignment";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.performance_management_system.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-node loopback bus: invalidations only reach this node's caches.
+ * Enable with {@code pms.cache-bus.type=memory} (tests, local runs without Postgres).
+ */
+@Component
+@ConditionalOnProperty(prefix = "pms.cache-bus", name = "type", havingValue = "memory")
+public class InMemoryCacheInvalidationBus extends AbstractCacheInvalidationBus {
+
+    public InMemoryCacheInvalidationBus(MeterRegistry meterRegistry) {
+        super(meterRegistry);
+    }
+
+    @Override
+    protected void send(CacheInvalidation invalidation) {
+        // local listeners were already notified; there are no other nodes
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.performance_management_system.common.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Broadcasts invalidations with {@code pg_notify} and receives them on a
+ * dedicated {@code LISTEN} connection.
+ * <p>
+ * The listener connection is opened outside the pool against
+ * {@code pms.cache-bus.listen-url}, which must be a session-mode endpoint:
+ * a transaction-mode pooler drops {@code LISTEN} registrations. Notifications
+ * sent while the listener is disconnected are lost, so every subscribed cache
+ * is flushed once it has reconnected.
+ */
+@Component
+@ConditionalOnProperty(prefix = "pms.cache-bus", name = "type", havingValue = "postgres", matchIfMissing = true)
+public class PostgresCacheInvalidationBus extends AbstractCacheInvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresCacheInvalidationBus.class);
+
+    static final String CHANNEL = "pms_cache_invalidation";
+
+    private static final int POLL_TIMEOUT_MILLIS = 5_000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    // pg_notify payloads are limited to 8000 bytes
+    private static final int MAX_PAYLOAD_LENGTH = 7_900;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String listenUrl;
+    private final String username;
+    private final String password;
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    public PostgresCacheInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${pms.cache-bus.listen-url:${spring.datasource.url}}") String listenUrl,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password
+    ) {
+        super(meterRegistry);
+        this.jdbcTemplate = jdbcTemplate;
+        this.listenUrl = listenUrl;
+        this.username = username;
+        this.password = password;
+
+        Gauge.builder("cache.invalidation.connected", this, bus -> bus.connected ? 1 : 0)
+                .description("Whether this node is listening for invalidations")
+                .register(meterRegistry);
+    }
+
+    /* ================= SEND ================= */
+
+    @Override
+    protected void send(CacheInvalidation invalidation) {
+        String payload = encode(invalidation);
+        if (payload.length() > MAX_PAYLOAD_LENGTH) {
+            // oversized keys fall back to flushing the whole cache
+            payload = encode(new CacheInvalidation(
+                    invalidation.originNodeId(), invalidation.sentAtMillis(), invalidation.cacheName(), null));
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> {
+        }, CHANNEL, payload);
+    }
+
+    /* ================= LISTEN ================= */
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeConnection();
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        long backoff = 1_000;
+        boolean everConnected = false;
+
+        while (running) {
+            try {
+                connect();
+                if (everConnected) {
+                    flushAll("invalidation listener reconnected");
+                }
+                everConnected = true;
+                backoff = 1_000;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Invalidation listener disconnected, retrying in {} ms: {}", backoff, e.getMessage());
+                closeConnection();
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoff = Math.min(MAX_BACKOFF_MILLIS, backoff * 2);
+            }
+        }
+        closeConnection();
+    }
+
+    private void connect() throws SQLException {
+        Connection opened = DriverManager.getConnection(listenUrl, username, password);
+        try (Statement statement = opened.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        } catch (SQLException e) {
+            opened.close();
+            throw e;
+        }
+        connection = opened;
+        connected = true;
+        log.info("Listening for cache invalidations on channel {}", CHANNEL);
+    }
+
+    private void closeConnection() {
+        connected = false;
+        Connection current = connection;
+        connection = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException ignored) {
+                // already broken
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        CacheInvalidation invalidation = decode(payload);
+        if (invalidation == null) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+        receive(invalidation);
+    }
+
+    /* ================= PAYLOAD ================= */
+
+    // origin \t sentAtMillis \t cacheName [\t key]; no key means flush the cache
+    static String encode(CacheInvalidation invalidation) {
+        String head = invalidation.originNodeId() + '\t' + invalidation.sentAtMillis() + '\t' + invalidation.cacheName();
+        return invalidation.key() == null ? head : head + '\t' + invalidation.key();
+    }
+
+    static CacheInvalidation decode(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        String[] parts = payload.split("\t", 4);
+        if (parts.length < 3) {
+            return null;
+        }
+        try {
+            return new CacheInvalidation(
+                    parts[0],
+                    Long.parseLong(parts[1]),
+                    parts[2],
+                    parts.length == 4 ? parts[3] : null
+            );
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
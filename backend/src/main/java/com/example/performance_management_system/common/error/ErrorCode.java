@@ -17,6 +17,7 @@ public enum ErrorCode {
     // GOAL
     GOAL_NOT_FOUND,
     GOAL_INVALID_STATE,
+    GOAL_ALIGNMENT_CYCLE,
 
     // REVIEW
     REVIEW_NOT_FOUND,
@@ -0,0 +1,57 @@
+package com.example.performance_management_system.common.pagination;
+
+import com.example.performance_management_system.common.error.ErrorCode;
+import com.example.performance_management_system.common.exception.BusinessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One slice of a keyset-paginated listing. Pass {@code nextCursor} back as
+ * {@code cursor} to fetch the following slice; it is null on the last one.
+ * {@code totalElements} is only filled when the caller asked for it.
+ */
+public record CursorPage<T>(List<T> content, int size, String nextCursor, boolean hasNext, Long totalElements) {
+
+    public static final int MAX_SIZE = 1000;
+
+    /**
+     * Fetches one row more than requested, so the extra row tells whether another page exists.
+     */
+    public static Pageable limit(int size) {
+        return PageRequest.of(0, validateSize(size) + 1);
+    }
+
+    /**
+     * @param rows     the result of a query limited by {@link #limit(int)}
+     * @param cursorOf the cursor of a row
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, PageCursor> cursorOf, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+
+        return new CursorPage<>(List.copyOf(content), content.size(), nextCursor, hasNext, totalElements);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), size, nextCursor, hasNext, totalElements);
+    }
+
+    private static int validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BusinessException(
+                    HttpStatus.BAD_REQUEST,
+                    ErrorCode.INVALID_INPUT,
+                    "Page size must be between 1 and " + MAX_SIZE
+            );
+        }
+        return size;
+    }
+}
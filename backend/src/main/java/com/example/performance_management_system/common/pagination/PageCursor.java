@@ -0,0 +1,80 @@
+package com.example.performance_management_system.common.pagination;
+
+import com.example.performance_management_system.common.error.ErrorCode;
+import com.example.performance_management_system.common.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of the last row a client has seen: the sort key (when the listing is
+ * not ordered by id alone) and the row id as tie-breaker.
+ * <p>
+ * Clients only ever see the opaque token produced by {@link #encode()}.
+ */
+public record PageCursor(LocalDateTime sortValue, long id) {
+
+    private static final String NO_SORT_VALUE = "-";
+
+    // far beyond any stored timestamp, but still inside PostgreSQL's timestamp range
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    public static PageCursor of(long id) {
+        return new PageCursor(null, id);
+    }
+
+    public static PageCursor of(LocalDateTime sortValue, long id) {
+        return new PageCursor(sortValue, id);
+    }
+
+    /**
+     * Decodes a token; a null or blank token (first page) yields null.
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            String sortPart = raw.substring(0, separator);
+            long id = Long.parseLong(raw.substring(separator + 1));
+
+            return new PageCursor(
+                    NO_SORT_VALUE.equals(sortPart) ? null : LocalDateTime.parse(sortPart),
+                    id
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException(
+                    HttpStatus.BAD_REQUEST,
+                    ErrorCode.INVALID_INPUT,
+                    "Invalid cursor"
+            );
+        }
+    }
+
+    public String encode() {
+        String raw = (sortValue == null ? NO_SORT_VALUE : sortValue.toString()) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /* ---------- Bounds for the first page ---------- */
+
+    /** Exclusive lower id bound for ascending listings. */
+    public static long afterId(PageCursor cursor) {
+        return cursor == null ? 0L : cursor.id();
+    }
+
+    /** Exclusive upper id bound for descending listings. */
+    public static long beforeId(PageCursor cursor) {
+        return cursor == null ? Long.MAX_VALUE : cursor.id();
+    }
+
+    /** Exclusive upper sort bound for listings ordered by a timestamp, newest first. */
+    public static LocalDateTime beforeSortValue(PageCursor cursor) {
+        return cursor == null || cursor.sortValue() == null ? LATEST : cursor.sortValue();
+    }
+}
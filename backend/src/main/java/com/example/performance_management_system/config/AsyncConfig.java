@@ -3,9 +3,11 @@ package com.example.performance_management_system.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
@@ -17,5 +19,19 @@ public class AsyncConfig implements AsyncConfigurer {
         return (ex, method, params) ->
                 log.error("Async failure in {}", method.getName(), ex);
     }
-}
 
+    /**
+     * Bounded pool for review cycle activation jobs. Each job holds a
+     * connection per chunk, so keep this well below the Hikari pool size.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reviewCycleActivationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("review-activation-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.performance_management_system.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} housekeeping such as re-scanning for
+ * review cycle activation jobs that nobody is working on.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
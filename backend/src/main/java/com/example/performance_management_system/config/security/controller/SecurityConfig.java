@@ -2,6 +2,7 @@ package com.example.performance_management_system.config.security.controller;
 
 import com.example.performance_management_system.config.security.filter.JwtAuthenticationFilter;
 import com.example.performance_management_system.config.security.jwt.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -34,6 +35,9 @@ public class SecurityConfig {
                         // 🔥 allow preflight requests
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // 🔓 async re-dispatch of streamed responses, already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 🔓 Everyone logged in can VIEW active cycle
                         .requestMatchers(
                                 "/api/performance-cycles/active-cycle"
@@ -50,6 +54,10 @@ public class SecurityConfig {
                                 "/api/performance-cycles/*/close"
                         ).hasRole("HR")
 
+                        // 🔐 HR & ADMIN rebuild goal progress roll-ups
+                        .requestMatchers("/api/goals/progress/cycles/*/rebuild")
+                        .hasAnyRole("HR", "ADMIN")
+
                         // 🔐 Goals
                         .requestMatchers("/api/goals/**")
                         .hasAnyRole("EMPLOYEE", "MANAGER")
@@ -63,6 +71,13 @@ public class SecurityConfig {
                         // 🔐 HR & ADMIN only
                         .requestMatchers("/api/users/**").hasAnyRole("ADMIN", "HR")
 
+                        // 🔐 HR & ADMIN full-cycle exports
+                        .requestMatchers("/api/exports/**").hasAnyRole("ADMIN", "HR")
+
+                        // 🔓 health probe, 🔐 other actuator endpoints ADMIN only
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // 🔐 everything else requires auth
                         .anyRequest().authenticated()
                 )
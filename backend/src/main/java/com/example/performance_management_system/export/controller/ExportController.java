@@ -0,0 +1,65 @@
+package com.example.performance_management_system.export.controller;
+
+import com.example.performance_management_system.common.error.ErrorCode;
+import com.example.performance_management_system.common.exception.BusinessException;
+import com.example.performance_management_system.export.model.ExportDataset;
+import com.example.performance_management_system.export.model.ExportFormat;
+import com.example.performance_management_system.export.service.ExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    private final ExportService service;
+
+    public ExportController(ExportService service) {
+        this.service = service;
+    }
+
+    // 🔹 /api/exports/cycles/{id}/ratings|goals|reviews?format=csv|ndjson, gzip when accepted
+    @GetMapping("/cycles/{cycleId}/{dataset}")
+    @PreAuthorize("hasRole('HR') or hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable Long cycleId,
+            @PathVariable String dataset,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        ExportDataset exportDataset = parse(ExportDataset.class, dataset, "Unknown export: ");
+        ExportFormat exportFormat = parse(ExportFormat.class, format, "Unknown export format: ");
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+        StreamingResponseBody body = service.export(cycleId, exportDataset, exportFormat, gzip);
+
+        String filename = "cycle-" + cycleId + "-" + exportDataset.name().toLowerCase(Locale.ROOT)
+                + "." + exportFormat.extension();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String message) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_INPUT, message + value);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.performance_management_system.export.model;
+
+public enum ExportDataset {
+    RATINGS,
+    GOALS,
+    REVIEWS
+}
@@ -0,0 +1,157 @@
+package com.example.performance_management_system.export.repository;
+
+import com.example.performance_management_system.export.model.ExportDataset;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Flat per-cycle projections for exports, read through a forward-only cursor.
+ * Rows are handed to the extractor as they arrive; nothing is collected here.
+ */
+@Repository
+public class CycleExportRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String RATINGS = """
+            SELECT r.id AS rating_id,
+                   r.employee_id,
+                   e.name AS employee_name,
+                   e.email AS employee_email,
+                   d.display_name AS department,
+                   r.manager_id,
+                   m.name AS manager_name,
+                   r.score,
+                   r.status,
+                   r.manager_justification,
+                   r.hr_justification,
+                   r.created_at
+            FROM rating r
+            LEFT JOIN users e ON e.id = r.employee_id
+            LEFT JOIN department d ON d.id = e.department_id
+            LEFT JOIN users m ON m.id = r.manager_id
+            WHERE r.performance_cycle_id = ?
+            ORDER BY r.id
+            """;
+
+    private static final String GOALS = """
+            SELECT g.id AS goal_id,
+                   g.employee_id,
+                   e.name AS employee_name,
+                   g.title,
+                   g.status,
+                   COALESCE(k.key_result_count, 0) AS key_result_count,
+                   ROUND(CAST(COALESCE(k.average_ratio, 0) * 100 AS numeric), 2) AS progress_percent,
+                   g.rejection_reason,
+                   g.created_at
+            FROM goal g
+            LEFT JOIN users e ON e.id = g.employee_id
+            LEFT JOIN (
+                SELECT kr.goal_id,
+                       COUNT(*) AS key_result_count,
+                       AVG(CASE WHEN kr.target_value > 0
+                                THEN GREATEST(0, LEAST(1, kr.current_value / kr.target_value))
+                                ELSE 0 END) AS average_ratio
+                FROM key_result kr
+                JOIN goal g2 ON g2.id = kr.goal_id
+                WHERE g2.performance_cycle_id = ?
+                GROUP BY kr.goal_id
+            ) k ON k.goal_id = g.id
+            WHERE g.performance_cycle_id = ?
+            ORDER BY g.id
+            """;
+
+    // %s: comment columns, which may be large objects (see commentColumn)
+    private static final String REVIEWS = """
+            SELECT v.id AS review_id,
+                   rc.id AS review_cycle_id,
+                   rc.name AS review_cycle_name,
+                   v.employee_id,
+                   e.name AS employee_name,
+                   v.manager_id,
+                   m.name AS manager_name,
+                   v.status,
+                   %s AS self_review_comments,
+                   %s AS manager_review_comments,
+                   v.created_at
+            FROM review v
+            JOIN review_cycle rc ON rc.id = v.review_cycle_id
+            LEFT JOIN users e ON e.id = v.employee_id
+            LEFT JOIN users m ON m.id = v.manager_id
+            WHERE rc.performance_cycle_id = ?
+            ORDER BY v.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String reviewsSql;
+
+    public CycleExportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Must run inside a transaction, otherwise the driver ignores the fetch size
+     * and buffers the whole result.
+     */
+    public <T> T stream(ExportDataset dataset, Long cycleId, ResultSetExtractor<T> extractor) {
+        String sql = switch (dataset) {
+            case RATINGS -> RATINGS;
+            case GOALS -> GOALS;
+            case REVIEWS -> reviewsSql();
+        };
+        int cycleParameters = dataset == ExportDataset.GOALS ? 2 : 1;
+
+        return jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(
+                            sql,
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY
+                    );
+                    ps.setFetchSize(FETCH_SIZE);
+                    for (int i = 1; i <= cycleParameters; i++) {
+                        ps.setLong(i, cycleId);
+                    }
+                    return ps;
+                },
+                extractor
+        );
+    }
+
+    private String reviewsSql() {
+        String sql = reviewsSql;
+        if (sql == null) {
+            sql = REVIEWS.formatted(
+                    commentColumn("self_review_comments"),
+                    commentColumn("manager_review_comments")
+            );
+            reviewsSql = sql;
+        }
+        return sql;
+    }
+
+    /*
+     * Review comments are @Lob, which Hibernate maps to an oid (large object)
+     * column on PostgreSQL; tables created before that mapping hold plain text.
+     */
+    private String commentColumn(String column) {
+        List<String> types = jdbcTemplate.queryForList(
+                """
+                SELECT data_type FROM information_schema.columns
+                WHERE table_name = 'review' AND column_name = ?
+                """,
+                String.class,
+                column
+        );
+        boolean largeObject = !types.isEmpty() && "oid".equals(types.get(0));
+        return largeObject
+                ? "convert_from(lo_get(v." + column + "), 'UTF8')"
+                : "v." + column;
+    }
+}
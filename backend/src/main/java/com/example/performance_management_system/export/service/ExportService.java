@@ -0,0 +1,88 @@
+package com.example.performance_management_system.export.service;
+
+import com.example.performance_management_system.export.model.ExportDataset;
+import com.example.performance_management_system.export.model.ExportFormat;
+import com.example.performance_management_system.export.repository.CycleExportRepository;
+import com.example.performance_management_system.performancecycle.service.PerformanceCycleService;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams full-cycle data from a database cursor to the response.
+ * <p>
+ * Each row is written as soon as it is read, so memory use is bounded by the
+ * fetch size and the output buffers, whatever the size of the cycle. No
+ * entities are loaded.
+ */
+@Service
+public class ExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CycleExportRepository repository;
+    private final PerformanceCycleService cycleService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExportService(
+            CycleExportRepository repository,
+            PerformanceCycleService cycleService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.repository = repository;
+        this.cycleService = cycleService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Checks access and the cycle up front; the returned body runs later on an
+     * async thread, after the response status has been sent.
+     */
+    @PreAuthorize("hasRole('HR') or hasRole('ADMIN')")
+    public StreamingResponseBody export(Long cycleId, ExportDataset dataset, ExportFormat format, boolean gzip) {
+
+        cycleService.getCycle(cycleId);
+
+        return out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> repository.stream(dataset, cycleId, rs -> {
+                    try {
+                        RowWriter rows = format == ExportFormat.CSV
+                                ? new RowWriter.Csv(writer, rs.getMetaData())
+                                : new RowWriter.Ndjson(writer, rs.getMetaData());
+                        rows.writeHeader();
+                        while (rs.next()) {
+                            rows.writeRow(rs);
+                        }
+                        return null;
+                    } catch (IOException e) {
+                        // typically the client went away; abandons the cursor
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        };
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.performance_management_system.export.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Writes result set rows straight to a character stream, one row at a time.
+ * Timestamps are written as ISO-8601 local date-times.
+ */
+abstract class RowWriter {
+
+    protected final Writer out;
+    protected final String[] columns;
+    private final int[] types;
+
+    protected RowWriter(Writer out, ResultSetMetaData metaData) throws SQLException {
+        this.out = out;
+        int count = metaData.getColumnCount();
+        this.columns = new String[count];
+        this.types = new int[count];
+        for (int i = 0; i < count; i++) {
+            columns[i] = metaData.getColumnLabel(i + 1);
+            types[i] = metaData.getColumnType(i + 1);
+        }
+    }
+
+    abstract void writeHeader() throws IOException;
+
+    abstract void writeRow(ResultSet rs) throws SQLException, IOException;
+
+    /**
+     * The column as text, or null for SQL NULL.
+     */
+    protected String text(ResultSet rs, int column) throws SQLException {
+        if (types[column] == Types.TIMESTAMP || types[column] == Types.TIMESTAMP_WITH_TIMEZONE) {
+            Timestamp timestamp = rs.getTimestamp(column + 1);
+            return timestamp == null ? null : timestamp.toLocalDateTime().toString();
+        }
+        return rs.getString(column + 1);
+    }
+
+    protected boolean isNumeric(int column) {
+        return switch (types[column]) {
+            case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT,
+                 Types.DOUBLE, Types.FLOAT, Types.REAL, Types.NUMERIC, Types.DECIMAL -> true;
+            default -> false;
+        };
+    }
+
+    protected boolean isBoolean(int column) {
+        return types[column] == Types.BOOLEAN || types[column] == Types.BIT;
+    }
+
+    static final class Csv extends RowWriter {
+
+        Csv(Writer out, ResultSetMetaData metaData) throws SQLException {
+            super(out, metaData);
+        }
+
+        @Override
+        void writeHeader() throws IOException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                field(columns[i]);
+            }
+            out.write("\r\n");
+        }
+
+        @Override
+        void writeRow(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                String value = text(rs, i);
+                if (value != null) {
+                    field(value);
+                }
+            }
+            out.write("\r\n");
+        }
+
+        // RFC 4180: quote fields containing separators, quotes or line breaks
+        private void field(String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        }
+    }
+
+    static final class Ndjson extends RowWriter {
+
+        Ndjson(Writer out, ResultSetMetaData metaData) throws SQLException {
+            super(out, metaData);
+        }
+
+        @Override
+        void writeHeader() {
+            // every line carries its own keys
+        }
+
+        @Override
+        void writeRow(ResultSet rs) throws SQLException, IOException {
+            out.write('{');
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                string(columns[i]);
+                out.write(':');
+
+                String value = text(rs, i);
+                if (value == null) {
+                    out.write("null");
+                } else if (isNumeric(i) && isFinite(value)) {
+                    out.write(value);
+                } else if (isBoolean(i)) {
+                    out.write(rs.getBoolean(i + 1) ? "true" : "false");
+                } else {
+                    string(value);
+                }
+            }
+            out.write("}\n");
+        }
+
+        // NaN and Infinity are valid double precision values but not JSON numbers
+        private static boolean isFinite(String value) {
+            return !value.equals("NaN") && !value.endsWith("Infinity");
+        }
+
+        private void string(String value) throws IOException {
+            out.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.write("\\\"");
+                    case '\\' -> out.write("\\\\");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    case '\t' -> out.write("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.write(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.write(c);
+                        }
+                    }
+                }
+            }
+            out.write('"');
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.performance_management_system.feedback.controller;
 
+import com.example.performance_management_system.common.pagination.CursorPage;
 import com.example.performance_management_system.feedback.dto.CreateFeedbackRequest;
 import com.example.performance_management_system.feedback.dto.FeedbackRecipientResponse;
 import com.example.performance_management_system.feedback.dto.FeedbackResponse;
@@ -41,6 +42,17 @@ public class ContinuousFeedbackController {
         return service.getReceivedFeedback(page, size);
     }
 
+    // 🔹 keyset mode: pass cursor= (empty) for the first page, then nextCursor
+    @GetMapping(value = "/received", params = "cursor")
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR')")
+    public CursorPage<FeedbackResponse> scrollReceived(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return service.getReceivedFeedback(cursor, size, includeTotal);
+    }
+
     @GetMapping("/given")
     @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR')")
     public Page<FeedbackResponse> getGiven(
@@ -50,6 +62,16 @@ public class ContinuousFeedbackController {
         return service.getGivenFeedback(page, size);
     }
 
+    @GetMapping(value = "/given", params = "cursor")
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR')")
+    public CursorPage<FeedbackResponse> scrollGiven(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return service.getGivenFeedback(cursor, size, includeTotal);
+    }
+
     @GetMapping("/team")
     @PreAuthorize("hasRole('MANAGER')")
     public Page<FeedbackResponse> getTeam(
@@ -59,6 +81,16 @@ public class ContinuousFeedbackController {
         return service.getTeamFeedback(page, size);
     }
 
+    @GetMapping(value = "/team", params = "cursor")
+    @PreAuthorize("hasRole('MANAGER')")
+    public CursorPage<FeedbackResponse> scrollTeam(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return service.getTeamFeedback(cursor, size, includeTotal);
+    }
+
     @PatchMapping("/{id}/acknowledge")
     @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR')")
     public FeedbackResponse acknowledge(@PathVariable Long id) {
@@ -9,17 +9,24 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "continuous_feedback")
+@Table(
+        name = "continuous_feedback",
+        indexes = {
+                // keyset pages: newest first per recipient / giver
+                @Index(name = "idx_feedback_recipient_created", columnList = "recipient_id, created_at, id"),
+                @Index(name = "idx_feedback_giver_created", columnList = "giver_id, created_at, id")
+        }
+)
 public class ContinuousFeedback {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(name = "giver_id", nullable = false)
     private Long giverId;
 
-    @Column(nullable = false)
+    @Column(name = "recipient_id", nullable = false)
     private Long recipientId;
 
     @Enumerated(EnumType.STRING)
@@ -42,7 +49,7 @@ public class ContinuousFeedback {
     @Column(nullable = false)
     private Boolean acknowledged;
 
-    @Column(nullable = false)
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
     private LocalDateTime acknowledgedAt;
@@ -4,7 +4,10 @@ import com.example.performance_management_system.feedback.model.ContinuousFeedba
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ContinuousFeedbackRepository extends JpaRepository<ContinuousFeedback, Long> {
@@ -14,4 +17,54 @@ public interface ContinuousFeedbackRepository extends JpaRepository<ContinuousFe
     Page<ContinuousFeedback> findByGiverIdOrderByCreatedAtDesc(Long giverId, Pageable pageable);
 
     Page<ContinuousFeedback> findByRecipientIdInOrderByCreatedAtDesc(List<Long> recipientIds, Pageable pageable);
+
+    /* ---------- Keyset pages (newest first, id breaks ties) ---------- */
+
+    @Query("""
+        SELECT f FROM ContinuousFeedback f
+        WHERE f.recipientId = :recipientId
+          AND (f.createdAt < :beforeCreatedAt
+               OR (f.createdAt = :beforeCreatedAt AND f.id < :beforeId))
+        ORDER BY f.createdAt DESC, f.id DESC
+    """)
+    List<ContinuousFeedback> findReceivedBefore(
+            @Param("recipientId") Long recipientId,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+            @Param("beforeId") long beforeId,
+            Pageable limit
+    );
+
+    @Query("""
+        SELECT f FROM ContinuousFeedback f
+        WHERE f.giverId = :giverId
+          AND (f.createdAt < :beforeCreatedAt
+               OR (f.createdAt = :beforeCreatedAt AND f.id < :beforeId))
+        ORDER BY f.createdAt DESC, f.id DESC
+    """)
+    List<ContinuousFeedback> findGivenBefore(
+            @Param("giverId") Long giverId,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+            @Param("beforeId") long beforeId,
+            Pageable limit
+    );
+
+    @Query("""
+        SELECT f FROM ContinuousFeedback f
+        WHERE f.recipientId IN :recipientIds
+          AND (f.createdAt < :beforeCreatedAt
+               OR (f.createdAt = :beforeCreatedAt AND f.id < :beforeId))
+        ORDER BY f.createdAt DESC, f.id DESC
+    """)
+    List<ContinuousFeedback> findByRecipientIdInBefore(
+            @Param("recipientIds") List<Long> recipientIds,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+            @Param("beforeId") long beforeId,
+            Pageable limit
+    );
+
+    long countByRecipientId(Long recipientId);
+
+    long countByGiverId(Long giverId);
+
+    long countByRecipientIdIn(List<Long> recipientIds);
 }
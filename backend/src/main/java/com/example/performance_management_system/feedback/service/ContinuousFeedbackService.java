@@ -1,6 +1,8 @@
 package com.example.performance_management_system.feedback.service;
 
 import com.example.performance_management_system.common.error.ErrorCode;
+import com.example.performance_management_system.common.pagination.CursorPage;
+import com.example.performance_management_system.common.pagination.PageCursor;
 import com.example.performance_management_system.common.exception.BusinessException;
 import com.example.performance_management_system.config.security.SecurityUtil;
 import com.example.performance_management_system.feedback.dto.CreateFeedbackRequest;
@@ -125,6 +127,64 @@ public class ContinuousFeedbackService {
                 .map(this::toDto);
     }
 
+    /* ================= Keyset pages (newest first) ================= */
+
+    public CursorPage<FeedbackResponse> getReceivedFeedback(String cursor, int size, boolean includeTotal) {
+        Long currentUserId = SecurityUtil.userId();
+        PageCursor position = PageCursor.decode(cursor);
+
+        return CursorPage.of(
+                feedbackRepository.findReceivedBefore(
+                        currentUserId,
+                        PageCursor.beforeSortValue(position),
+                        PageCursor.beforeId(position),
+                        CursorPage.limit(size)
+                ),
+                size,
+                this::cursorOf,
+                includeTotal ? feedbackRepository.countByRecipientId(currentUserId) : null
+        ).map(this::toDto);
+    }
+
+    public CursorPage<FeedbackResponse> getGivenFeedback(String cursor, int size, boolean includeTotal) {
+        Long currentUserId = SecurityUtil.userId();
+        PageCursor position = PageCursor.decode(cursor);
+
+        return CursorPage.of(
+                feedbackRepository.findGivenBefore(
+                        currentUserId,
+                        PageCursor.beforeSortValue(position),
+                        PageCursor.beforeId(position),
+                        CursorPage.limit(size)
+                ),
+                size,
+                this::cursorOf,
+                includeTotal ? feedbackRepository.countByGiverId(currentUserId) : null
+        ).map(this::toDto);
+    }
+
+    public CursorPage<FeedbackResponse> getTeamFeedback(String cursor, int size, boolean includeTotal) {
+        Long managerId = SecurityUtil.userId();
+        PageCursor position = PageCursor.decode(cursor);
+        List<Long> reporteeIds = hierarchyService.getDirectReporteeIds(managerId);
+
+        if (reporteeIds.isEmpty()) {
+            return new CursorPage<>(List.of(), 0, null, false, includeTotal ? 0L : null);
+        }
+
+        return CursorPage.of(
+                feedbackRepository.findByRecipientIdInBefore(
+                        reporteeIds,
+                        PageCursor.beforeSortValue(position),
+                        PageCursor.beforeId(position),
+                        CursorPage.limit(size)
+                ),
+                size,
+                this::cursorOf,
+                includeTotal ? feedbackRepository.countByRecipientIdIn(reporteeIds) : null
+        ).map(this::toDto);
+    }
+
     @Transactional
     public FeedbackResponse acknowledgeFeedback(Long feedbackId) {
         Long currentUserId = SecurityUtil.userId();
@@ -150,6 +210,10 @@ public class ContinuousFeedbackService {
         return toDto(feedbackRepository.save(feedback));
     }
 
+    private PageCursor cursorOf(ContinuousFeedback feedback) {
+        return PageCursor.of(feedback.getCreatedAt(), feedback.getId());
+    }
+
     private FeedbackResponse toDto(ContinuousFeedback feedback) {
         FeedbackResponse dto = new FeedbackResponse();
         dto.id = feedback.getId();
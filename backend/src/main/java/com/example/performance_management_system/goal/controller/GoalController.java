@@ -1,12 +1,18 @@
 package com.example.performance_management_system.goal.controller;
 
+import com.example.performance_management_system.common.pagination.CursorPage;
 import com.example.performance_management_system.config.security.SecurityUtil;
+import com.example.performance_management_system.goal.dto.AlignGoalRequest;
 import com.example.performance_management_system.goal.dto.CreateGoalRequest;
+import com.example.performance_management_system.goal.dto.GoalAlignmentNode;
+import com.example.performance_management_system.goal.dto.GoalProgressSummary;
 import com.example.performance_management_system.goal.dto.GoalResponse;
 import com.example.performance_management_system.goal.dto.ManagerDashboardSummary;
 import com.example.performance_management_system.goal.dto.RejectGoalRequest;
 import com.example.performance_management_system.goal.dto.UpdateGoalRequest;
+import com.example.performance_management_system.goal.service.GoalAlignmentService;
 import com.example.performance_management_system.goal.service.GoalService;
+import com.example.performance_management_system.goal.service.ManagerDashboardService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -17,9 +23,17 @@ import org.springframework.web.bind.annotation.*;
 public class GoalController {
 
     private final GoalService service;
+    private final ManagerDashboardService dashboardService;
+    private final GoalAlignmentService alignmentService;
 
-    public GoalController(GoalService service) {
+    public GoalController(
+            GoalService service,
+            ManagerDashboardService dashboardService,
+            GoalAlignmentService alignmentService
+    ) {
         this.service = service;
+        this.dashboardService = dashboardService;
+        this.alignmentService = alignmentService;
     }
 
     @PostMapping
@@ -38,6 +52,30 @@ public class GoalController {
         return service.getGoalsForEmployee(userId, page, size);
     }
 
+    // 🔹 keyset mode: pass cursor= (empty) for the first page, then nextCursor
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('EMPLOYEE') or hasRole('MANAGER')")
+    public CursorPage<GoalResponse> scrollMyGoals(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        Long userId = SecurityUtil.userId();
+        return service.getGoalsForEmployee(userId, cursor, size, includeTotal);
+    }
+
+    @GetMapping("/progress")
+    @PreAuthorize("hasRole('EMPLOYEE') or hasRole('MANAGER')")
+    public GoalProgressSummary getMyProgress() {
+        return service.getMyProgress();
+    }
+
+    @PostMapping("/progress/cycles/{cycleId}/rebuild")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    public int rebuildProgress(@PathVariable Long cycleId) {
+        return service.rebuildProgress(cycleId);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('EMPLOYEE') or hasRole('MANAGER')")
     public GoalResponse getById(@PathVariable Long id) {
@@ -65,6 +103,25 @@ public class GoalController {
         return service.submitGoal(id);
     }
 
+    // 🔹 parentGoalId = null makes the goal top-level again
+    @PutMapping("/{id}/parent")
+    @PreAuthorize("hasRole('EMPLOYEE') or hasRole('MANAGER')")
+    public GoalResponse align(
+            @PathVariable Long id,
+            @RequestBody AlignGoalRequest request
+    ) {
+        return alignmentService.align(id, request.parentGoalId);
+    }
+
+    @GetMapping("/{id}/alignment")
+    @PreAuthorize("hasRole('EMPLOYEE') or hasRole('MANAGER')")
+    public GoalAlignmentNode getAlignment(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "5") int depth
+    ) {
+        return alignmentService.getSubtree(id, depth);
+    }
+
     @GetMapping("/team")
     @PreAuthorize("hasRole('MANAGER')")
     public Page<GoalResponse> getTeamGoals(
@@ -74,6 +131,16 @@ public class GoalController {
         return service.getTeamGoals(page, size);
     }
 
+    @GetMapping(value = "/team", params = "cursor")
+    @PreAuthorize("hasRole('MANAGER')")
+    public CursorPage<GoalResponse> scrollTeamGoals(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return service.getTeamGoals(cursor, size, includeTotal);
+    }
+
     @PostMapping("/{id}/approve")
     @PreAuthorize("hasRole('MANAGER')")
     public GoalResponse approve(@PathVariable Long id) {
@@ -92,6 +159,6 @@ public class GoalController {
     @GetMapping("/manager/summary")
     @PreAuthorize("hasRole('MANAGER')")
     public ManagerDashboardSummary managerSummary() {
-        return service.getManagerDashboardSummary();
+        return dashboardService.getSummary(SecurityUtil.userId());
     }
 }
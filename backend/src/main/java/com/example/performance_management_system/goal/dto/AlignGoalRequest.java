@@ -0,0 +1,7 @@
+package com.example.performance_management_system.goal.dto;
+
+public class AlignGoalRequest {
+
+    // null removes the alignment
+    public Long parentGoalId;
+}
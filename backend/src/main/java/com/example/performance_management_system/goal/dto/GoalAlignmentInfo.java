@@ -0,0 +1,6 @@
+package com.example.performance_management_system.goal.dto;
+
+import com.example.performance_management_system.goal.model.GoalStatus;
+
+public record GoalAlignmentInfo(Long id, String title, GoalStatus status, Long employeeId) {
+}
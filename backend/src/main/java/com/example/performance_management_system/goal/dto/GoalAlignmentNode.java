@@ -0,0 +1,20 @@
+package com.example.performance_management_system.goal.dto;
+
+import com.example.performance_management_system.goal.model.GoalStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GoalAlignmentNode {
+    public Long goalId;
+    public String title;
+    public GoalStatus status;
+    public Long employeeId;
+
+    public int keyResultCount;
+    public double progress;          // own key results, 0..1
+    public double rolledUpProgress;  // own key results and aligned goals, 0..1
+
+    public boolean truncated;        // children beyond the requested depth were left out
+    public List<GoalAlignmentNode> children = new ArrayList<>();
+}
@@ -0,0 +1,11 @@
+package com.example.performance_management_system.goal.dto;
+
+import java.time.LocalDateTime;
+
+public class GoalProgressSummary {
+    public Long employeeId;
+    public Long performanceCycleId;
+    public int goalCount;
+    public double averageProgress;
+    public LocalDateTime updatedAt;
+}
@@ -0,0 +1,4 @@
+package com.example.performance_management_system.goal.dto;
+
+public record GoalProgressTotals(Long goalCount, Double ratioSum) {
+}
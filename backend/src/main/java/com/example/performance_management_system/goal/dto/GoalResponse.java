@@ -13,6 +13,7 @@ public class GoalResponse {
     public GoalStatus status;
 
     public Long employeeId;
+    public Long parentGoalId;
 
     public String cycleName;
     public String cycleType;
@@ -0,0 +1,6 @@
+package com.example.performance_management_system.goal.dto;
+
+import com.example.performance_management_system.goal.model.GoalStatus;
+
+public record GoalStatusCount(Long employeeId, GoalStatus status, Long count) {
+}
@@ -1,8 +1,46 @@
 package com.example.performance_management_system.goal.dto;
 
+import com.example.performance_management_system.goal.model.GoalStatus;
+import com.example.performance_management_system.rating.model.RatingStatus;
+import com.example.performance_management_system.review.model.ReviewStatus;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 public class ManagerDashboardSummary {
     public String cycleName;
     public long pendingApprovals;
     public long totalGoals;
     public long completedGoals;
+
+    public Map<GoalStatus, Long> goalsByStatus = new EnumMap<>(GoalStatus.class);
+
+    public long keyResults;
+    public long completedKeyResults;
+    public double keyResultCompletionPercent;
+
+    public Map<ReviewStatus, Long> reviewsByStatus = new EnumMap<>(ReviewStatus.class);
+    public Map<RatingStatus, Long> ratingsByStatus = new EnumMap<>(RatingStatus.class);
+    public long unratedReportees;
+
+    public List<ReporteeSummary> reportees = new ArrayList<>();
+
+    public static class ReporteeSummary {
+        public Long employeeId;
+        public String employeeName;
+
+        public long totalGoals;
+        public long pendingApprovals;
+        public long completedGoals;
+        public Map<GoalStatus, Long> goalsByStatus = new EnumMap<>(GoalStatus.class);
+
+        public long keyResults;
+        public long completedKeyResults;
+        public double keyResultCompletionPercent;
+
+        public Map<ReviewStatus, Long> reviewsByStatus = new EnumMap<>(ReviewStatus.class);
+        public RatingStatus ratingStatus; // null until a rating exists
+    }
 }
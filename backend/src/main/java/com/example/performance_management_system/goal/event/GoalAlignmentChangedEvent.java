@@ -0,0 +1,9 @@
+package com.example.performance_management_system.goal.event;
+
+/**
+ * Published when the goal tree of a cycle changes in a way that is not a
+ * single goal's progress: goals linked to or unlinked from a parent, or
+ * goal stats rebuilt in bulk.
+ */
+public record GoalAlignmentChangedEvent(Long performanceCycleId) {
+}
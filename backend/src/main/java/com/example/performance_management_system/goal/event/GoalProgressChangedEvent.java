@@ -0,0 +1,8 @@
+package com.example.performance_management_system.goal.event;
+
+/**
+ * Published whenever a goal or one of its key results changes in a way that
+ * can affect the employee's performance score in that cycle.
+ */
+public record GoalProgressChangedEvent(Long employeeId, Long performanceCycleId) {
+}
@@ -0,0 +1,32 @@
+package com.example.performance_management_system.goal.event;
+
+import com.example.performance_management_system.goal.model.Goal;
+
+import java.util.List;
+
+/**
+ * Published when the own progress of goals in one cycle may have changed,
+ * including goals that were created or deleted. Feeds the alignment roll-up.
+ */
+public record GoalProgressUpdatedEvent(Long performanceCycleId, List<Change> changes) {
+
+    public record Change(Long goalId, double averageRatio, int keyResultCount, boolean removed) {
+
+        public static Change of(Goal goal) {
+            return new Change(
+                    goal.getId(),
+                    goal.averageProgressRatio(),
+                    goal.getKeyResultCount() == null ? 0 : goal.getKeyResultCount(),
+                    false
+            );
+        }
+
+        public static Change removed(Long goalId) {
+            return new Change(goalId, 0.0, 0, true);
+        }
+    }
+
+    public static GoalProgressUpdatedEvent of(Goal goal) {
+        return new GoalProgressUpdatedEvent(goal.getPerformanceCycle().getId(), List.of(Change.of(goal)));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.performance_management_system.goal.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-(employee, cycle) roll-up of goal progress, maintained incrementally by
+ * the goal and key result write paths. Each {@code *RatioSum} is the sum of the
+ * average key result progress ratio of the employee's goals in that status.
+ */
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "employee_goal_progress",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_goal_progress_employee_cycle",
+                        columnNames = {"employee_id", "performance_cycle_id"}
+                )
+        }
+)
+public class EmployeeGoalProgress {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "performance_cycle_id", nullable = false)
+    private Long performanceCycleId;
+
+    private int goalCount;
+
+    private double completedRatioSum;
+    private double approvedRatioSum;
+    private double submittedRatioSum;
+    private double draftRatioSum;
+    private double rejectedRatioSum;
+    private double archivedRatioSum;
+
+    private LocalDateTime updatedAt;
+}
@@ -1,6 +1,7 @@
 package com.example.performance_management_system.goal.model;
 
 
+import com.example.performance_management_system.keyresult.model.KeyResult;
 import com.example.performance_management_system.performancecycle.model.PerformanceCycle;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -14,20 +15,30 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
-@Table(name = "goal")
+@Table(
+        name = "goal",
+        indexes = {
+                @Index(name = "idx_goal_employee", columnList = "employee_id, id"),
+                @Index(name = "idx_goal_parent", columnList = "parent_goal_id")
+        }
+)
 public class Goal {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(name = "employee_id", nullable = false)
     private Long employeeId;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "performance_cycle_id", nullable = false)
     private PerformanceCycle performanceCycle;
 
+    // goal this one is aligned to (company → department → team → individual); same cycle
+    @Column(name = "parent_goal_id")
+    private Long parentGoalId;
+
     @Column(nullable = false)
     private String title;
 
@@ -47,10 +58,17 @@ public class Goal {
             cascade = CascadeType.ALL,
             orphanRemoval = true
     )
-    private List<com.example.performance_management_system.keyresult.model.KeyResult> keyResults = new ArrayList<>();
+    private List<KeyResult> keyResults = new ArrayList<>();
 
     private LocalDateTime createdAt;
 
+    // running sum of key result progress ratios; null on goals created before it was tracked
+    @Column(name = "kr_ratio_sum")
+    private Double keyResultRatioSum;
+
+    @Column(name = "kr_count")
+    private Integer keyResultCount;
+
     /* ---------- Domain Rules ---------- */
 
     public void submit() {
@@ -76,6 +94,36 @@ public class Goal {
         this.rejectedAt = LocalDateTime.now();
     }
 
+    /* ---------- Progress Stats ---------- */
+
+    public boolean hasProgressStats() {
+        return keyResultRatioSum != null && keyResultCount != null;
+    }
+
+    public double averageProgressRatio() {
+        if (!hasProgressStats() || keyResultCount == 0) {
+            return 0.0;
+        }
+        return keyResultRatioSum / keyResultCount;
+    }
+
+    public void recalculateProgressStats() {
+        keyResultRatioSum = keyResults.stream()
+                .mapToDouble(KeyResult::progressRatio)
+                .sum();
+        keyResultCount = keyResults.size();
+    }
+
+    /**
+     * Applies a single key result's progress change without walking the other key results.
+     */
+    public void applyKeyResultProgressChange(double previousRatio, double newRatio) {
+        if (!hasProgressStats()) {
+            recalculateProgressStats();
+            return;
+        }
+        keyResultRatioSum += newRatio - previousRatio;
+    }
 
     @PrePersist
     public void prePersist() {
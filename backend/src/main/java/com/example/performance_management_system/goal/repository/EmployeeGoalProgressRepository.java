@@ -0,0 +1,148 @@
+package com.example.performance_management_system.goal.repository;
+
+import com.example.performance_management_system.goal.dto.GoalProgressTotals;
+import com.example.performance_management_system.goal.model.EmployeeGoalProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface EmployeeGoalProgressRepository extends JpaRepository<EmployeeGoalProgress, Long> {
+
+    /** Average key result ratio of each goal of one (employee, cycle), read straight from the goal tables. */
+    String GOAL_RATIOS = """
+            FROM (
+                SELECT g.id, g.status,
+                       COALESCE(AVG(CASE WHEN kr.target_value > 0
+                                         THEN GREATEST(0, LEAST(1, kr.current_value / kr.target_value))
+                                         ELSE 0 END), 0) AS avg_ratio
+                FROM goal g
+                LEFT JOIN key_result kr ON kr.goal_id = g.id
+                WHERE g.employee_id = :employeeId
+                  AND g.performance_cycle_id = :cycleId
+                GROUP BY g.id, g.status
+            ) p
+            """;
+
+    Optional<EmployeeGoalProgress> findByEmployeeIdAndPerformanceCycleId(Long employeeId, Long performanceCycleId);
+
+    List<EmployeeGoalProgress> findByPerformanceCycleId(Long performanceCycleId);
+
+    /**
+     * Creates the roll-up from the current goal/key_result rows if it does not exist yet.
+     * Existing rows are left alone, so this is safe to call before every change.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO employee_goal_progress (
+                employee_id, performance_cycle_id, goal_count,
+                completed_ratio_sum, approved_ratio_sum, submitted_ratio_sum,
+                draft_ratio_sum, rejected_ratio_sum, archived_ratio_sum, updated_at
+            )
+            SELECT :employeeId, :cycleId, COUNT(*),
+                   COALESCE(SUM(CASE WHEN p.status = 'COMPLETED' THEN p.avg_ratio END), 0),
+                   COALESCE(SUM(CASE WHEN p.status = 'APPROVED' THEN p.avg_ratio END), 0),
+                   COALESCE(SUM(CASE WHEN p.status = 'SUBMITTED' THEN p.avg_ratio END), 0),
+                   COALESCE(SUM(CASE WHEN p.status = 'DRAFT' THEN p.avg_ratio END), 0),
+                   COALESCE(SUM(CASE WHEN p.status = 'REJECTED' THEN p.avg_ratio END), 0),
+                   COALESCE(SUM(CASE WHEN p.status = 'ARCHIVED' THEN p.avg_ratio END), 0),
+                   now()
+            """ + GOAL_RATIOS + """
+            ON CONFLICT (employee_id, performance_cycle_id) DO NOTHING
+            """, nativeQuery = true)
+    int seed(@Param("employeeId") Long employeeId, @Param("cycleId") Long cycleId);
+
+    /**
+     * What {@link #seed} would write, computed without writing it, for reads of
+     * an (employee, cycle) that has no roll-up yet.
+     */
+    @Query(value = """
+            SELECT CAST(COUNT(*) AS bigint) AS goalCount,
+                   CAST(COALESCE(SUM(p.avg_ratio), 0) AS double precision) AS ratioSum
+            """ + GOAL_RATIOS, nativeQuery = true)
+    GoalProgressTotals summarize(@Param("employeeId") Long employeeId, @Param("cycleId") Long cycleId);
+
+    @Modifying
+    @Query(value = """
+            UPDATE employee_goal_progress
+            SET goal_count = goal_count + :goalCountDelta,
+                completed_ratio_sum = completed_ratio_sum + :completed,
+                approved_ratio_sum = approved_ratio_sum + :approved,
+                submitted_ratio_sum = submitted_ratio_sum + :submitted,
+                draft_ratio_sum = draft_ratio_sum + :draft,
+                rejected_ratio_sum = rejected_ratio_sum + :rejected,
+                archived_ratio_sum = archived_ratio_sum + :archived,
+                updated_at = now()
+            WHERE employee_id = :employeeId
+              AND performance_cycle_id = :cycleId
+            """, nativeQuery = true)
+    int applyDelta(
+            @Param("employeeId") Long employeeId,
+            @Param("cycleId") Long cycleId,
+            @Param("goalCountDelta") int goalCountDelta,
+            @Param("completed") double completed,
+            @Param("approved") double approved,
+            @Param("submitted") double submitted,
+            @Param("draft") double draft,
+            @Param("rejected") double rejected,
+            @Param("archived") double archived
+    );
+
+    /* ---------- Rebuild ---------- */
+
+    @Modifying
+    @Query(value = """
+            UPDATE goal g
+            SET kr_ratio_sum = s.ratio_sum,
+                kr_count = s.kr_count
+            FROM (
+                SELECT g2.id,
+                       COALESCE(SUM(CASE WHEN kr.target_value > 0
+                                         THEN GREATEST(0, LEAST(1, kr.current_value / kr.target_value))
+                                         ELSE 0 END), 0) AS ratio_sum,
+                       COUNT(kr.id) AS kr_count
+                FROM goal g2
+                LEFT JOIN key_result kr ON kr.goal_id = g2.id
+                WHERE g2.performance_cycle_id = :cycleId
+                GROUP BY g2.id
+            ) s
+            WHERE g.id = s.id
+            """, nativeQuery = true)
+    int refreshGoalStatsForCycle(@Param("cycleId") Long cycleId);
+
+    @Modifying
+    @Query(value = "DELETE FROM employee_goal_progress WHERE performance_cycle_id = :cycleId", nativeQuery = true)
+    int deleteByCycle(@Param("cycleId") Long cycleId);
+
+    /**
+     * Rebuilds the roll-up of every employee with goals in the cycle from the goal
+     * columns refreshed by {@link #refreshGoalStatsForCycle(Long)}.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO employee_goal_progress (
+                employee_id, performance_cycle_id, goal_count,
+                completed_ratio_sum, approved_ratio_sum, submitted_ratio_sum,
+                draft_ratio_sum, rejected_ratio_sum, archived_ratio_sum, updated_at
+            )
+            SELECT p.employee_id, :cycleId, COUNT(*),
+                   COALESCE(SUM(CASE WHEN p.status = 'COMPLETED' THEN p.avg_ratio END), 0),
+                   COALESCE(SUM(CASE WHEN p.status = 'APPROVED' THEN p.avg_ratio END), 0),
+                   COALESCE(SUM(CASE WHEN p.status = 'SUBMITTED' THEN p.avg_ratio END), 0),
+                   COALESCE(SUM(CASE WHEN p.status = 'DRAFT' THEN p.avg_ratio END), 0),
+                   COALESCE(SUM(CASE WHEN p.status = 'REJECTED' THEN p.avg_ratio END), 0),
+                   COALESCE(SUM(CASE WHEN p.status = 'ARCHIVED' THEN p.avg_ratio END), 0),
+                   now()
+            FROM (
+                SELECT g.employee_id, g.status,
+                       CASE WHEN g.kr_count > 0 THEN g.kr_ratio_sum / g.kr_count ELSE 0 END AS avg_ratio
+                FROM goal g
+                WHERE g.performance_cycle_id = :cycleId
+            ) p
+            GROUP BY p.employee_id
+            """, nativeQuery = true)
+    int insertForCycle(@Param("cycleId") Long cycleId);
+}
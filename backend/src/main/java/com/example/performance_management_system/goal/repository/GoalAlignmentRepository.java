@@ -0,0 +1,81 @@
+package com.example.performance_management_system.goal.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Reads the goal alignment tree of a cycle and guards link changes.
+ */
+@Repository
+public class GoalAlignmentRepository {
+
+    // deeper chains than this are treated as cycles; real cascades have a handful of levels
+    public static final int MAX_DEPTH = 64;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GoalAlignmentRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * One goal of the tree; {@code keyResultRatioSum} and {@code keyResultCount}
+     * are null on goals whose stats were never computed.
+     */
+    public record AlignmentRow(long goalId, Long parentGoalId, Double keyResultRatioSum, Integer keyResultCount) {
+    }
+
+    public List<AlignmentRow> findByCycle(Long cycleId) {
+        return jdbcTemplate.query(
+                """
+                SELECT id, parent_goal_id, kr_ratio_sum, kr_count
+                FROM goal
+                WHERE performance_cycle_id = ?
+                """,
+                (rs, rowNum) -> new AlignmentRow(
+                        rs.getLong("id"),
+                        rs.getObject("parent_goal_id", Long.class),
+                        rs.getObject("kr_ratio_sum", Double.class),
+                        rs.getObject("kr_count", Integer.class)
+                ),
+                cycleId
+        );
+    }
+
+    /**
+     * Serialises link changes within a cycle until the transaction ends, so two
+     * concurrent links cannot close a loop that neither sees on its own.
+     */
+    public void lockCycle(Long cycleId) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext('goal_alignment'), ?)", rs -> {
+        }, cycleId.intValue());
+    }
+
+    /**
+     * Whether {@code goalId} is {@code candidateParentId} or one of its ancestors,
+     * i.e. whether linking the goal under the candidate would create a cycle.
+     */
+    public boolean isSelfOrAncestor(Long goalId, Long candidateParentId) {
+        Boolean found = jdbcTemplate.queryForObject(
+                """
+                WITH RECURSIVE ancestors (id, parent_goal_id, depth) AS (
+                    SELECT id, parent_goal_id, 1 FROM goal WHERE id = ?
+                    UNION ALL
+                    SELECT g.id, g.parent_goal_id, a.depth + 1
+                    FROM goal g
+                    JOIN ancestors a ON g.id = a.parent_goal_id
+                    WHERE a.depth < ?
+                )
+                SELECT bool_or(id = ?) OR max(depth) >= ? FROM ancestors
+                """,
+                Boolean.class,
+                candidateParentId,
+                MAX_DEPTH,
+                goalId,
+                MAX_DEPTH
+        );
+        return Boolean.TRUE.equals(found);
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.performance_management_system.goal.repository;
 
+import com.example.performance_management_system.goal.dto.GoalAlignmentInfo;
+import com.example.performance_management_system.goal.dto.GoalStatusCount;
 import com.example.performance_management_system.goal.model.Goal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface GoalRepository extends JpaRepository<Goal, Long> {
 
@@ -29,4 +37,79 @@ public interface GoalRepository extends JpaRepository<Goal, Long> {
             Long cycleId
     );
 
+    @Query("""
+        SELECT new com.example.performance_management_system.goal.dto.GoalStatusCount(
+            g.employeeId, g.status, COUNT(g)
+        )
+        FROM Goal g
+        WHERE g.employeeId IN :employeeIds AND g.performanceCycle.id = :cycleId
+        GROUP BY g.employeeId, g.status
+    """)
+    List<GoalStatusCount> countByEmployeeAndStatus(
+            @Param("employeeIds") Collection<Long> employeeIds,
+            @Param("cycleId") Long cycleId
+    );
+
+    /* ---------- Fetch plans ---------- */
+
+    /*
+     * Pages are loaded without their key results (a collection fetch join
+     * would page in memory); the second phase loads key results for the
+     * goals of one page in a single query.
+     */
+
+    @EntityGraph(attributePaths = "keyResults")
+    Optional<Goal> findWithKeyResultsById(Long id);
+
+    @EntityGraph(attributePaths = "keyResults")
+    List<Goal> findWithKeyResultsByIdIn(Collection<Long> ids);
+
+    /* ---------- Keyset pages (ordered by id) ---------- */
+
+    @Query("""
+        SELECT g FROM Goal g
+        WHERE g.employeeId = :employeeId
+          AND g.id > :afterId
+        ORDER BY g.id
+    """)
+    List<Goal> findByEmployeeIdAfter(
+            @Param("employeeId") Long employeeId,
+            @Param("afterId") long afterId,
+            Pageable limit
+    );
+
+    @Query("""
+        SELECT g FROM Goal g
+        WHERE g.employeeId IN :employeeIds
+          AND g.performanceCycle.id = :cycleId
+          AND g.id > :afterId
+        ORDER BY g.id
+    """)
+    List<Goal> findByEmployeeIdInAndCycleAfter(
+            @Param("employeeIds") List<Long> employeeIds,
+            @Param("cycleId") Long cycleId,
+            @Param("afterId") long afterId,
+            Pageable limit
+    );
+
+    long countByEmployeeId(Long employeeId);
+
+    /* ---------- Alignment ---------- */
+
+    @Query("""
+        SELECT new com.example.performance_management_system.goal.dto.GoalAlignmentInfo(
+            g.id, g.title, g.status, g.employeeId
+        )
+        FROM Goal g
+        WHERE g.id IN :ids
+    """)
+    List<GoalAlignmentInfo> findAlignmentInfo(@Param("ids") Collection<Long> ids);
+
+    // children of a deleted goal become top-level goals
+    @Modifying
+    @Query("UPDATE Goal g SET g.parentGoalId = NULL WHERE g.parentGoalId = :parentGoalId")
+    int clearParent(@Param("parentGoalId") Long parentGoalId);
+
+    long countByEmployeeIdInAndPerformanceCycle_Id(List<Long> employeeIds, Long cycleId);
+
 }
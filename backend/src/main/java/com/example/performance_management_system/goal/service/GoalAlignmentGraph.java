@@ -0,0 +1,345 @@
+package com.example.performance_management_system.goal.service;
+
+import com.example.performance_management_system.common.cache.CacheInvalidationBus;
+import com.example.performance_management_system.common.cache.CacheInvalidationListener;
+import com.example.performance_management_system.common.cache.CacheNames;
+import com.example.performance_management_system.goal.event.GoalAlignmentChangedEvent;
+import com.example.performance_management_system.goal.event.GoalProgressUpdatedEvent;
+import com.example.performance_management_system.goal.repository.GoalAlignmentRepository;
+import com.example.performance_management_system.goal.repository.GoalAlignmentRepository.AlignmentRow;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process goal alignment tree per cycle with rolled-up progress.
+ * <p>
+ * A goal's rolled-up progress is the plain average of its own key result
+ * progress (when it has key results) and the rolled-up progress of each
+ * aligned child. Every node keeps the sum and count of its children, so a
+ * change to one goal is pushed up its ancestor chain as a delta and stops
+ * as soon as a level does not change. The rest of the tree is never touched.
+ * <p>
+ * Changes travel over the {@link CacheInvalidationBus} after commit.
+ * Progress changes carry absolute values and are applied on every node,
+ * including this one. Structural changes (links, bulk rebuilds) drop the
+ * cycle, and it is reloaded with one query on the next read. Trees are also
+ * reloaded once they are older than {@link #MAX_AGE}, which bounds how long a
+ * lost or reordered message can leave a roll-up wrong.
+ */
+@Component
+public class GoalAlignmentGraph {
+
+    static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    // leaves room in the bus payload for the origin, timestamp and cache name
+    static final int MAX_KEY_LENGTH = 7_000;
+
+    private final GoalAlignmentRepository repository;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final ConcurrentHashMap<Long, CycleTree> trees = new ConcurrentHashMap<>();
+
+    // bumped on every message so loads that raced with a change are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public GoalAlignmentGraph(GoalAlignmentRepository repository, CacheInvalidationBus invalidationBus) {
+        this.repository = repository;
+        this.invalidationBus = invalidationBus;
+
+        invalidationBus.subscribe(CacheNames.GOAL_ALIGNMENT, new CacheInvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                apply(key);
+            }
+
+            @Override
+            public void invalidateAll() {
+                generation.incrementAndGet();
+                trees.clear();
+            }
+        });
+    }
+
+    /**
+     * A read-only view of the tree below {@code goalId}, at most {@code maxDepth}
+     * levels deep; empty if the goal is not in the cycle.
+     */
+    public Optional<NodeView> subtree(Long cycleId, Long goalId, int maxDepth) {
+        return tree(cycleId).view(goalId, maxDepth);
+    }
+
+    /* ---------- Publishing ---------- */
+
+    @EventListener
+    public void onProgressUpdated(GoalProgressUpdatedEvent event) {
+        for (String key : encode(event)) {
+            invalidationBus.publish(CacheNames.GOAL_ALIGNMENT, key);
+        }
+    }
+
+    @EventListener
+    public void onAlignmentChanged(GoalAlignmentChangedEvent event) {
+        invalidationBus.publish(CacheNames.GOAL_ALIGNMENT, event.performanceCycleId().toString());
+    }
+
+    /*
+     * Keys: "{cycleId}" drops the cycle;
+     * "{cycleId};{goalId}:{ratio}:{keyResultCount};..." sets goals' own progress;
+     * "{goalId}:-" removes a goal. Large batches are split into several keys of
+     * at most MAX_KEY_LENGTH, each applicable on its own.
+     */
+    static List<String> encode(GoalProgressUpdatedEvent event) {
+        String prefix = event.performanceCycleId().toString();
+        List<String> keys = new ArrayList<>();
+        StringBuilder key = new StringBuilder(prefix);
+
+        for (GoalProgressUpdatedEvent.Change change : event.changes()) {
+            String entry = change.removed()
+                    ? change.goalId() + ":-"
+                    : change.goalId() + ":" + change.averageRatio() + ":" + change.keyResultCount();
+
+            if (key.length() > prefix.length() && key.length() + 1 + entry.length() > MAX_KEY_LENGTH) {
+                keys.add(key.toString());
+                key = new StringBuilder(prefix);
+            }
+            key.append(';').append(entry);
+        }
+
+        if (key.length() > prefix.length()) {
+            keys.add(key.toString());
+        }
+        return keys;
+    }
+
+    private void apply(String key) {
+        generation.incrementAndGet();
+
+        String[] parts = key.split(";");
+        Long cycleId = Long.valueOf(parts[0]);
+
+        if (parts.length == 1) {
+            trees.remove(cycleId);
+            return;
+        }
+
+        CycleTree tree = trees.get(cycleId);
+        if (tree == null) {
+            // loaded fresh on the next read
+            return;
+        }
+
+        for (int i = 1; i < parts.length; i++) {
+            String[] fields = parts[i].split(":");
+            long goalId = Long.parseLong(fields[0]);
+            if ("-".equals(fields[1])) {
+                tree.remove(goalId);
+            } else {
+                tree.setOwnProgress(goalId, Double.parseDouble(fields[1]), Integer.parseInt(fields[2]));
+            }
+        }
+    }
+
+    /* ---------- Loading ---------- */
+
+    private CycleTree tree(Long cycleId) {
+        CycleTree tree = trees.get(cycleId);
+        if (tree != null) {
+            if (tree.isFresh()) {
+                return tree;
+            }
+            trees.remove(cycleId, tree);
+        }
+
+        long loadedAt = generation.get();
+        CycleTree loaded = CycleTree.of(repository.findByCycle(cycleId));
+        if (generation.get() == loadedAt) {
+            CycleTree raced = trees.putIfAbsent(cycleId, loaded);
+            // a message may have slipped in between the check and the put
+            if (raced == null && generation.get() != loadedAt) {
+                trees.remove(cycleId, loaded);
+            }
+            return raced == null ? loaded : raced;
+        }
+        return loaded;
+    }
+
+    /* ---------- Views ---------- */
+
+    /**
+     * {@code truncated} marks nodes whose children were cut off by the depth limit.
+     */
+    public record NodeView(
+            long goalId,
+            int keyResultCount,
+            double progress,
+            double rolledUpProgress,
+            List<NodeView> children,
+            boolean truncated
+    ) {
+    }
+
+    /* ---------- Tree ---------- */
+
+    private static final class Node {
+        final long goalId;
+        Long parentId;
+        final List<Node> children = new ArrayList<>();
+
+        double ownRatio;
+        int keyResultCount;
+
+        double childSum;
+        double rollup;
+
+        Node(long goalId) {
+            this.goalId = goalId;
+        }
+
+        double computeRollup() {
+            int ownWeight = keyResultCount > 0 ? 1 : 0;
+            int weight = ownWeight + children.size();
+            return weight == 0 ? 0.0 : (ownRatio * ownWeight + childSum) / weight;
+        }
+    }
+
+    private static final class CycleTree {
+
+        private final Map<Long, Node> nodes = new HashMap<>();
+        private final long loadedAtNanos = System.nanoTime();
+
+        static CycleTree of(List<AlignmentRow> rows) {
+            CycleTree tree = new CycleTree();
+
+            for (AlignmentRow row : rows) {
+                Node node = new Node(row.goalId());
+                node.parentId = row.parentGoalId();
+                node.keyResultCount = row.keyResultCount() == null ? 0 : row.keyResultCount();
+                node.ownRatio = node.keyResultCount == 0 || row.keyResultRatioSum() == null
+                        ? 0.0
+                        : row.keyResultRatioSum() / node.keyResultCount;
+                tree.nodes.put(node.goalId, node);
+            }
+
+            List<Node> roots = new ArrayList<>();
+            for (Node node : tree.nodes.values()) {
+                Node parent = node.parentId == null ? null : tree.nodes.get(node.parentId);
+                if (parent == null) {
+                    // unlinked, or aligned to a goal outside the cycle
+                    node.parentId = null;
+                    roots.add(node);
+                } else {
+                    parent.children.add(node);
+                }
+            }
+
+            // children before parents, without recursion
+            Deque<Node> stack = new ArrayDeque<>(roots);
+            List<Node> order = new ArrayList<>(tree.nodes.size());
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                order.add(node);
+                node.children.forEach(stack::push);
+            }
+            for (int i = order.size() - 1; i >= 0; i--) {
+                Node node = order.get(i);
+                node.rollup = node.computeRollup();
+                if (node.parentId != null) {
+                    tree.nodes.get(node.parentId).childSum += node.rollup;
+                }
+            }
+
+            // anything unreachable from a root sits on a loop in bad data; cut it loose
+            if (order.size() < tree.nodes.size()) {
+                Set<Long> reachable = new HashSet<>();
+                order.forEach(node -> reachable.add(node.goalId));
+                tree.nodes.keySet().retainAll(reachable);
+            }
+            return tree;
+        }
+
+        boolean isFresh() {
+            return System.nanoTime() - loadedAtNanos < MAX_AGE.toNanos();
+        }
+
+        synchronized void setOwnProgress(long goalId, double ratio, int keyResultCount) {
+            Node node = nodes.get(goalId);
+            if (node == null) {
+                // goals start out unaligned
+                node = new Node(goalId);
+                nodes.put(goalId, node);
+            }
+            node.ownRatio = ratio;
+            node.keyResultCount = keyResultCount;
+            propagateFrom(node);
+        }
+
+        synchronized void remove(long goalId) {
+            Node node = nodes.remove(goalId);
+            if (node == null) {
+                return;
+            }
+
+            for (Node child : node.children) {
+                child.parentId = null;
+            }
+
+            Node parent = node.parentId == null ? null : nodes.get(node.parentId);
+            if (parent != null) {
+                parent.children.remove(node);
+                parent.childSum -= node.rollup;
+                propagateFrom(parent);
+            }
+        }
+
+        // recomputes the node and pushes the difference up until a level is unchanged
+        private void propagateFrom(Node node) {
+            while (node != null) {
+                double previous = node.rollup;
+                node.rollup = node.computeRollup();
+                if (node.rollup == previous || node.parentId == null) {
+                    return;
+                }
+
+                Node parent = nodes.get(node.parentId);
+                if (parent != null) {
+                    parent.childSum += node.rollup - previous;
+                }
+                node = parent;
+            }
+        }
+
+        synchronized Optional<NodeView> view(Long goalId, int maxDepth) {
+            Node node = nodes.get(goalId);
+            return node == null ? Optional.empty() : Optional.of(view(node, maxDepth));
+        }
+
+        private NodeView view(Node node, int depthLeft) {
+            boolean truncated = depthLeft == 0 && !node.children.isEmpty();
+            List<NodeView> children = depthLeft == 0
+                    ? List.of()
+                    : node.children.stream().map(child -> view(child, depthLeft - 1)).toList();
+
+            return new NodeView(
+                    node.goalId,
+                    node.keyResultCount,
+                    node.ownRatio,
+                    node.rollup,
+                    children,
+                    truncated
+            );
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.performance_management_system.goal.service;
+
+import com.example.performance_management_system.common.error.ErrorCode;
+import com.example.performance_management_system.common.exception.BusinessException;
+import com.example.performance_management_system.config.security.SecurityUtil;
+import com.example.performance_management_system.goal.dto.GoalAlignmentInfo;
+import com.example.performance_management_system.goal.dto.GoalAlignmentNode;
+import com.example.performance_management_system.goal.dto.GoalResponse;
+import com.example.performance_management_system.goal.event.GoalAlignmentChangedEvent;
+import com.example.performance_management_system.goal.model.Goal;
+import com.example.performance_management_system.goal.repository.GoalAlignmentRepository;
+import com.example.performance_management_system.goal.repository.GoalRepository;
+import com.example.performance_management_system.goal.service.GoalAlignmentGraph.NodeView;
+import com.example.performance_management_system.user.service.HierarchyService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Goal cascade: links goals to the goal they support within a cycle and
+ * serves subtrees with rolled-up progress from {@link GoalAlignmentGraph}.
+ */
+@Service
+public class GoalAlignmentService {
+
+    public static final int DEFAULT_DEPTH = 5;
+    public static final int MAX_DEPTH = 20;
+
+    private final GoalRepository goalRepository;
+    private final GoalAlignmentRepository alignmentRepository;
+    private final GoalAlignmentGraph alignmentGraph;
+    private final GoalService goalService;
+    private final HierarchyService hierarchyService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public GoalAlignmentService(
+            GoalRepository goalRepository,
+            GoalAlignmentRepository alignmentRepository,
+            GoalAlignmentGraph alignmentGraph,
+            GoalService goalService,
+            HierarchyService hierarchyService,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.goalRepository = goalRepository;
+        this.alignmentRepository = alignmentRepository;
+        this.alignmentGraph = alignmentGraph;
+        this.goalService = goalService;
+        this.hierarchyService = hierarchyService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /* ================= LINK ================= */
+
+    /**
+     * Aligns a goal under {@code parentGoalId}, or makes it top-level when null.
+     * The goal's owner or their manager may align it; the parent can be any goal
+     * of the same cycle, which is how individual goals attach to team,
+     * department and company goals.
+     */
+    @Transactional
+    public GoalResponse align(Long goalId, Long parentGoalId) {
+        Goal goal = findGoal(goalId);
+        validateAlignAccess(goal);
+
+        Long cycleId = goal.getPerformanceCycle().getId();
+
+        if (Objects.equals(goal.getParentGoalId(), parentGoalId)) {
+            return goalService.getGoalById(goalId);
+        }
+
+        if (parentGoalId != null) {
+            Goal parent = findGoal(parentGoalId);
+
+            if (!cycleId.equals(parent.getPerformanceCycle().getId())) {
+                throw new BusinessException(
+                        HttpStatus.BAD_REQUEST,
+                        ErrorCode.VALIDATION_FAILED,
+                        "A goal can only be aligned to a goal of the same cycle"
+                );
+            }
+
+            alignmentRepository.lockCycle(cycleId);
+            if (alignmentRepository.isSelfOrAncestor(goalId, parentGoalId)) {
+                throw new BusinessException(
+                        HttpStatus.CONFLICT,
+                        ErrorCode.GOAL_ALIGNMENT_CYCLE,
+                        "Aligning goal " + goalId + " under goal " + parentGoalId + " would create a cycle"
+                );
+            }
+        }
+
+        goal.setParentGoalId(parentGoalId);
+        goalRepository.save(goal);
+
+        eventPublisher.publishEvent(new GoalAlignmentChangedEvent(cycleId));
+
+        return goalService.getGoalById(goalId);
+    }
+
+    /* ================= READ ================= */
+
+    /**
+     * The goals aligned below {@code goalId}, {@code depth} levels deep, with
+     * own and rolled-up progress. Readable by whoever may read the goal itself.
+     */
+    @Transactional(readOnly = true)
+    public GoalAlignmentNode getSubtree(Long goalId, int depth) {
+        if (depth < 0 || depth > MAX_DEPTH) {
+            throw new BusinessException(
+                    HttpStatus.BAD_REQUEST,
+                    ErrorCode.INVALID_INPUT,
+                    "Depth must be between 0 and " + MAX_DEPTH
+            );
+        }
+
+        Goal goal = findGoal(goalId);
+        goalService.validateReadAccess(goal);
+
+        NodeView root = alignmentGraph.subtree(goal.getPerformanceCycle().getId(), goalId, depth)
+                .orElseThrow(GoalAlignmentService::goalNotFound);
+
+        List<Long> ids = new ArrayList<>();
+        collectIds(root, ids);
+
+        Map<Long, GoalAlignmentInfo> infoById = new HashMap<>();
+        for (GoalAlignmentInfo info : goalRepository.findAlignmentInfo(ids)) {
+            infoById.put(info.id(), info);
+        }
+
+        return toNode(root, infoById);
+    }
+
+    private static void collectIds(NodeView node, List<Long> ids) {
+        ids.add(node.goalId());
+        node.children().forEach(child -> collectIds(child, ids));
+    }
+
+    private static GoalAlignmentNode toNode(NodeView view, Map<Long, GoalAlignmentInfo> infoById) {
+        GoalAlignmentNode dto = new GoalAlignmentNode();
+        dto.goalId = view.goalId();
+        dto.keyResultCount = view.keyResultCount();
+        dto.progress = view.progress();
+        dto.rolledUpProgress = view.rolledUpProgress();
+        dto.truncated = view.truncated();
+
+        GoalAlignmentInfo info = infoById.get(view.goalId());
+        if (info != null) {
+            dto.title = info.title();
+            dto.status = info.status();
+            dto.employeeId = info.employeeId();
+        }
+
+        view.children().forEach(child -> dto.children.add(toNode(child, infoById)));
+        return dto;
+    }
+
+    /* ================= HELPERS ================= */
+
+    private void validateAlignAccess(Goal goal) {
+        Long actorId = SecurityUtil.userId();
+
+        if (actorId.equals(goal.getEmployeeId())) {
+            return;
+        }
+
+        if ("MANAGER".equals(SecurityUtil.role())) {
+            hierarchyService.validateManagerAccess(actorId, goal.getEmployeeId());
+            return;
+        }
+
+        throw new BusinessException(
+                HttpStatus.FORBIDDEN,
+                ErrorCode.ACCESS_DENIED,
+                "You can only align your own or your reportees' goals"
+        );
+    }
+
+    private Goal findGoal(Long id) {
+        return goalRepository.findById(id)
+                .orElseThrow(GoalAlignmentService::goalNotFound);
+    }
+
+    private static BusinessException goalNotFound() {
+        return new BusinessException(
+                HttpStatus.NOT_FOUND,
+                ErrorCode.GOAL_NOT_FOUND,
+                "Goal not found"
+        );
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.performance_management_system.goal.service;
+
+import com.example.performance_management_system.goal.dto.GoalProgressTotals;
+import com.example.performance_management_system.goal.event.GoalAlignmentChangedEvent;
+import com.example.performance_management_system.goal.event.GoalProgressUpdatedEvent;
+import com.example.performance_management_system.goal.model.EmployeeGoalProgress;
+import com.example.performance_management_system.goal.model.Goal;
+import com.example.performance_management_system.goal.model.GoalStatus;
+import com.example.performance_management_system.goal.repository.EmployeeGoalProgressRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Keeps {@link EmployeeGoalProgress} in step with goal and key result writes.
+ * <p>
+ * Callers take a {@link Snapshot} before mutating a goal and report the change
+ * afterwards; only the difference is applied, as one atomic UPDATE. The roll-up
+ * is seeded from the goal tables the first time an (employee, cycle) is touched,
+ * which also heals data created before the roll-up existed.
+ * <p>
+ * Every reported change is also published per goal as a
+ * {@link GoalProgressUpdatedEvent}, which keeps the alignment roll-up current.
+ */
+@Service
+public class GoalProgressAggregator {
+
+    private final EmployeeGoalProgressRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public GoalProgressAggregator(EmployeeGoalProgressRepository repository, ApplicationEventPublisher eventPublisher) {
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public record Snapshot(Long goalId, Long employeeId, Long performanceCycleId, GoalStatus status, double averageRatio) {
+    }
+
+    private record ProgressKey(Long employeeId, Long performanceCycleId) {
+    }
+
+    /**
+     * Must run before the goal (or its key results) are modified in this transaction.
+     */
+    public Snapshot beforeChange(Goal goal) {
+        Long cycleId = goal.getPerformanceCycle().getId();
+        ensureSeeded(goal.getEmployeeId(), cycleId);
+
+        if (!goal.hasProgressStats()) {
+            goal.recalculateProgressStats();
+        }
+
+        return new Snapshot(goal.getId(), goal.getEmployeeId(), cycleId, goal.getStatus(), goal.averageProgressRatio());
+    }
+
+    /**
+     * {@link #beforeChange} for several goals, seeding each (employee, cycle) only once.
+     * Snapshots are keyed by goal id.
+     */
+    public Map<Long, Snapshot> beforeChanges(Collection<Goal> goals) {
+        Set<ProgressKey> seeded = new HashSet<>();
+        Map<Long, Snapshot> snapshots = new LinkedHashMap<>();
+
+        for (Goal goal : goals) {
+            Long cycleId = goal.getPerformanceCycle().getId();
+            if (seeded.add(new ProgressKey(goal.getEmployeeId(), cycleId))) {
+                ensureSeeded(goal.getEmployeeId(), cycleId);
+            }
+
+            if (!goal.hasProgressStats()) {
+                goal.recalculateProgressStats();
+            }
+
+            snapshots.put(
+                    goal.getId(),
+                    new Snapshot(goal.getId(), goal.getEmployeeId(), cycleId, goal.getStatus(), goal.averageProgressRatio())
+            );
+        }
+        return snapshots;
+    }
+
+    /**
+     * Must run before a new goal is inserted for the employee.
+     */
+    public void ensureSeeded(Long employeeId, Long performanceCycleId) {
+        repository.seed(employeeId, performanceCycleId);
+    }
+
+    public void goalAdded(Goal goal) {
+        applyDelta(
+                goal.getEmployeeId(),
+                goal.getPerformanceCycle().getId(),
+                1,
+                goal.getStatus(), goal.averageProgressRatio(),
+                null, 0.0
+        );
+        eventPublisher.publishEvent(GoalProgressUpdatedEvent.of(goal));
+    }
+
+    public void goalChanged(Snapshot before, Goal goal) {
+        applyDelta(
+                before.employeeId(),
+                before.performanceCycleId(),
+                0,
+                goal.getStatus(), goal.averageProgressRatio(),
+                before.status(), before.averageRatio()
+        );
+        eventPublisher.publishEvent(GoalProgressUpdatedEvent.of(goal));
+    }
+
+    /**
+     * {@link #goalChanged} for several goals; the changes of one (employee, cycle)
+     * are summed and applied as a single UPDATE.
+     */
+    public void goalsChanged(Map<Long, Snapshot> before, Collection<Goal> goals) {
+        Map<ProgressKey, double[]> deltasByKey = new HashMap<>();
+        Map<Long, List<GoalProgressUpdatedEvent.Change>> changesByCycle = new LinkedHashMap<>();
+
+        for (Goal goal : goals) {
+            Snapshot snapshot = before.get(goal.getId());
+            if (snapshot == null) {
+                continue;
+            }
+
+            double[] deltas = deltasByKey.computeIfAbsent(
+                    new ProgressKey(snapshot.employeeId(), snapshot.performanceCycleId()),
+                    key -> new double[GoalStatus.values().length]
+            );
+            deltas[goal.getStatus().ordinal()] += goal.averageProgressRatio();
+            deltas[snapshot.status().ordinal()] -= snapshot.averageRatio();
+
+            changesByCycle.computeIfAbsent(snapshot.performanceCycleId(), id -> new ArrayList<>())
+                    .add(GoalProgressUpdatedEvent.Change.of(goal));
+        }
+
+        deltasByKey.forEach((key, deltas) -> {
+            for (double delta : deltas) {
+                if (delta != 0.0) {
+                    applyDeltas(key.employeeId(), key.performanceCycleId(), 0, deltas);
+                    return;
+                }
+            }
+        });
+
+        changesByCycle.forEach((cycleId, changes) ->
+                eventPublisher.publishEvent(new GoalProgressUpdatedEvent(cycleId, changes)));
+    }
+
+    public void goalRemoved(Snapshot before) {
+        applyDelta(
+                before.employeeId(),
+                before.performanceCycleId(),
+                -1,
+                null, 0.0,
+                before.status(), before.averageRatio()
+        );
+        eventPublisher.publishEvent(new GoalProgressUpdatedEvent(
+                before.performanceCycleId(),
+                List.of(GoalProgressUpdatedEvent.Change.removed(before.goalId()))
+        ));
+    }
+
+    public Optional<EmployeeGoalProgress> find(Long employeeId, Long performanceCycleId) {
+        return repository.findByEmployeeIdAndPerformanceCycleId(employeeId, performanceCycleId);
+    }
+
+    /**
+     * Totals straight from the goal tables, for an (employee, cycle) whose roll-up
+     * has not been seeded yet. Writes nothing.
+     */
+    public GoalProgressTotals computeFromGoals(Long employeeId, Long performanceCycleId) {
+        return repository.summarize(employeeId, performanceCycleId);
+    }
+
+    /**
+     * Recomputes per-goal stats and every roll-up of the cycle from scratch.
+     * Returns the number of (employee, cycle) rows written.
+     */
+    @Transactional
+    public int rebuildCycle(Long performanceCycleId) {
+        repository.refreshGoalStatsForCycle(performanceCycleId);
+        repository.deleteByCycle(performanceCycleId);
+        int rows = repository.insertForCycle(performanceCycleId);
+
+        eventPublisher.publishEvent(new GoalAlignmentChangedEvent(performanceCycleId));
+        return rows;
+    }
+
+    private void applyDelta(
+            Long employeeId,
+            Long performanceCycleId,
+            int goalCountDelta,
+            GoalStatus addedStatus,
+            double addedRatio,
+            GoalStatus removedStatus,
+            double removedRatio
+    ) {
+        double[] deltas = new double[GoalStatus.values().length];
+        if (addedStatus != null) {
+            deltas[addedStatus.ordinal()] += addedRatio;
+        }
+        if (removedStatus != null) {
+            deltas[removedStatus.ordinal()] -= removedRatio;
+        }
+
+        if (goalCountDelta == 0 && addedStatus == removedStatus && addedRatio == removedRatio) {
+            return;
+        }
+
+        applyDeltas(employeeId, performanceCycleId, goalCountDelta, deltas);
+    }
+
+    private void applyDeltas(Long employeeId, Long performanceCycleId, int goalCountDelta, double[] deltas) {
+        repository.applyDelta(
+                employeeId,
+                performanceCycleId,
+                goalCountDelta,
+                deltas[GoalStatus.COMPLETED.ordinal()],
+                deltas[GoalStatus.APPROVED.ordinal()],
+                deltas[GoalStatus.SUBMITTED.ordinal()],
+                deltas[GoalStatus.DRAFT.ordinal()],
+                deltas[GoalStatus.REJECTED.ordinal()],
+                deltas[GoalStatus.ARCHIVED.ordinal()]
+        );
+    }
+}
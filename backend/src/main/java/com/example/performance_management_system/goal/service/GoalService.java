@@ -1,13 +1,19 @@
 package com.example.performance_management_system.goal.service;
 
 import com.example.performance_management_system.common.error.ErrorCode;
+import com.example.performance_management_system.common.pagination.CursorPage;
+import com.example.performance_management_system.common.pagination.PageCursor;
 import com.example.performance_management_system.common.exception.BusinessException;
 import com.example.performance_management_system.config.security.SecurityUtil;
 import com.example.performance_management_system.goal.dto.CreateGoalRequest;
+import com.example.performance_management_system.goal.dto.GoalProgressSummary;
+import com.example.performance_management_system.goal.dto.GoalProgressTotals;
 import com.example.performance_management_system.goal.dto.GoalResponse;
-import com.example.performance_management_system.goal.dto.ManagerDashboardSummary;
 import com.example.performance_management_system.goal.dto.UpdateGoalRequest;
 import com.example.performance_management_system.goal.dto.UpsertKeyResultRequest;
+import com.example.performance_management_system.goal.event.GoalAlignmentChangedEvent;
+import com.example.performance_management_system.goal.event.GoalProgressChangedEvent;
+import com.example.performance_management_system.goal.model.EmployeeGoalProgress;
 import com.example.performance_management_system.goal.model.Goal;
 import com.example.performance_management_system.goal.model.GoalStatus;
 import com.example.performance_management_system.goal.repository.GoalRepository;
@@ -16,6 +22,7 @@ import com.example.performance_management_system.keyresult.model.KeyResult;
 import com.example.performance_management_system.performancecycle.model.PerformanceCycle;
 import com.example.performance_management_system.performancecycle.service.PerformanceCycleService;
 import com.example.performance_management_system.user.service.HierarchyService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
@@ -26,6 +33,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class GoalService {
@@ -33,15 +43,21 @@ public class GoalService {
     private final GoalRepository goalRepository;
     private final PerformanceCycleService cycleService;
     private final HierarchyService hierarchyService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GoalProgressAggregator progressAggregator;
 
     public GoalService(
             GoalRepository goalRepository,
             PerformanceCycleService cycleService,
-            HierarchyService hierarchyService
+            HierarchyService hierarchyService,
+            ApplicationEventPublisher eventPublisher,
+            GoalProgressAggregator progressAggregator
     ) {
         this.goalRepository = goalRepository;
         this.cycleService = cycleService;
         this.hierarchyService = hierarchyService;
+        this.eventPublisher = eventPublisher;
+        this.progressAggregator = progressAggregator;
     }
 
     @Transactional
@@ -65,21 +81,52 @@ public class GoalService {
             kr.setGoal(goal);
             goal.getKeyResults().add(kr);
         });
+        goal.recalculateProgressStats();
 
-        return toGoalResponse(goalRepository.save(goal));
+        // seed before the insert so the new goal is counted exactly once
+        progressAggregator.ensureSeeded(req.employeeId, activeCycle.getId());
+
+        Goal saved = goalRepository.save(goal);
+        progressAggregator.goalAdded(saved);
+        publishProgressChanged(saved);
+
+        return toGoalResponse(saved);
     }
 
+    @Transactional(readOnly = true)
     public Page<GoalResponse> getGoalsForEmployee(
             Long employeeId,
             int page,
             int size
     ) {
-        return goalRepository.findByEmployeeId(
+        Page<Goal> goals = goalRepository.findByEmployeeId(
                 employeeId,
                 PageRequest.of(page, size)
-        ).map(this::toGoalResponse);
+        );
+        return goals.map(withKeyResults(goals.getContent()));
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<GoalResponse> getGoalsForEmployee(
+            Long employeeId,
+            String cursor,
+            int size,
+            boolean includeTotal
+    ) {
+        CursorPage<Goal> goals = CursorPage.of(
+                goalRepository.findByEmployeeIdAfter(
+                        employeeId,
+                        PageCursor.afterId(PageCursor.decode(cursor)),
+                        CursorPage.limit(size)
+                ),
+                size,
+                goal -> PageCursor.of(goal.getId()),
+                includeTotal ? goalRepository.countByEmployeeId(employeeId) : null
+        );
+        return goals.map(withKeyResults(goals.content()));
+    }
+
+    @Transactional(readOnly = true)
     public GoalResponse getGoalById(Long goalId) {
         Goal goal = findGoal(goalId);
         validateReadAccess(goal);
@@ -92,6 +139,8 @@ public class GoalService {
         validateEmployeeOwnership(goal);
         validateEditableStatus(goal);
 
+        GoalProgressAggregator.Snapshot before = progressAggregator.beforeChange(goal);
+
         goal.setTitle(request.title);
         goal.setDescription(request.description);
 
@@ -111,6 +160,10 @@ public class GoalService {
 
             goal.getKeyResults().add(keyResult);
         });
+        goal.recalculateProgressStats();
+
+        progressAggregator.goalChanged(before, goal);
+        publishProgressChanged(goal);
 
         return toGoalResponse(goalRepository.save(goal));
     }
@@ -120,7 +173,14 @@ public class GoalService {
         Goal goal = findGoal(goalId);
         validateEmployeeOwnership(goal);
         validateEditableStatus(goal);
+
+        GoalProgressAggregator.Snapshot before = progressAggregator.beforeChange(goal);
+        if (goalRepository.clearParent(goalId) > 0) {
+            eventPublisher.publishEvent(new GoalAlignmentChangedEvent(goal.getPerformanceCycle().getId()));
+        }
         goalRepository.delete(goal);
+        progressAggregator.goalRemoved(before);
+        publishProgressChanged(goal);
     }
 
     @Transactional
@@ -128,12 +188,17 @@ public class GoalService {
         Goal goal = findGoal(goalId);
         validateEmployeeOwnership(goal);
 
+        GoalProgressAggregator.Snapshot before = progressAggregator.beforeChange(goal);
+
         try {
             goal.submit();
         } catch (IllegalStateException e) {
             throw goalStateException(e.getMessage());
         }
 
+        progressAggregator.goalChanged(before, goal);
+        publishProgressChanged(goal);
+
         return toGoalResponse(goalRepository.save(goal));
     }
 
@@ -147,6 +212,8 @@ public class GoalService {
                 goal.getEmployeeId()
         );
 
+        GoalProgressAggregator.Snapshot before = progressAggregator.beforeChange(goal);
+
         try {
             goal.approve();
         } catch (IllegalStateException e) {
@@ -155,6 +222,9 @@ public class GoalService {
 
         autoCompleteGoalIfEligible(goal);
 
+        progressAggregator.goalChanged(before, goal);
+        publishProgressChanged(goal);
+
         return toGoalResponse(goalRepository.save(goal));
     }
 
@@ -168,16 +238,22 @@ public class GoalService {
                 goal.getEmployeeId()
         );
 
+        GoalProgressAggregator.Snapshot before = progressAggregator.beforeChange(goal);
+
         try {
             goal.reject(reason);
         } catch (IllegalStateException e) {
             throw goalStateException(e.getMessage());
         }
 
+        progressAggregator.goalChanged(before, goal);
+        publishProgressChanged(goal);
+
         return toGoalResponse(goalRepository.save(goal));
     }
 
     @PreAuthorize("hasRole('MANAGER')")
+    @Transactional(readOnly = true)
     public Page<GoalResponse> getTeamGoals(int page, int size) {
 
         Long managerId = SecurityUtil.userId();
@@ -190,17 +266,49 @@ public class GoalService {
             return Page.empty();
         }
 
-        return goalRepository
+        Page<Goal> goals = goalRepository
                 .findByEmployeeIdInAndPerformanceCycle_Id(
                         reporteeIds,
                         activeCycle.getId(),
                         PageRequest.of(page, size)
-                )
-                .map(this::toGoalResponse);
+                );
+        return goals.map(withKeyResults(goals.getContent()));
+    }
+
+    @PreAuthorize("hasRole('MANAGER')")
+    @Transactional(readOnly = true)
+    public CursorPage<GoalResponse> getTeamGoals(String cursor, int size, boolean includeTotal) {
+
+        Long managerId = SecurityUtil.userId();
+        PageCursor position = PageCursor.decode(cursor);
+        PerformanceCycle activeCycle = cycleService.getActiveCycle();
+
+        List<Long> reporteeIds =
+                hierarchyService.getDirectReporteeIds(managerId);
+
+        if (reporteeIds.isEmpty()) {
+            return new CursorPage<>(List.of(), 0, null, false, includeTotal ? 0L : null);
+        }
+
+        CursorPage<Goal> goals = CursorPage.of(
+                goalRepository.findByEmployeeIdInAndCycleAfter(
+                        reporteeIds,
+                        activeCycle.getId(),
+                        PageCursor.afterId(position),
+                        CursorPage.limit(size)
+                ),
+                size,
+                goal -> PageCursor.of(goal.getId()),
+                includeTotal
+                        ? goalRepository.countByEmployeeIdInAndPerformanceCycle_Id(reporteeIds, activeCycle.getId())
+                        : null
+        );
+        return goals.map(withKeyResults(goals.content()));
     }
 
+    // every caller maps key results into the response, so load them with the goal
     private Goal findGoal(Long id) {
-        return goalRepository.findById(id)
+        return goalRepository.findWithKeyResultsById(id)
                 .orElseThrow(() -> new BusinessException(
                         HttpStatus.NOT_FOUND,
                         ErrorCode.GOAL_NOT_FOUND,
@@ -208,6 +316,22 @@ public class GoalService {
                 ));
     }
 
+    /**
+     * Second phase of a goal listing: loads the key results of all goals on the
+     * page in one query and returns a mapper that builds responses from them.
+     */
+    private Function<Goal, GoalResponse> withKeyResults(List<Goal> page) {
+        if (page.isEmpty()) {
+            return this::toGoalResponse;
+        }
+
+        Map<Long, Goal> fetched = goalRepository.findWithKeyResultsByIdIn(
+                page.stream().map(Goal::getId).toList()
+        ).stream().collect(Collectors.toMap(Goal::getId, Function.identity(), (a, b) -> a));
+
+        return goal -> toGoalResponse(fetched.getOrDefault(goal.getId(), goal));
+    }
+
     private GoalResponse toGoalResponse(Goal goal) {
 
         GoalResponse dto = new GoalResponse();
@@ -217,9 +341,12 @@ public class GoalService {
         dto.description = goal.getDescription();
         dto.status = goal.getStatus();
         dto.employeeId = goal.getEmployeeId();
+        dto.parentGoalId = goal.getParentGoalId();
 
-        dto.cycleName = goal.getPerformanceCycle().getName();
-        dto.cycleType = goal.getPerformanceCycle().getCycleType();
+        // reading the id does not initialize the lazy proxy
+        PerformanceCycle cycle = cycleService.getCycle(goal.getPerformanceCycle().getId());
+        dto.cycleName = cycle.getName();
+        dto.cycleType = cycle.getCycleType();
 
         dto.keyResults = goal.getKeyResults()
                 .stream()
@@ -239,39 +366,45 @@ public class GoalService {
         return dto;
     }
 
-    @PreAuthorize("hasRole('MANAGER')")
-    public ManagerDashboardSummary getManagerDashboardSummary() {
-
-        Long managerId = SecurityUtil.userId();
-
-        List<Long> reporteeIds =
-                hierarchyService.getDirectReporteeIds(managerId);
-
-        if (reporteeIds.isEmpty()) {
-            return new ManagerDashboardSummary();
+    /**
+     * Reads the roll-up without seeding it: goal writes and the HR rebuild
+     * create the row. Until then the totals come straight from the goal tables.
+     */
+    @Transactional(readOnly = true)
+    public GoalProgressSummary getMyProgress() {
+        Long employeeId = SecurityUtil.userId();
+        Long cycleId = cycleService.getActiveCycle().getId();
+
+        GoalProgressSummary dto = new GoalProgressSummary();
+        dto.employeeId = employeeId;
+        dto.performanceCycleId = cycleId;
+
+        Optional<EmployeeGoalProgress> rollUp = progressAggregator.find(employeeId, cycleId);
+        double ratioSum;
+        if (rollUp.isPresent()) {
+            EmployeeGoalProgress progress = rollUp.get();
+            dto.goalCount = progress.getGoalCount();
+            dto.updatedAt = progress.getUpdatedAt();
+            ratioSum = progress.getCompletedRatioSum()
+                    + progress.getApprovedRatioSum()
+                    + progress.getSubmittedRatioSum()
+                    + progress.getDraftRatioSum()
+                    + progress.getRejectedRatioSum()
+                    + progress.getArchivedRatioSum();
+        } else {
+            GoalProgressTotals totals = progressAggregator.computeFromGoals(employeeId, cycleId);
+            dto.goalCount = totals.goalCount().intValue();
+            ratioSum = totals.ratioSum();
         }
 
-        PerformanceCycle activeCycle = cycleService.getActiveCycle();
-
-        List<Goal> goals = goalRepository
-                .findByEmployeeIdInAndPerformanceCycle_Id(
-                        reporteeIds,
-                        activeCycle.getId()
-                );
-
-        ManagerDashboardSummary dto = new ManagerDashboardSummary();
-        dto.cycleName = activeCycle.getName();
-        dto.totalGoals = goals.size();
-        dto.pendingApprovals = goals.stream()
-                .filter(g -> g.getStatus() == GoalStatus.SUBMITTED)
-                .count();
-        dto.completedGoals = goals.stream()
-                .filter(g -> g.getStatus() == GoalStatus.COMPLETED)
-                .count();
-
+        dto.averageProgress = dto.goalCount == 0 ? 0.0 : ratioSum / dto.goalCount;
         return dto;
     }
 
+    public int rebuildProgress(Long performanceCycleId) {
+        return progressAggregator.rebuildCycle(performanceCycleId);
+    }
+
     public void autoCompleteGoalIfEligible(Goal goal) {
 
         boolean allDone = goal.getKeyResults().stream()
@@ -299,7 +432,7 @@ public class GoalService {
         }
     }
 
-    private void validateReadAccess(Goal goal) {
+    void validateReadAccess(Goal goal) {
         Long actorId = SecurityUtil.userId();
         String actorRole = SecurityUtil.role();
 
@@ -308,7 +441,8 @@ public class GoalService {
         }
 
         if ("MANAGER".equals(actorRole)) {
-            hierarchyService.validateManagerAccess(actorId, goal.getEmployeeId());
+            // skip-level managers may read goals anywhere in their reporting line
+            hierarchyService.validateSubtreeAccess(actorId, goal.getEmployeeId());
             return;
         }
 
@@ -363,6 +497,13 @@ public class GoalService {
         return existing;
     }
 
+    private void publishProgressChanged(Goal goal) {
+        eventPublisher.publishEvent(new GoalProgressChangedEvent(
+                goal.getEmployeeId(),
+                goal.getPerformanceCycle().getId()
+        ));
+    }
+
     private BusinessException goalStateException(String message) {
         return new BusinessException(
                 HttpStatus.CONFLICT,
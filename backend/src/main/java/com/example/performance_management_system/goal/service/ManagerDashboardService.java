@@ -0,0 +1,143 @@
+package com.example.performance_management_system.goal.service;
+
+import com.example.performance_management_system.goal.dto.GoalStatusCount;
+import com.example.performance_management_system.goal.dto.ManagerDashboardSummary;
+import com.example.performance_management_system.goal.dto.ManagerDashboardSummary.ReporteeSummary;
+import com.example.performance_management_system.goal.model.GoalStatus;
+import com.example.performance_management_system.goal.repository.GoalRepository;
+import com.example.performance_management_system.keyresult.dto.KeyResultCompletion;
+import com.example.performance_management_system.keyresult.repository.KeyResultRepository;
+import com.example.performance_management_system.performancecycle.model.PerformanceCycle;
+import com.example.performance_management_system.performancecycle.service.PerformanceCycleService;
+import com.example.performance_management_system.rating.dto.RatingStatusRow;
+import com.example.performance_management_system.rating.repository.RatingRepository;
+import com.example.performance_management_system.review.dto.ReviewStatusCount;
+import com.example.performance_management_system.review.repository.ReviewRepository;
+import com.example.performance_management_system.user.dto.UserName;
+import com.example.performance_management_system.user.repository.UserRepository;
+import com.example.performance_management_system.user.service.HierarchyService;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the manager dashboard from grouped counts: one query each for names,
+ * goals by status, key result completion, reviews by status and ratings,
+ * however many goals the team has.
+ */
+@Service
+public class ManagerDashboardService {
+
+    private final HierarchyService hierarchyService;
+    private final PerformanceCycleService cycleService;
+    private final UserRepository userRepository;
+    private final GoalRepository goalRepository;
+    private final KeyResultRepository keyResultRepository;
+    private final ReviewRepository reviewRepository;
+    private final RatingRepository ratingRepository;
+
+    public ManagerDashboardService(
+            HierarchyService hierarchyService,
+            PerformanceCycleService cycleService,
+            UserRepository userRepository,
+            GoalRepository goalRepository,
+            KeyResultRepository keyResultRepository,
+            ReviewRepository reviewRepository,
+            RatingRepository ratingRepository
+    ) {
+        this.hierarchyService = hierarchyService;
+        this.cycleService = cycleService;
+        this.userRepository = userRepository;
+        this.goalRepository = goalRepository;
+        this.keyResultRepository = keyResultRepository;
+        this.reviewRepository = reviewRepository;
+        this.ratingRepository = ratingRepository;
+    }
+
+    @PreAuthorize("hasRole('MANAGER')")
+    @Transactional(readOnly = true)
+    public ManagerDashboardSummary getSummary(Long managerId) {
+
+        List<Long> reporteeIds = hierarchyService.getDirectReporteeIds(managerId);
+
+        if (reporteeIds.isEmpty()) {
+            return new ManagerDashboardSummary();
+        }
+
+        PerformanceCycle activeCycle = cycleService.getActiveCycle();
+        Long cycleId = activeCycle.getId();
+
+        ManagerDashboardSummary dto = new ManagerDashboardSummary();
+        dto.cycleName = activeCycle.getName();
+
+        Map<Long, ReporteeSummary> reportees = new LinkedHashMap<>();
+        for (Long reporteeId : reporteeIds) {
+            ReporteeSummary reportee = new ReporteeSummary();
+            reportee.employeeId = reporteeId;
+            reportees.put(reporteeId, reportee);
+        }
+
+        for (UserName user : userRepository.findNamesByIdIn(reporteeIds)) {
+            reportees.get(user.id()).employeeName = user.name();
+        }
+
+        /* ---------- Goals ---------- */
+
+        for (GoalStatusCount row : goalRepository.countByEmployeeAndStatus(reporteeIds, cycleId)) {
+            ReporteeSummary reportee = reportees.get(row.employeeId());
+            long count = row.count();
+
+            reportee.goalsByStatus.merge(row.status(), count, Long::sum);
+            reportee.totalGoals += count;
+            dto.goalsByStatus.merge(row.status(), count, Long::sum);
+            dto.totalGoals += count;
+
+            if (row.status() == GoalStatus.SUBMITTED) {
+                reportee.pendingApprovals += count;
+                dto.pendingApprovals += count;
+            } else if (row.status() == GoalStatus.COMPLETED) {
+                reportee.completedGoals += count;
+                dto.completedGoals += count;
+            }
+        }
+
+        /* ---------- Key results ---------- */
+
+        for (KeyResultCompletion row : keyResultRepository.findCompletionByEmployees(reporteeIds, cycleId)) {
+            ReporteeSummary reportee = reportees.get(row.employeeId());
+            reportee.keyResults = row.total();
+            reportee.completedKeyResults = row.completed() == null ? 0 : row.completed();
+            reportee.keyResultCompletionPercent = percent(reportee.completedKeyResults, reportee.keyResults);
+
+            dto.keyResults += reportee.keyResults;
+            dto.completedKeyResults += reportee.completedKeyResults;
+        }
+        dto.keyResultCompletionPercent = percent(dto.completedKeyResults, dto.keyResults);
+
+        /* ---------- Reviews & ratings ---------- */
+
+        for (ReviewStatusCount row : reviewRepository.countByEmployeeAndStatus(reporteeIds, cycleId)) {
+            reportees.get(row.employeeId()).reviewsByStatus.merge(row.status(), row.count(), Long::sum);
+            dto.reviewsByStatus.merge(row.status(), row.count(), Long::sum);
+        }
+
+        for (RatingStatusRow row : ratingRepository.findStatusByEmployees(reporteeIds, cycleId)) {
+            reportees.get(row.employeeId()).ratingStatus = row.status();
+            dto.ratingsByStatus.merge(row.status(), 1L, Long::sum);
+        }
+        dto.unratedReportees = reportees.values().stream()
+                .filter(reportee -> reportee.ratingStatus == null)
+                .count();
+
+        dto.reportees.addAll(reportees.values());
+        return dto;
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0.0 : Math.round(part * 10000.0 / total) / 100.0;
+    }
+}
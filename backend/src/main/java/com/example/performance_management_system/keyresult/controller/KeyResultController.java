@@ -1,21 +1,43 @@
 package com.example.performance_management_system.keyresult.controller;
 
+import com.example.performance_management_system.common.error.ErrorCode;
+import com.example.performance_management_system.common.exception.BusinessException;
+import com.example.performance_management_system.keyresult.dto.KeyResultProgressBatchResult;
+import com.example.performance_management_system.keyresult.dto.KeyResultProgressSeries;
 import com.example.performance_management_system.keyresult.dto.KeyResultResponse;
 import com.example.performance_management_system.keyresult.dto.UpdateKeyResultProgressRequest;
 import com.example.performance_management_system.keyresult.model.KeyResult;
+import com.example.performance_management_system.keyresult.model.ProgressBucket;
+import com.example.performance_management_system.keyresult.service.KeyResultHistoryService;
+import com.example.performance_management_system.keyresult.service.KeyResultIngestionService;
 import com.example.performance_management_system.keyresult.service.KeyResultService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Locale;
+
 @RestController
 @RequestMapping("/api/key-results")
 public class KeyResultController {
 
     private final KeyResultService service;
+    private final KeyResultIngestionService ingestionService;
+    private final KeyResultHistoryService historyService;
 
-    public KeyResultController(KeyResultService service) {
+    public KeyResultController(
+            KeyResultService service,
+            KeyResultIngestionService ingestionService,
+            KeyResultHistoryService historyService
+    ) {
         this.service = service;
+        this.ingestionService = ingestionService;
+        this.historyService = historyService;
     }
 
     @PatchMapping("/{id}/progress")
@@ -35,4 +57,29 @@ public class KeyResultController {
 
         return dto;
     }
+
+    // one {"keyResultId":..,"value":..,"observedAt":..} object per line
+    @PostMapping(value = "/progress:batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    public KeyResultProgressBatchResult ingestProgress(InputStream body) {
+        return ingestionService.ingest(body);
+    }
+
+    // ?bucket=day|week&from=&to= (ISO-8601 instants), min/max/last per bucket
+    @GetMapping("/{id}/progress/history")
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR', 'ADMIN')")
+    public KeyResultProgressSeries progressHistory(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "day") String bucket,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        ProgressBucket progressBucket;
+        try {
+            progressBucket = ProgressBucket.valueOf(bucket.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_INPUT, "Unknown bucket: " + bucket);
+        }
+        return historyService.getSeries(id, progressBucket, from, to);
+    }
 }
@@ -0,0 +1,7 @@
+package com.example.performance_management_system.keyresult.dto;
+
+/**
+ * Key results of one employee in a cycle, and how many of them reached their target.
+ */
+public record KeyResultCompletion(Long employeeId, Long total, Long completed) {
+}
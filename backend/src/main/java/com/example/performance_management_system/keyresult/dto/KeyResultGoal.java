@@ -0,0 +1,4 @@
+package com.example.performance_management_system.keyresult.dto;
+
+public record KeyResultGoal(Long keyResultId, Long goalId) {
+}
@@ -0,0 +1,27 @@
+package com.example.performance_management_system.keyresult.dto;
+
+import java.util.List;
+
+/**
+ * Per-line outcome of a batch progress upload, in upload order.
+ */
+public record KeyResultProgressBatchResult(
+        int requested,
+        int applied,
+        List<Item> results
+) {
+
+    public enum Outcome {
+        APPLIED,
+        INVALID,
+        NOT_FOUND,
+        FORBIDDEN,
+        CONFLICT,
+        STALE,
+        SUPERSEDED
+    }
+
+    // line is 1-based; keyResultId is null when the line could not be parsed
+    public record Item(int line, Long keyResultId, Outcome outcome, String message) {
+    }
+}
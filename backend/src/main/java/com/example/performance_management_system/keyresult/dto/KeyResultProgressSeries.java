@@ -0,0 +1,18 @@
+package com.example.performance_management_system.keyresult.dto;
+
+import com.example.performance_management_system.keyresult.model.ProgressBucket;
+
+import java.time.Instant;
+import java.util.List;
+
+public class KeyResultProgressSeries {
+    public Long keyResultId;
+    public ProgressBucket bucket;
+    public Instant from;
+    public Instant to;
+    public List<Point> points;
+
+    // buckets without readings are omitted
+    public record Point(Instant bucketStart, double min, double max, double last, long count) {
+    }
+}
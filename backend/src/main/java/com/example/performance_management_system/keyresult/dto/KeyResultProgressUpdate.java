@@ -0,0 +1,12 @@
+package com.example.performance_management_system.keyresult.dto;
+
+/**
+ * One line of a batch progress upload.
+ * {@code observedAt} is an ISO-8601 timestamp with offset; when absent the
+ * reading counts as taken on arrival.
+ */
+public class KeyResultProgressUpdate {
+    public Long keyResultId;
+    public Double value;
+    public String observedAt;
+}
@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
+
 @Getter
 @Setter
 @Entity
@@ -30,6 +32,10 @@ public class KeyResult {
     @Column(nullable = false)
     private Double currentValue = 0.0;
 
+    // when the current value was measured; batch ingestion ignores older readings
+    @Column(name = "progress_observed_at")
+    private Instant progressObservedAt;
+
     public void updateProgress(Double value) {
         if (value < 0) {
             throw new IllegalArgumentException("Progress cannot be negative");
@@ -37,5 +43,16 @@ public class KeyResult {
         this.currentValue = value;
     }
 
+    /**
+     * Progress towards the target clamped to [0, 1]; a missing or non-positive target counts as no progress.
+     */
+    public double progressRatio() {
+        if (targetValue == null || targetValue <= 0) {
+            return 0.0;
+        }
+        double current = currentValue == null ? 0.0 : currentValue;
+        return Math.max(0.0, Math.min(1.0, current / targetValue));
+    }
+
     // getters & setters
 }
@@ -0,0 +1,21 @@
+package com.example.performance_management_system.keyresult.model;
+
+/**
+ * Width of one point in a downsampled progress series; buckets start at
+ * midnight UTC, weeks on Monday.
+ */
+public enum ProgressBucket {
+    DAY("day"),
+    WEEK("week");
+
+    private final String datePart;
+
+    ProgressBucket(String datePart) {
+        this.datePart = datePart;
+    }
+
+    // the date_trunc field for this bucket
+    public String datePart() {
+        return datePart;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.performance_management_system.keyresult.repository;
+
+import com.example.performance_management_system.keyresult.dto.KeyResultProgressSeries.Point;
+import com.example.performance_management_system.keyresult.model.ProgressBucket;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Append-only history of key result progress readings.
+ * <p>
+ * Rows are three fixed-width columns with no surrogate key, so 100M readings
+ * stay in the low gigabytes. Readings arrive roughly in time order, which
+ * keeps a BRIN index on {@code recorded_at} a few pages in size while still
+ * pruning time-window scans across all key results. Series for a single key
+ * result are served index-only from {@code (key_result_id, recorded_at)}
+ * including the value.
+ * <p>
+ * The table has no entity, so it is created here rather than by Hibernate.
+ */
+@Repository
+public class KeyResultProgressHistoryRepository implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public KeyResultProgressHistoryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record ProgressPoint(Long keyResultId, Instant recordedAt, double value) {
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS key_result_progress (
+                    key_result_id BIGINT NOT NULL,
+                    recorded_at TIMESTAMPTZ NOT NULL,
+                    value DOUBLE PRECISION NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE INDEX IF NOT EXISTS idx_kr_progress_recorded_brin
+                ON key_result_progress USING brin (recorded_at)
+                """);
+        jdbcTemplate.execute("""
+                CREATE INDEX IF NOT EXISTS idx_kr_progress_series
+                ON key_result_progress (key_result_id, recorded_at) INCLUDE (value)
+                """);
+    }
+
+    public void append(Collection<ProgressPoint> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+
+        Long[] ids = new Long[points.size()];
+        Long[] recordedAtMillis = new Long[points.size()];
+        Double[] values = new Double[points.size()];
+        int i = 0;
+        for (ProgressPoint point : points) {
+            ids[i] = point.keyResultId();
+            recordedAtMillis[i] = point.recordedAt().toEpochMilli();
+            values[i] = point.value();
+            i++;
+        }
+
+        jdbcTemplate.update(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement("""
+                            INSERT INTO key_result_progress (key_result_id, recorded_at, value)
+                            SELECT p.id, to_timestamp(p.millis / 1000.0), p.value
+                            FROM unnest(?::bigint[], ?::bigint[], ?::float8[]) AS p(id, millis, value)
+                            """);
+                    ps.setArray(1, con.createArrayOf("bigint", ids));
+                    ps.setArray(2, con.createArrayOf("bigint", recordedAtMillis));
+                    ps.setArray(3, con.createArrayOf("float8", values));
+                    return ps;
+                }
+        );
+    }
+
+    /**
+     * Downsamples the readings in {@code [from, to)} into UTC buckets,
+     * oldest first; {@code last} is the latest reading of each bucket.
+     */
+    public List<Point> findBuckets(Long keyResultId, ProgressBucket bucket, Instant from, Instant to) {
+        return jdbcTemplate.query(
+                """
+                SELECT date_trunc(?, recorded_at AT TIME ZONE 'UTC') AS bucket_start,
+                       min(value) AS min_value,
+                       max(value) AS max_value,
+                       (array_agg(value ORDER BY recorded_at DESC))[1] AS last_value,
+                       count(*) AS readings
+                FROM key_result_progress
+                WHERE key_result_id = ?
+                  AND recorded_at >= ?
+                  AND recorded_at < ?
+                GROUP BY 1
+                ORDER BY 1
+                """,
+                (rs, rowNum) -> new Point(
+                        rs.getObject("bucket_start", LocalDateTime.class).toInstant(ZoneOffset.UTC),
+                        rs.getDouble("min_value"),
+                        rs.getDouble("max_value"),
+                        rs.getDouble("last_value"),
+                        rs.getLong("readings")
+                ),
+                bucket.datePart(),
+                keyResultId,
+                OffsetDateTime.ofInstant(from, ZoneOffset.UTC),
+                OffsetDateTime.ofInstant(to, ZoneOffset.UTC)
+        );
+    }
+}
@@ -1,7 +1,38 @@
 package com.example.performance_management_system.keyresult.repository;
 
+import com.example.performance_management_system.keyresult.dto.KeyResultCompletion;
+import com.example.performance_management_system.keyresult.dto.KeyResultGoal;
 import com.example.performance_management_system.keyresult.model.KeyResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface KeyResultRepository extends JpaRepository<KeyResult, Long> {
+
+    // same "done" rule as GoalService.autoCompleteGoalIfEligible
+    @Query("""
+        SELECT new com.example.performance_management_system.keyresult.dto.KeyResultCompletion(
+            g.employeeId,
+            COUNT(kr),
+            SUM(CASE WHEN kr.currentValue >= kr.targetValue THEN 1L ELSE 0L END)
+        )
+        FROM KeyResult kr
+        JOIN kr.goal g
+        WHERE g.employeeId IN :employeeIds AND g.performanceCycle.id = :cycleId
+        GROUP BY g.employeeId
+    """)
+    List<KeyResultCompletion> findCompletionByEmployees(
+            @Param("employeeIds") Collection<Long> employeeIds,
+            @Param("cycleId") Long cycleId
+    );
+
+    @Query("""
+        SELECT new com.example.performance_management_system.keyresult.dto.KeyResultGoal(kr.id, kr.goal.id)
+        FROM KeyResult kr
+        WHERE kr.id IN :ids
+    """)
+    List<KeyResultGoal> findGoalIds(@Param("ids") Collection<Long> ids);
 }
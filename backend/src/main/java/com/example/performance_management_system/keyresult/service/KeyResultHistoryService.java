@@ -0,0 +1,103 @@
+package com.example.performance_management_system.keyresult.service;
+
+import com.example.performance_management_system.common.error.ErrorCode;
+import com.example.performance_management_system.common.exception.BusinessException;
+import com.example.performance_management_system.config.security.SecurityUtil;
+import com.example.performance_management_system.keyresult.dto.KeyResultProgressSeries;
+import com.example.performance_management_system.keyresult.model.KeyResult;
+import com.example.performance_management_system.keyresult.model.ProgressBucket;
+import com.example.performance_management_system.keyresult.repository.KeyResultProgressHistoryRepository;
+import com.example.performance_management_system.keyresult.repository.KeyResultRepository;
+import com.example.performance_management_system.user.service.HierarchyService;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Service
+public class KeyResultHistoryService {
+
+    static final Duration DEFAULT_RANGE = Duration.ofDays(90);
+
+    // about 1,800 daily points, the most a single series returns
+    static final Duration MAX_RANGE = Duration.ofDays(5 * 366);
+
+    private final KeyResultRepository keyResultRepository;
+    private final KeyResultProgressHistoryRepository historyRepository;
+    private final HierarchyService hierarchyService;
+
+    public KeyResultHistoryService(
+            KeyResultRepository keyResultRepository,
+            KeyResultProgressHistoryRepository historyRepository,
+            HierarchyService hierarchyService
+    ) {
+        this.keyResultRepository = keyResultRepository;
+        this.historyRepository = historyRepository;
+        this.hierarchyService = hierarchyService;
+    }
+
+    /**
+     * Downsampled progress of one key result over {@code [from, to)};
+     * defaults to the last {@link #DEFAULT_RANGE}.
+     */
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER', 'HR', 'ADMIN')")
+    @Transactional(readOnly = true)
+    public KeyResultProgressSeries getSeries(Long keyResultId, ProgressBucket bucket, Instant from, Instant to) {
+        KeyResult kr = keyResultRepository.findById(keyResultId)
+                .orElseThrow(() -> new BusinessException(
+                        HttpStatus.NOT_FOUND,
+                        ErrorCode.RESOURCE_NOT_FOUND,
+                        "Key result not found"
+                ));
+        validateReadAccess(kr.getGoal().getEmployeeId());
+
+        Instant end = to == null ? Instant.now() : to;
+        Instant start = from == null ? end.minus(DEFAULT_RANGE) : from;
+
+        if (!start.isBefore(end)) {
+            throw new BusinessException(
+                    HttpStatus.BAD_REQUEST,
+                    ErrorCode.INVALID_INPUT,
+                    "from must be before to"
+            );
+        }
+        if (Duration.between(start, end).compareTo(MAX_RANGE) > 0) {
+            throw new BusinessException(
+                    HttpStatus.BAD_REQUEST,
+                    ErrorCode.INVALID_INPUT,
+                    "A progress series can span at most " + MAX_RANGE.toDays() + " days"
+            );
+        }
+
+        KeyResultProgressSeries dto = new KeyResultProgressSeries();
+        dto.keyResultId = keyResultId;
+        dto.bucket = bucket;
+        dto.from = start;
+        dto.to = end;
+        dto.points = historyRepository.findBuckets(keyResultId, bucket, start, end);
+        return dto;
+    }
+
+    private void validateReadAccess(Long employeeId) {
+        Long actorId = SecurityUtil.userId();
+        String actorRole = SecurityUtil.role();
+
+        if (actorId.equals(employeeId) || "HR".equals(actorRole) || "ADMIN".equals(actorRole)) {
+            return;
+        }
+
+        if ("MANAGER".equals(actorRole)) {
+            hierarchyService.validateSubtreeAccess(actorId, employeeId);
+            return;
+        }
+
+        throw new BusinessException(
+                HttpStatus.FORBIDDEN,
+                ErrorCode.ACCESS_DENIED,
+                "You are not allowed to access this key result"
+        );
+    }
+}
@@ -0,0 +1,433 @@
+package com.example.performance_management_system.keyresult.service;
+
+import com.example.performance_management_system.common.error.ErrorCode;
+import com.example.performance_management_system.common.exception.BusinessException;
+import com.example.performance_management_system.config.security.SecurityUtil;
+import com.example.performance_management_system.goal.event.GoalProgressChangedEvent;
+import com.example.performance_management_system.goal.model.Goal;
+import com.example.performance_management_system.goal.model.GoalStatus;
+import com.example.performance_management_system.goal.repository.GoalRepository;
+import com.example.performance_management_system.goal.service.GoalProgressAggregator;
+import com.example.performance_management_system.goal.service.GoalService;
+import com.example.performance_management_system.keyresult.dto.KeyResultGoal;
+import com.example.performance_management_system.keyresult.dto.KeyResultProgressBatchResult;
+import com.example.performance_management_system.keyresult.dto.KeyResultProgressBatchResult.Item;
+import com.example.performance_management_system.keyresult.dto.KeyResultProgressBatchResult.Outcome;
+import com.example.performance_management_system.keyresult.dto.KeyResultProgressUpdate;
+import com.example.performance_management_system.keyresult.model.KeyResult;
+import com.example.performance_management_system.keyresult.repository.KeyResultProgressHistoryRepository;
+import com.example.performance_management_system.keyresult.repository.KeyResultProgressHistoryRepository.ProgressPoint;
+import com.example.performance_management_system.keyresult.repository.KeyResultRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies NDJSON progress uploads from metric integrations.
+ * <p>
+ * The same rules as {@link KeyResultService#updateProgress} apply per line,
+ * but the work is done per goal rather than per line: the key results of a
+ * chunk of goals are loaded with one query, changed in memory and flushed as
+ * a JDBC batch, and each touched goal gets one auto-completion check and one
+ * progress roll-up update. Chunks commit independently, so a large upload
+ * never holds locks for its whole duration.
+ * <p>
+ * When a key result appears more than once, the latest {@code observedAt}
+ * wins; readings older than the stored one are reported as stale. Applied
+ * readings are appended to the progress history with their
+ * {@code observedAt}.
+ */
+@Service
+public class KeyResultIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(KeyResultIngestionService.class);
+
+    public static final int MAX_LINES = 50_000;
+
+    // key result updates per transaction; a goal is never split across chunks
+    static final int CHUNK_SIZE = 500;
+
+    private static final int LOOKUP_SIZE = 1000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final KeyResultRepository keyResultRepository;
+    private final GoalRepository goalRepository;
+    private final GoalService goalService;
+    private final GoalProgressAggregator progressAggregator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KeyResultProgressHistoryRepository historyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public KeyResultIngestionService(
+            KeyResultRepository keyResultRepository,
+            GoalRepository goalRepository,
+            GoalService goalService,
+            GoalProgressAggregator progressAggregator,
+            ApplicationEventPublisher eventPublisher,
+            KeyResultProgressHistoryRepository historyRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.keyResultRepository = keyResultRepository;
+        this.goalRepository = goalRepository;
+        this.goalService = goalService;
+        this.progressAggregator = progressAggregator;
+        this.eventPublisher = eventPublisher;
+        this.historyRepository = historyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public record Reading(Long keyResultId, double value, Instant observedAt) {
+    }
+
+    /**
+     * {@code failed} holds the readings whose goal could not be written; every
+     * other reading was applied or rejected for good.
+     */
+    public record ReadingsResult(int applied, List<Reading> failed) {
+    }
+
+    private record Line(int index, int number, Long keyResultId, double value, Instant observedAt) {
+    }
+
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    public KeyResultProgressBatchResult ingest(InputStream body) {
+        Long actorId = SecurityUtil.userId();
+
+        List<Item> results = new ArrayList<>();
+        List<Line> lines = parse(body, Instant.now(), results);
+
+        int applied = apply(lines, actorId, results, null);
+        return new KeyResultProgressBatchResult(results.size(), applied, List.copyOf(results));
+    }
+
+    /**
+     * Applies readings whose ownership was checked when they were accepted,
+     * e.g. by the write-behind buffer. Goal state, target and staleness are
+     * checked again.
+     * <p>
+     * A chunk that fails is rolled back and retried one goal at a time, so a
+     * single goal that cannot be written only holds back its own readings,
+     * which come back in {@link ReadingsResult#failed()}.
+     */
+    public ReadingsResult applyReadings(Collection<Reading> readings) {
+        List<Reading> indexed = new ArrayList<>(readings);
+        List<Item> results = new ArrayList<>(indexed.size());
+        List<Line> lines = new ArrayList<>(indexed.size());
+
+        for (Reading reading : indexed) {
+            lines.add(new Line(results.size(), 0, reading.keyResultId(), reading.value(), reading.observedAt()));
+            results.add(null);
+        }
+
+        List<Line> failed = new ArrayList<>();
+        int applied = apply(lines, null, results, failed);
+
+        return new ReadingsResult(
+                applied,
+                failed.stream().map(line -> indexed.get(line.index())).toList()
+        );
+    }
+
+    // actorId null: skip the ownership check; failed null: a failing chunk aborts the upload
+    private int apply(List<Line> lines, Long actorId, List<Item> results, List<Line> failed) {
+        Map<Long, List<Line>> linesByGoal = resolveGoals(latestPerKeyResult(lines, results), results);
+
+        for (Map<Long, List<Line>> chunk : chunks(linesByGoal)) {
+            if (failed == null) {
+                transactionTemplate.executeWithoutResult(status -> applyChunk(chunk, actorId, results));
+            } else {
+                applyIsolated(chunk, actorId, results, failed);
+            }
+        }
+
+        return (int) results.stream()
+                .filter(item -> item != null && item.outcome() == Outcome.APPLIED)
+                .count();
+    }
+
+    private void applyIsolated(
+            Map<Long, List<Line>> chunk,
+            Long actorId,
+            List<Item> results,
+            List<Line> failed
+    ) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyChunk(chunk, actorId, results));
+            return;
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                log.warn("Key result progress for goal {} failed, {} readings returned: {}",
+                        chunk.keySet().iterator().next(), chunk.values().iterator().next().size(), e.getMessage());
+                chunk.values().forEach(lines -> lines.forEach(line -> {
+                    // rolled back, whatever the chunk had recorded
+                    results.set(line.index(), null);
+                    failed.add(line);
+                }));
+                return;
+            }
+            log.warn("Key result progress chunk of {} goals failed, retrying goal by goal: {}",
+                    chunk.size(), e.getMessage());
+        }
+
+        // outcomes set before the rollback are overwritten by the retries
+        chunk.forEach((goalId, lines) ->
+                applyIsolated(Map.of(goalId, lines), actorId, results, failed));
+    }
+
+    /* ---------- Parsing ---------- */
+
+    // reserves one result slot per non-blank line; lines that fail validation fill theirs here
+    private List<Line> parse(InputStream body, Instant receivedAt, List<Item> results) {
+        List<Line> lines = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            int number = 0;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                number++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                if (results.size() == MAX_LINES) {
+                    throw new BusinessException(
+                            HttpStatus.BAD_REQUEST,
+                            ErrorCode.INVALID_INPUT,
+                            "An upload can contain at most " + MAX_LINES + " updates"
+                    );
+                }
+
+                int index = results.size();
+                results.add(null);
+
+                KeyResultProgressUpdate update;
+                try {
+                    update = objectMapper.readValue(text, KeyResultProgressUpdate.class);
+                } catch (JsonProcessingException e) {
+                    results.set(index, new Item(number, null, Outcome.INVALID, "Malformed JSON"));
+                    continue;
+                }
+
+                String problem = validate(update);
+                if (problem != null) {
+                    Long keyResultId = update == null ? null : update.keyResultId;
+                    results.set(index, new Item(number, keyResultId, Outcome.INVALID, problem));
+                    continue;
+                }
+
+                Instant observedAt;
+                try {
+                    observedAt = update.observedAt == null
+                            ? receivedAt
+                            : OffsetDateTime.parse(update.observedAt).toInstant();
+                } catch (DateTimeParseException e) {
+                    results.set(index, new Item(
+                            number, update.keyResultId, Outcome.INVALID, "observedAt must be an ISO-8601 timestamp with offset"
+                    ));
+                    continue;
+                }
+
+                lines.add(new Line(index, number, update.keyResultId, update.value, observedAt));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return lines;
+    }
+
+    private static String validate(KeyResultProgressUpdate update) {
+        if (update == null || update.keyResultId == null) {
+            return "keyResultId is required";
+        }
+        if (update.value == null || !Double.isFinite(update.value)) {
+            return "value is required";
+        }
+        if (update.value < 0) {
+            return "Progress cannot be negative";
+        }
+        return null;
+    }
+
+    private static Map<Long, Line> latestPerKeyResult(List<Line> lines, List<Item> results) {
+        Map<Long, Line> latest = new LinkedHashMap<>();
+
+        for (Line line : lines) {
+            Line previous = latest.get(line.keyResultId());
+            if (previous == null) {
+                latest.put(line.keyResultId(), line);
+            } else if (line.observedAt().isBefore(previous.observedAt())) {
+                results.set(line.index(), item(line, Outcome.SUPERSEDED, "A later reading is in this upload"));
+            } else {
+                // equal timestamps: the later line wins
+                results.set(previous.index(), item(previous, Outcome.SUPERSEDED, "A later reading is in this upload"));
+                latest.put(line.keyResultId(), line);
+            }
+        }
+        return latest;
+    }
+
+    /* ---------- Goal resolution ---------- */
+
+    private Map<Long, List<Line>> resolveGoals(Map<Long, Line> latest, List<Item> results) {
+        Map<Long, Long> goalIdByKeyResult = new HashMap<>();
+        List<Long> keyResultIds = new ArrayList<>(latest.keySet());
+
+        for (int from = 0; from < keyResultIds.size(); from += LOOKUP_SIZE) {
+            List<Long> ids = keyResultIds.subList(from, Math.min(keyResultIds.size(), from + LOOKUP_SIZE));
+            for (KeyResultGoal row : keyResultRepository.findGoalIds(ids)) {
+                goalIdByKeyResult.put(row.keyResultId(), row.goalId());
+            }
+        }
+
+        Map<Long, List<Line>> linesByGoal = new LinkedHashMap<>();
+        for (Line line : latest.values()) {
+            Long goalId = goalIdByKeyResult.get(line.keyResultId());
+            if (goalId == null) {
+                results.set(line.index(), item(line, Outcome.NOT_FOUND, "Key result not found"));
+            } else {
+                linesByGoal.computeIfAbsent(goalId, id -> new ArrayList<>()).add(line);
+            }
+        }
+        return linesByGoal;
+    }
+
+    private static List<Map<Long, List<Line>>> chunks(Map<Long, List<Line>> linesByGoal) {
+        List<Map<Long, List<Line>>> chunks = new ArrayList<>();
+        Map<Long, List<Line>> current = new LinkedHashMap<>();
+        int updates = 0;
+
+        for (Map.Entry<Long, List<Line>> entry : linesByGoal.entrySet()) {
+            if (updates > 0 && updates + entry.getValue().size() > CHUNK_SIZE) {
+                chunks.add(current);
+                current = new LinkedHashMap<>();
+                updates = 0;
+            }
+            current.put(entry.getKey(), entry.getValue());
+            updates += entry.getValue().size();
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    /* ---------- Apply ---------- */
+
+    private void applyChunk(Map<Long, List<Line>> chunk, Long actorId, List<Item> results) {
+        Map<Long, Goal> goals = new HashMap<>();
+        for (Goal goal : goalRepository.findWithKeyResultsByIdIn(chunk.keySet())) {
+            goals.put(goal.getId(), goal);
+        }
+
+        // validate everything first so only goals that really change are snapshotted
+        Map<Goal, List<Line>> accepted = new LinkedHashMap<>();
+        Map<Line, KeyResult> keyResults = new HashMap<>();
+
+        chunk.forEach((goalId, lines) -> {
+            Goal goal = goals.get(goalId);
+            Outcome rejected = goal == null ? Outcome.NOT_FOUND : checkGoal(goal, actorId);
+            if (rejected != null) {
+                lines.forEach(line -> results.set(line.index(), item(line, rejected, goalMessage(rejected))));
+                return;
+            }
+
+            Map<Long, KeyResult> byId = new HashMap<>();
+            goal.getKeyResults().forEach(kr -> byId.put(kr.getId(), kr));
+
+            for (Line line : lines) {
+                KeyResult kr = byId.get(line.keyResultId());
+                if (kr == null) {
+                    // moved or deleted since the lookup
+                    results.set(line.index(), item(line, Outcome.NOT_FOUND, "Key result not found"));
+                } else if (line.value() > kr.getTargetValue()) {
+                    results.set(line.index(), item(line, Outcome.INVALID, "Progress cannot exceed target value"));
+                } else if (kr.getProgressObservedAt() != null && !line.observedAt().isAfter(kr.getProgressObservedAt())) {
+                    results.set(line.index(), item(line, Outcome.STALE, "A newer reading is already stored"));
+                } else {
+                    accepted.computeIfAbsent(goal, g -> new ArrayList<>()).add(line);
+                    keyResults.put(line, kr);
+                }
+            }
+        });
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        Map<Long, GoalProgressAggregator.Snapshot> before = progressAggregator.beforeChanges(accepted.keySet());
+        Set<GoalProgressChangedEvent> events = new LinkedHashSet<>();
+        List<ProgressPoint> history = new ArrayList<>();
+
+        accepted.forEach((goal, lines) -> {
+            for (Line line : lines) {
+                KeyResult kr = keyResults.get(line);
+                double previousRatio = kr.progressRatio();
+
+                kr.updateProgress(line.value());
+                kr.setProgressObservedAt(line.observedAt());
+                goal.applyKeyResultProgressChange(previousRatio, kr.progressRatio());
+                history.add(new ProgressPoint(kr.getId(), line.observedAt(), line.value()));
+
+                results.set(line.index(), item(line, Outcome.APPLIED, null));
+            }
+
+            // once per goal, however many of its key results changed
+            goalService.autoCompleteGoalIfEligible(goal);
+            events.add(new GoalProgressChangedEvent(goal.getEmployeeId(), goal.getPerformanceCycle().getId()));
+        });
+
+        progressAggregator.goalsChanged(before, accepted.keySet());
+        historyRepository.append(history);
+        events.forEach(eventPublisher::publishEvent);
+    }
+
+    private static Outcome checkGoal(Goal goal, Long actorId) {
+        if (actorId != null && !goal.getEmployeeId().equals(actorId)) {
+            return Outcome.FORBIDDEN;
+        }
+        if (goal.getStatus() != GoalStatus.APPROVED && goal.getStatus() != GoalStatus.COMPLETED) {
+            return Outcome.CONFLICT;
+        }
+        return null;
+    }
+
+    private static String goalMessage(Outcome outcome) {
+        return switch (outcome) {
+            case FORBIDDEN -> "You cannot update someone else's key result";
+            case CONFLICT -> "Progress can only be updated for approved goals";
+            default -> "Key result not found";
+        };
+    }
+
+    private static Item item(Line line, Outcome outcome, String message) {
+        return new Item(line.number(), line.keyResultId(), outcome, message);
+    }
+}
@@ -3,28 +3,48 @@ package com.example.performance_management_system.keyresult.service;
 import com.example.performance_management_system.common.error.ErrorCode;
 import com.example.performance_management_system.common.exception.BusinessException;
 import com.example.performance_management_system.config.security.SecurityUtil;
+import com.example.performance_management_system.goal.event.GoalProgressChangedEvent;
 import com.example.performance_management_system.goal.model.Goal;
 import com.example.performance_management_system.goal.model.GoalStatus;
+import com.example.performance_management_system.goal.service.GoalProgressAggregator;
 import com.example.performance_management_system.goal.service.GoalService;
 import com.example.performance_management_system.keyresult.model.KeyResult;
+import com.example.performance_management_system.keyresult.repository.KeyResultProgressHistoryRepository;
+import com.example.performance_management_system.keyresult.repository.KeyResultProgressHistoryRepository.ProgressPoint;
 import com.example.performance_management_system.keyresult.repository.KeyResultRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
+
 @Service
 public class KeyResultService {
 
     private final KeyResultRepository repository;
     private final GoalService goalService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GoalProgressAggregator progressAggregator;
+    private final KeyResultWriteBehindBuffer writeBehindBuffer;
+    private final KeyResultProgressHistoryRepository historyRepository;
 
     public KeyResultService(
             KeyResultRepository repository,
-            GoalService goalService
+            GoalService goalService,
+            ApplicationEventPublisher eventPublisher,
+            GoalProgressAggregator progressAggregator,
+            KeyResultWriteBehindBuffer writeBehindBuffer,
+            KeyResultProgressHistoryRepository historyRepository
     ) {
         this.repository = repository;
         this.goalService = goalService;
+        this.eventPublisher = eventPublisher;
+        this.progressAggregator = progressAggregator;
+        this.writeBehindBuffer = writeBehindBuffer;
+        this.historyRepository = historyRepository;
     }
 
     @PreAuthorize("hasRole('EMPLOYEE')")
@@ -66,8 +86,16 @@ public class KeyResultService {
             );
         }
 
+        if (writeBehindBuffer.isEnabled()) {
+            return buffer(kr, value);
+        }
+
+        GoalProgressAggregator.Snapshot before = progressAggregator.beforeChange(goal);
+        double previousRatio = kr.progressRatio();
+
         try {
             kr.updateProgress(value);
+            kr.setProgressObservedAt(Instant.now());
         } catch (IllegalArgumentException e) {
             throw new BusinessException(
                     HttpStatus.BAD_REQUEST,
@@ -75,8 +103,42 @@ public class KeyResultService {
                     e.getMessage()
             );
         }
+        historyRepository.append(List.of(
+                new ProgressPoint(kr.getId(), kr.getProgressObservedAt(), kr.getCurrentValue())
+        ));
+        goal.applyKeyResultProgressChange(previousRatio, kr.progressRatio());
         goalService.autoCompleteGoalIfEligible(goal);
+        progressAggregator.goalChanged(before, goal);
+
+        eventPublisher.publishEvent(new GoalProgressChangedEvent(
+                goal.getEmployeeId(),
+                goal.getPerformanceCycle().getId()
+        ));
 
         return repository.save(kr);
     }
+
+    /**
+     * Write-behind mode: the update is validated here but written by the
+     * buffer's next flush. The returned copy shows the accepted value; the
+     * managed entity is left untouched so this transaction writes nothing.
+     */
+    private KeyResult buffer(KeyResult kr, Double value) {
+        if (value < 0) {
+            throw new BusinessException(
+                    HttpStatus.BAD_REQUEST,
+                    ErrorCode.VALIDATION_FAILED,
+                    "Progress cannot be negative"
+            );
+        }
+
+        writeBehindBuffer.put(new KeyResultIngestionService.Reading(kr.getId(), value, Instant.now()));
+
+        KeyResult accepted = new KeyResult();
+        accepted.setId(kr.getId());
+        accepted.setMetric(kr.getMetric());
+        accepted.setTargetValue(kr.getTargetValue());
+        accepted.setCurrentValue(value);
+        return accepted;
+    }
 }
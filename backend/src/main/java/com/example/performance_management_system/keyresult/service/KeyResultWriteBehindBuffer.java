@@ -0,0 +1,318 @@
+package com.example.performance_management_system.keyresult.service;
+
+import com.example.performance_management_system.keyresult.service.KeyResultIngestionService.Reading;
+import com.example.performance_management_system.keyresult.service.KeyResultIngestionService.ReadingsResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Opt-in write-behind for single key result progress updates
+ * ({@code pms.key-results.write-behind.enabled}).
+ * <p>
+ * Accepted readings are coalesced per key result in lock-striped maps, where
+ * the latest {@code observedAt} wins, and written through
+ * {@link KeyResultIngestionService#applyReadings} every
+ * {@code flush-interval-ms} or as soon as {@code max-entries} key results are
+ * pending. Failures are isolated per goal: only the readings of a goal that
+ * could not be written go back into the buffer (unless newer ones arrived),
+ * and after {@link #MAX_FLUSH_ATTEMPTS} failed flushes a reading is logged as
+ * dead and dropped, so one bad goal cannot hold back the rest indefinitely.
+ * <p>
+ * Pending readings are flushed when the application shuts down, after the web
+ * server has stopped taking requests. They live only in memory, so a crash
+ * loses at most one flush interval of updates.
+ */
+@Component
+public class KeyResultWriteBehindBuffer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(KeyResultWriteBehindBuffer.class);
+
+    private static final int STRIPES = 16;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    static final int MAX_FLUSH_ATTEMPTS = 10;
+
+    private final KeyResultIngestionService ingestionService;
+    private final boolean enabled;
+    private final long flushIntervalMillis;
+    private final int maxEntries;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Timer flushTimer;
+    private final Counter coalescedCounter;
+    private final Counter flushedCounter;
+    private final Counter failureCounter;
+    private final Counter deadLetterCounter;
+
+    private volatile boolean running;
+    private ScheduledExecutorService flusher;
+
+    public KeyResultWriteBehindBuffer(
+            KeyResultIngestionService ingestionService,
+            MeterRegistry meterRegistry,
+            @Value("${pms.key-results.write-behind.enabled:false}") boolean enabled,
+            @Value("${pms.key-results.write-behind.flush-interval-ms:500}") long flushIntervalMillis,
+            @Value("${pms.key-results.write-behind.max-entries:1000}") int maxEntries
+    ) {
+        this.ingestionService = ingestionService;
+        this.enabled = enabled;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxEntries = maxEntries;
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+
+        Gauge.builder("key_result.write_behind.depth", depth, AtomicInteger::get)
+                .description("Key results with a buffered progress update")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("key_result.write_behind.flush")
+                .description("Time to write one drained buffer to the database")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("key_result.write_behind.coalesced")
+                .description("Updates merged into an already buffered key result")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("key_result.write_behind.flushed")
+                .description("Buffered updates handed to the database")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("key_result.write_behind.failures")
+                .description("Flushes that left readings to retry")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("key_result.write_behind.dead_lettered")
+                .description("Readings dropped after " + MAX_FLUSH_ATTEMPTS + " failed flushes")
+                .register(meterRegistry);
+    }
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        Map<Long, Pending> pending = new HashMap<>();
+    }
+
+    // failedFlushes counts flushes that could not write this reading
+    private record Pending(Reading reading, int failedFlushes) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Buffers a validated reading. Once the buffer has stopped, the reading
+     * is written straight away instead.
+     */
+    public void put(Reading reading) {
+        if (!running) {
+            if (!ingestionService.applyReadings(List.of(reading)).failed().isEmpty()) {
+                throw new IllegalStateException("Could not write progress of key result " + reading.keyResultId());
+            }
+            return;
+        }
+
+        int pending = merge(new Pending(reading, 0), true);
+
+        if (pending >= maxEntries && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                // shutting down; the final flush picks it up
+            }
+        }
+    }
+
+    /**
+     * Writes everything buffered so far; returns the number of readings applied.
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+
+            List<Pending> drained = drain();
+            if (drained.isEmpty()) {
+                return 0;
+            }
+
+            Timer.Sample sample = Timer.start();
+            try {
+                ReadingsResult result;
+                try {
+                    result = ingestionService.applyReadings(drained.stream().map(Pending::reading).toList());
+                } catch (RuntimeException e) {
+                    // nothing was written (the lookup failed, e.g. no database); not held against the readings
+                    failureCounter.increment();
+                    drained.forEach(pending -> merge(pending, false));
+                    throw e;
+                }
+
+                flushedCounter.increment(drained.size() - result.failed().size());
+                if (!result.failed().isEmpty()) {
+                    failureCounter.increment();
+                    requeue(drained, result.failed());
+                }
+                return result.applied();
+            } finally {
+                sample.stop(flushTimer);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /* ---------- Buffer ---------- */
+
+    // returns the number of pending key results after the merge
+    private int merge(Pending incoming, boolean countCoalesced) {
+        Long keyResultId = incoming.reading().keyResultId();
+        Stripe stripe = stripeOf(keyResultId);
+
+        stripe.lock.lock();
+        try {
+            Pending previous = stripe.pending.get(keyResultId);
+            if (previous == null) {
+                stripe.pending.put(keyResultId, incoming);
+                return depth.incrementAndGet();
+            }
+
+            if (countCoalesced) {
+                coalescedCounter.increment();
+            }
+            if (!incoming.reading().observedAt().isBefore(previous.reading().observedAt())) {
+                stripe.pending.put(keyResultId, incoming);
+            }
+            return depth.get();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // puts failed readings back, or drops them once they have failed too often
+    private void requeue(List<Pending> drained, List<Reading> failed) {
+        Map<Long, Pending> byKeyResult = new HashMap<>();
+        drained.forEach(pending -> byKeyResult.put(pending.reading().keyResultId(), pending));
+
+        for (Reading reading : failed) {
+            int failedFlushes = byKeyResult.get(reading.keyResultId()).failedFlushes() + 1;
+            if (failedFlushes >= MAX_FLUSH_ATTEMPTS) {
+                deadLetterCounter.increment();
+                log.error("Dropping progress {} of key result {} observed at {} after {} failed flushes",
+                        reading.value(), reading.keyResultId(), reading.observedAt(), failedFlushes);
+            } else {
+                merge(new Pending(reading, failedFlushes), false);
+            }
+        }
+    }
+
+    private List<Pending> drain() {
+        List<Pending> drained = new ArrayList<>();
+
+        for (Stripe stripe : stripes) {
+            Map<Long, Pending> pending;
+            stripe.lock.lock();
+            try {
+                if (stripe.pending.isEmpty()) {
+                    continue;
+                }
+                pending = stripe.pending;
+                stripe.pending = new HashMap<>();
+            } finally {
+                stripe.lock.unlock();
+            }
+
+            depth.addAndGet(-pending.size());
+            drained.addAll(pending.values());
+        }
+        return drained;
+    }
+
+    private Stripe stripeOf(Long keyResultId) {
+        int hash = Long.hashCode(keyResultId);
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Key result write-behind flush failed, {} updates kept for retry: {}", depth.get(), e.getMessage());
+        }
+    }
+
+    /* ---------- Lifecycle ---------- */
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "key-result-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int pending = depth.get();
+        try {
+            flush();
+            if (depth.get() > 0) {
+                log.error("Lost {} buffered key result updates on shutdown", depth.get());
+            } else {
+                log.info("Flushed {} buffered key result updates on shutdown", pending);
+            }
+        } catch (RuntimeException e) {
+            log.error("Lost {} buffered key result updates on shutdown", depth.get(), e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // lower than the web server's phases, so this stops after requests have drained
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.performance_management_system.performance.application.dto;
+
+import com.example.performance_management_system.performance.domain.model.valueobject.RatingCriteria;
+
+public record CalculateCycleScoresCommand(Long reviewCycleId, RatingCriteria criteria) {
+}
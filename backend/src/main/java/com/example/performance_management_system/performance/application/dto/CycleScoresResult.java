@@ -0,0 +1,9 @@
+package com.example.performance_management_system.performance.application.dto;
+
+public record CycleScoresResult(
+        Long reviewCycleId,
+        int draftReviews,
+        int reviewsUpdated,
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.performance_management_system.performance.application.port.in;
+
+import com.example.performance_management_system.performance.application.dto.CalculateCycleScoresCommand;
+import com.example.performance_management_system.performance.application.dto.CycleScoresResult;
+
+public interface CalculateCycleScoresUseCase {
+    CycleScoresResult calculateForCycle(CalculateCycleScoresCommand command);
+}
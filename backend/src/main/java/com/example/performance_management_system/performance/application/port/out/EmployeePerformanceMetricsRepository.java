@@ -2,10 +2,29 @@ package com.example.performance_management_system.performance.application.port.o
 
 import com.example.performance_management_system.performance.domain.model.valueobject.EmployeeId;
 import com.example.performance_management_system.performance.domain.model.valueobject.GoalProgress;
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalProgressAggregate;
 import com.example.performance_management_system.performance.domain.model.valueobject.ReviewCycleId;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface EmployeePerformanceMetricsRepository {
     List<GoalProgress> loadGoalProgress(EmployeeId employeeId, ReviewCycleId reviewCycleId);
+
+    /**
+     * Goal progress for several employees from a single query.
+     * Employees without goals in the cycle are absent from the map.
+     */
+    Map<EmployeeId, List<GoalProgress>> loadGoalProgress(Collection<EmployeeId> employeeIds, ReviewCycleId reviewCycleId);
+
+    Map<EmployeeId, List<GoalProgress>> loadGoalProgressForCycle(ReviewCycleId reviewCycleId);
+
+    /**
+     * The maintained progress roll-up, if one exists for the employee and cycle.
+     */
+    Optional<GoalProgressAggregate> loadProgressAggregate(EmployeeId employeeId, ReviewCycleId reviewCycleId);
+
+    Map<EmployeeId, GoalProgressAggregate> loadProgressAggregates(Collection<EmployeeId> employeeIds, ReviewCycleId reviewCycleId);
 }
@@ -2,11 +2,22 @@ package com.example.performance_management_system.performance.application.port.o
 
 import com.example.performance_management_system.performance.domain.model.entity.PerformanceReview;
 import com.example.performance_management_system.performance.domain.model.valueobject.EmployeeId;
+import com.example.performance_management_system.performance.domain.model.valueobject.PerformanceScore;
 import com.example.performance_management_system.performance.domain.model.valueobject.ReviewCycleId;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PerformanceReviewRepository {
     Optional<PerformanceReview> findByEmployeeAndCycle(EmployeeId employeeId, ReviewCycleId reviewCycleId);
     PerformanceReview save(PerformanceReview review);
+
+    List<EmployeeId> findDraftEmployeeIds(ReviewCycleId reviewCycleId);
+
+    /**
+     * Writes the scores of reviews that are still in DRAFT; reviews that moved on
+     * in the meantime are left untouched. Returns the number of reviews updated.
+     */
+    int updateDraftScores(ReviewCycleId reviewCycleId, Map<EmployeeId, PerformanceScore> scores, String justification);
 }
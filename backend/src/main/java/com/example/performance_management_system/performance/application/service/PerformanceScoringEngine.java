@@ -0,0 +1,179 @@
+package com.example.performance_management_system.performance.application.service;
+
+import com.example.performance_management_system.performance.application.port.out.EmployeePerformanceMetricsRepository;
+import com.example.performance_management_system.performance.domain.model.valueobject.EmployeeId;
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalProgress;
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalProgressAggregate;
+import com.example.performance_management_system.performance.domain.model.valueobject.PerformanceScore;
+import com.example.performance_management_system.performance.domain.model.valueobject.RatingCriteria;
+import com.example.performance_management_system.performance.domain.model.valueobject.ReviewCycleId;
+import com.example.performance_management_system.performance.domain.service.PerformanceScoreCalculator;
+import com.example.performance_management_system.performance.domain.service.ScoringColumns;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The single place performance scores are computed.
+ * <p>
+ * Scores under the standard criteria are cached per (employee, cycle) and evicted
+ * when the employee's goals or key results change, so repeated reads (e.g. while a
+ * manager edits a rating) cost no queries. Custom criteria are always computed fresh.
+ * <p>
+ * Misses are scored from the maintained per-(employee, cycle) progress roll-up when
+ * one exists, and from the goal and key result rows otherwise.
+ */
+@Service
+public class PerformanceScoringEngine {
+
+    /** Above this many uncached employees the whole cycle is streamed instead of filtered by id. */
+    private static final int CYCLE_SCAN_THRESHOLD = 5000;
+
+    private final EmployeePerformanceMetricsRepository metricsRepository;
+    private final PerformanceScoreCalculator calculator = new PerformanceScoreCalculator();
+
+    private final ConcurrentHashMap<ScoreKey, PerformanceScore> cache = new ConcurrentHashMap<>();
+
+    // bumped on every eviction so loads that raced with a change are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public PerformanceScoringEngine(EmployeePerformanceMetricsRepository metricsRepository) {
+        this.metricsRepository = metricsRepository;
+    }
+
+    public PerformanceScore score(EmployeeId employeeId, ReviewCycleId cycleId) {
+        return score(employeeId, cycleId, null);
+    }
+
+    public PerformanceScore score(EmployeeId employeeId, ReviewCycleId cycleId, RatingCriteria criteria) {
+        if (!isStandard(criteria)) {
+            return load(employeeId, cycleId, criteria);
+        }
+
+        ScoreKey key = new ScoreKey(employeeId, cycleId);
+        PerformanceScore cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadedAt = generation.get();
+        PerformanceScore score = load(employeeId, cycleId, RatingCriteria.standard());
+        cacheIfCurrent(key, score, loadedAt);
+        return score;
+    }
+
+    /**
+     * Scores many employees of one cycle; cache misses are loaded with a single
+     * query and scored through the columnar kernel.
+     */
+    public Map<EmployeeId, PerformanceScore> scoreAll(
+            Collection<EmployeeId> employeeIds,
+            ReviewCycleId cycleId,
+            RatingCriteria criteria
+    ) {
+        boolean standard = isStandard(criteria);
+        RatingCriteria effective = standard ? RatingCriteria.standard() : criteria;
+
+        Map<EmployeeId, PerformanceScore> scores = new HashMap<>();
+        List<EmployeeId> missing = new ArrayList<>();
+
+        for (EmployeeId employeeId : employeeIds) {
+            PerformanceScore cached = standard ? cache.get(new ScoreKey(employeeId, cycleId)) : null;
+            if (cached != null) {
+                scores.put(employeeId, cached);
+            } else if (!scores.containsKey(employeeId)) {
+                missing.add(employeeId);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return scores;
+        }
+
+        long loadedAt = generation.get();
+
+        Map<EmployeeId, GoalProgressAggregate> aggregates = metricsRepository.loadProgressAggregates(missing, cycleId);
+        if (!aggregates.isEmpty()) {
+            List<EmployeeId> unaggregated = new ArrayList<>();
+            for (EmployeeId employeeId : missing) {
+                GoalProgressAggregate aggregate = aggregates.get(employeeId);
+                if (aggregate == null) {
+                    unaggregated.add(employeeId);
+                    continue;
+                }
+                PerformanceScore score = calculator.calculate(aggregate, effective);
+                scores.put(employeeId, score);
+                if (standard) {
+                    cacheIfCurrent(new ScoreKey(employeeId, cycleId), score, loadedAt);
+                }
+            }
+            missing = unaggregated;
+            if (missing.isEmpty()) {
+                return scores;
+            }
+        }
+
+        Map<EmployeeId, List<GoalProgress>> goalsByEmployee = missing.size() > CYCLE_SCAN_THRESHOLD
+                ? metricsRepository.loadGoalProgressForCycle(cycleId)
+                : metricsRepository.loadGoalProgress(missing, cycleId);
+
+        ScoringColumns.Builder columns = ScoringColumns.builder();
+        for (EmployeeId employeeId : missing) {
+            columns.startEmployee();
+            goalsByEmployee.getOrDefault(employeeId, List.of()).forEach(columns::addGoal);
+        }
+
+        double[] raw = calculator.calculateAll(columns.build(), effective);
+
+        for (int i = 0; i < raw.length; i++) {
+            EmployeeId employeeId = missing.get(i);
+            PerformanceScore score = new PerformanceScore(raw[i]);
+            scores.put(employeeId, score);
+            if (standard) {
+                cacheIfCurrent(new ScoreKey(employeeId, cycleId), score, loadedAt);
+            }
+        }
+
+        return scores;
+    }
+
+    public void evict(EmployeeId employeeId, ReviewCycleId cycleId) {
+        generation.incrementAndGet();
+        cache.remove(new ScoreKey(employeeId, cycleId));
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private PerformanceScore load(EmployeeId employeeId, ReviewCycleId cycleId, RatingCriteria criteria) {
+        return metricsRepository.loadProgressAggregate(employeeId, cycleId)
+                .map(aggregate -> calculator.calculate(aggregate, criteria))
+                .orElseGet(() -> calculator.calculate(metricsRepository.loadGoalProgress(employeeId, cycleId), criteria));
+    }
+
+    private void cacheIfCurrent(ScoreKey key, PerformanceScore score, long loadedAt) {
+        if (generation.get() != loadedAt) {
+            return;
+        }
+        cache.put(key, score);
+        // an eviction may have slipped in between the check and the put
+        if (generation.get() != loadedAt) {
+            cache.remove(key, score);
+        }
+    }
+
+    private static boolean isStandard(RatingCriteria criteria) {
+        return criteria == null || criteria.equals(RatingCriteria.standard());
+    }
+
+    private record ScoreKey(EmployeeId employeeId, ReviewCycleId cycleId) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.performance_management_system.performance.application.usecase;
+
+import com.example.performance_management_system.performance.application.dto.CalculateCycleScoresCommand;
+import com.example.performance_management_system.performance.application.dto.CycleScoresResult;
+import com.example.performance_management_system.performance.application.port.in.CalculateCycleScoresUseCase;
+import com.example.performance_management_system.performance.application.port.out.PerformanceReviewRepository;
+import com.example.performance_management_system.performance.application.service.PerformanceScoringEngine;
+import com.example.performance_management_system.performance.domain.model.valueobject.EmployeeId;
+import com.example.performance_management_system.performance.domain.model.valueobject.PerformanceScore;
+import com.example.performance_management_system.performance.domain.model.valueobject.ReviewCycleId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class CalculateCycleScoresService implements CalculateCycleScoresUseCase {
+
+    private final PerformanceScoringEngine scoringEngine;
+    private final PerformanceReviewRepository performanceReviewRepository;
+
+    public CalculateCycleScoresService(
+            PerformanceScoringEngine scoringEngine,
+            PerformanceReviewRepository performanceReviewRepository
+    ) {
+        this.scoringEngine = scoringEngine;
+        this.performanceReviewRepository = performanceReviewRepository;
+    }
+
+    @Override
+    @Transactional
+    public CycleScoresResult calculateForCycle(CalculateCycleScoresCommand command) {
+        long startedAt = System.nanoTime();
+
+        ReviewCycleId cycleId = new ReviewCycleId(command.reviewCycleId());
+
+        List<EmployeeId> draftEmployees = performanceReviewRepository.findDraftEmployeeIds(cycleId);
+
+        Map<EmployeeId, PerformanceScore> scores = scoringEngine.scoreAll(
+                draftEmployees,
+                cycleId,
+                command.criteria()
+        );
+
+        int updated = performanceReviewRepository.updateDraftScores(
+                cycleId,
+                scores,
+                "Calculated from goals via domain service"
+        );
+
+        return new CycleScoresResult(
+                cycleId.value(),
+                draftEmployees.size(),
+                updated,
+                (System.nanoTime() - startedAt) / 1_000_000
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.performance_management_system.performance.domain.model.valueobject;
+
+/**
+ * Per-(employee, cycle) roll-up of goal progress: the number of goals and, per
+ * status, the sum of each goal's average key result ratio.
+ */
+public record GoalProgressAggregate(int goalCount,
+                                    double completedRatioSum,
+                                    double approvedRatioSum,
+                                    double submittedRatioSum,
+                                    double draftRatioSum,
+                                    double rejectedRatioSum,
+                                    double archivedRatioSum) {
+
+    public GoalProgressAggregate {
+        if (goalCount < 0) {
+            throw new IllegalArgumentException("Goal count cannot be negative");
+        }
+    }
+
+    public double weightedRatioSum(RatingCriteria criteria) {
+        return completedRatioSum * criteria.completedWeight()
+                + approvedRatioSum * criteria.approvedWeight()
+                + submittedRatioSum * criteria.submittedWeight()
+                + draftRatioSum * criteria.draftWeight()
+                + rejectedRatioSum * criteria.rejectedWeight()
+                + archivedRatioSum * criteria.archivedWeight();
+    }
+}
@@ -1,15 +1,18 @@
 package com.example.performance_management_system.performance.domain.service;
 
 import com.example.performance_management_system.performance.domain.model.valueobject.GoalProgress;
-import com.example.performance_management_system.performance.domain.model.valueobject.GoalStatusSnapshot;
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalProgressAggregate;
 import com.example.performance_management_system.performance.domain.model.valueobject.PerformanceScore;
 import com.example.performance_management_system.performance.domain.model.valueobject.RatingCriteria;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 public final class PerformanceScoreCalculator {
 
+    private static final int PARALLEL_BLOCK_SIZE = 4096;
+
     public PerformanceScore calculate(List<GoalProgress> goals, RatingCriteria ratingCriteria) {
         Objects.requireNonNull(goals, "Goals are required");
         Objects.requireNonNull(ratingCriteria, "Rating criteria are required");
@@ -18,22 +21,54 @@ public final class PerformanceScoreCalculator {
             return new PerformanceScore(1.0);
         }
 
-        double averageScore = goals.stream()
-                .mapToDouble(goal -> goal.averageProgressRatio() * statusWeight(goal.status(), ratingCriteria) * 5.0)
-                .average()
-                .orElse(1.0);
+        return new PerformanceScore(PerformanceScoreKernel.scoreEmployee(
+                ScoringColumns.of(goals),
+                PerformanceScoreKernel.statusWeights(ratingCriteria),
+                0
+        ));
+    }
+
+    /**
+     * Scores from a pre-aggregated roll-up without touching individual goals.
+     * Sums are plain rather than compensated, so a score can differ from the
+     * goal-based calculation only when the raw value sits on a rounding boundary.
+     */
+    public PerformanceScore calculate(GoalProgressAggregate aggregate, RatingCriteria ratingCriteria) {
+        Objects.requireNonNull(aggregate, "Goal progress aggregate is required");
+        Objects.requireNonNull(ratingCriteria, "Rating criteria are required");
+
+        if (aggregate.goalCount() == 0) {
+            return new PerformanceScore(1.0);
+        }
 
-        return PerformanceScore.fromRaw(averageScore);
+        return PerformanceScore.fromRaw(aggregate.weightedRatioSum(ratingCriteria) * 5.0 / aggregate.goalCount());
     }
 
-    private double statusWeight(GoalStatusSnapshot status, RatingCriteria ratingCriteria) {
-        return switch (status) {
-            case COMPLETED -> ratingCriteria.completedWeight();
-            case APPROVED -> ratingCriteria.approvedWeight();
-            case SUBMITTED -> ratingCriteria.submittedWeight();
-            case DRAFT -> ratingCriteria.draftWeight();
-            case REJECTED -> ratingCriteria.rejectedWeight();
-            case ARCHIVED -> ratingCriteria.archivedWeight();
-        };
+    /**
+     * Scores every employee in {@code columns}; the result is indexed like the employees.
+     * Large inputs are split into blocks and scored in parallel.
+     */
+    public double[] calculateAll(ScoringColumns columns, RatingCriteria ratingCriteria) {
+        Objects.requireNonNull(columns, "Scoring columns are required");
+        Objects.requireNonNull(ratingCriteria, "Rating criteria are required");
+
+        int employees = columns.employeeCount();
+        double[] weights = PerformanceScoreKernel.statusWeights(ratingCriteria);
+        double[] scores = new double[employees];
+
+        int blocks = (employees + PARALLEL_BLOCK_SIZE - 1) / PARALLEL_BLOCK_SIZE;
+        if (blocks <= 1) {
+            PerformanceScoreKernel.score(columns, weights, scores, 0, employees);
+        } else {
+            IntStream.range(0, blocks).parallel().forEach(block -> PerformanceScoreKernel.score(
+                    columns,
+                    weights,
+                    scores,
+                    block * PARALLEL_BLOCK_SIZE,
+                    Math.min(employees, (block + 1) * PARALLEL_BLOCK_SIZE)
+            ));
+        }
+
+        return scores;
     }
 }
@@ -0,0 +1,100 @@
+package com.example.performance_management_system.performance.domain.service;
+
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalStatusSnapshot;
+import com.example.performance_management_system.performance.domain.model.valueobject.RatingCriteria;
+
+/**
+ * Scores employees straight off {@link ScoringColumns} in a single pass with no
+ * per-goal or per-key-result allocation.
+ * <p>
+ * Averages use the same compensated summation as {@code DoubleStream.average()},
+ * so scores match the record-based calculation bit for bit.
+ */
+public final class PerformanceScoreKernel {
+
+    private PerformanceScoreKernel() {
+    }
+
+    /**
+     * Status weights indexed by {@link GoalStatusSnapshot#ordinal()}.
+     */
+    public static double[] statusWeights(RatingCriteria criteria) {
+        double[] weights = new double[GoalStatusSnapshot.values().length];
+        weights[GoalStatusSnapshot.COMPLETED.ordinal()] = criteria.completedWeight();
+        weights[GoalStatusSnapshot.APPROVED.ordinal()] = criteria.approvedWeight();
+        weights[GoalStatusSnapshot.SUBMITTED.ordinal()] = criteria.submittedWeight();
+        weights[GoalStatusSnapshot.DRAFT.ordinal()] = criteria.draftWeight();
+        weights[GoalStatusSnapshot.REJECTED.ordinal()] = criteria.rejectedWeight();
+        weights[GoalStatusSnapshot.ARCHIVED.ordinal()] = criteria.archivedWeight();
+        return weights;
+    }
+
+    /**
+     * Writes the scores of employees {@code [fromEmployee, toEmployee)} into {@code scores}.
+     */
+    public static void score(
+            ScoringColumns columns,
+            double[] statusWeights,
+            double[] scores,
+            int fromEmployee,
+            int toEmployee
+    ) {
+        for (int employee = fromEmployee; employee < toEmployee; employee++) {
+            scores[employee] = scoreEmployee(columns, statusWeights, employee);
+        }
+    }
+
+    public static double scoreEmployee(ScoringColumns columns, double[] statusWeights, int employee) {
+        int[] employeeGoalOffsets = columns.employeeGoalOffsets();
+        int[] goalStatuses = columns.goalStatuses();
+        int[] goalKeyResultOffsets = columns.goalKeyResultOffsets();
+        double[] current = columns.keyResultCurrent();
+        double[] target = columns.keyResultTarget();
+
+        int firstGoal = employeeGoalOffsets[employee];
+        int lastGoal = employeeGoalOffsets[employee + 1];
+
+        if (firstGoal == lastGoal) {
+            return 1.0;
+        }
+
+        double goalSum = 0.0;
+        double goalCompensation = 0.0;
+
+        for (int goal = firstGoal; goal < lastGoal; goal++) {
+            int firstKeyResult = goalKeyResultOffsets[goal];
+            int lastKeyResult = goalKeyResultOffsets[goal + 1];
+
+            double progress = 0.0;
+            if (firstKeyResult < lastKeyResult) {
+                double ratioSum = 0.0;
+                double ratioCompensation = 0.0;
+
+                for (int kr = firstKeyResult; kr < lastKeyResult; kr++) {
+                    double ratio = target[kr] <= 0.0
+                            ? 0.0
+                            : Math.max(0.0, Math.min(1.0, current[kr] / target[kr]));
+
+                    double adjusted = ratio - ratioCompensation;
+                    double next = ratioSum + adjusted;
+                    ratioCompensation = (next - ratioSum) - adjusted;
+                    ratioSum = next;
+                }
+
+                progress = (ratioSum - ratioCompensation) / (lastKeyResult - firstKeyResult);
+            }
+
+            double goalScore = progress * statusWeights[goalStatuses[goal]] * 5.0;
+
+            double adjusted = goalScore - goalCompensation;
+            double next = goalSum + adjusted;
+            goalCompensation = (next - goalSum) - adjusted;
+            goalSum = next;
+        }
+
+        double average = (goalSum - goalCompensation) / (lastGoal - firstGoal);
+
+        double bounded = Math.max(1.0, Math.min(5.0, average));
+        return Math.round(bounded * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.performance_management_system.performance.domain.service;
+
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalProgress;
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalStatusSnapshot;
+import com.example.performance_management_system.performance.domain.model.valueobject.KeyResultProgress;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Goal progress of many employees laid out as flat primitive columns.
+ * <p>
+ * Employee {@code e} owns goals {@code [employeeGoalOffsets[e], employeeGoalOffsets[e + 1])};
+ * goal {@code g} owns key results {@code [goalKeyResultOffsets[g], goalKeyResultOffsets[g + 1])}.
+ * Goal statuses are stored as {@link GoalStatusSnapshot} ordinals.
+ */
+public final class ScoringColumns {
+
+    private final int employeeCount;
+    private final int[] employeeGoalOffsets;
+    private final int[] goalStatuses;
+    private final int[] goalKeyResultOffsets;
+    private final double[] keyResultCurrent;
+    private final double[] keyResultTarget;
+
+    private ScoringColumns(Builder builder) {
+        this.employeeCount = builder.employeeCount;
+        this.employeeGoalOffsets = Arrays.copyOf(builder.employeeGoalOffsets, builder.employeeCount + 1);
+        this.goalStatuses = Arrays.copyOf(builder.goalStatuses, builder.goalCount);
+        this.goalKeyResultOffsets = Arrays.copyOf(builder.goalKeyResultOffsets, builder.goalCount + 1);
+        this.keyResultCurrent = Arrays.copyOf(builder.keyResultCurrent, builder.keyResultCount);
+        this.keyResultTarget = Arrays.copyOf(builder.keyResultTarget, builder.keyResultCount);
+    }
+
+    public static ScoringColumns of(List<GoalProgress> goals) {
+        Builder builder = builder();
+        builder.startEmployee();
+        for (GoalProgress goal : goals) {
+            builder.addGoal(goal);
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int employeeCount() { return employeeCount; }
+    public int goalCount() { return goalStatuses.length; }
+    public int keyResultCount() { return keyResultCurrent.length; }
+
+    int[] employeeGoalOffsets() { return employeeGoalOffsets; }
+    int[] goalStatuses() { return goalStatuses; }
+    int[] goalKeyResultOffsets() { return goalKeyResultOffsets; }
+    double[] keyResultCurrent() { return keyResultCurrent; }
+    double[] keyResultTarget() { return keyResultTarget; }
+
+    /**
+     * Appends employees, their goals and key results in order.
+     * Call {@link #startEmployee()} before adding an employee's goals (also for employees with none).
+     */
+    public static final class Builder {
+
+        private int employeeCount;
+        private int goalCount;
+        private int keyResultCount;
+
+        private int[] employeeGoalOffsets = new int[16];
+        private int[] goalStatuses = new int[16];
+        private int[] goalKeyResultOffsets = new int[16];
+        private double[] keyResultCurrent = new double[64];
+        private double[] keyResultTarget = new double[64];
+
+        private Builder() {
+        }
+
+        public Builder startEmployee() {
+            employeeCount++;
+            employeeGoalOffsets = ensureCapacity(employeeGoalOffsets, employeeCount + 1);
+            employeeGoalOffsets[employeeCount] = goalCount;
+            return this;
+        }
+
+        public Builder startGoal(GoalStatusSnapshot status) {
+            if (employeeCount == 0) {
+                throw new IllegalStateException("startEmployee must be called before adding goals");
+            }
+            goalStatuses = ensureCapacity(goalStatuses, goalCount + 1);
+            goalKeyResultOffsets = ensureCapacity(goalKeyResultOffsets, goalCount + 2);
+            goalStatuses[goalCount] = status.ordinal();
+            goalCount++;
+            goalKeyResultOffsets[goalCount] = keyResultCount;
+            employeeGoalOffsets[employeeCount] = goalCount;
+            return this;
+        }
+
+        public Builder addKeyResult(double currentValue, double targetValue) {
+            if (goalCount == 0) {
+                throw new IllegalStateException("startGoal must be called before adding key results");
+            }
+            keyResultCurrent = ensureCapacity(keyResultCurrent, keyResultCount + 1);
+            keyResultTarget = ensureCapacity(keyResultTarget, keyResultCount + 1);
+            keyResultCurrent[keyResultCount] = currentValue;
+            keyResultTarget[keyResultCount] = targetValue;
+            keyResultCount++;
+            goalKeyResultOffsets[goalCount] = keyResultCount;
+            return this;
+        }
+
+        public Builder addGoal(GoalProgress goal) {
+            startGoal(goal.status());
+            for (KeyResultProgress keyResult : goal.keyResults()) {
+                addKeyResult(keyResult.currentValue(), keyResult.targetValue());
+            }
+            return this;
+        }
+
+        public ScoringColumns build() {
+            return new ScoringColumns(this);
+        }
+
+        private static int[] ensureCapacity(int[] array, int required) {
+            return required <= array.length ? array : Arrays.copyOf(array, Math.max(required, array.length * 2));
+        }
+
+        private static double[] ensureCapacity(double[] array, int required) {
+            return required <= array.length ? array : Arrays.copyOf(array, Math.max(required, array.length * 2));
+        }
+    }
+}
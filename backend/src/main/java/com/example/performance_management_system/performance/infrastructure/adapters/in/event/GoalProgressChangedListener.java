@@ -0,0 +1,51 @@
+package com.example.performance_management_system.performance.infrastructure.adapters.in.event;
+
+import com.example.performance_management_system.common.cache.CacheInvalidationBus;
+import com.example.performance_management_system.common.cache.CacheInvalidationListener;
+import com.example.performance_management_system.common.cache.CacheNames;
+import com.example.performance_management_system.goal.event.GoalProgressChangedEvent;
+import com.example.performance_management_system.performance.application.service.PerformanceScoringEngine;
+import com.example.performance_management_system.performance.domain.model.valueobject.EmployeeId;
+import com.example.performance_management_system.performance.domain.model.valueobject.ReviewCycleId;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached scores on every node when an employee's goal progress changes.
+ * Keys on the bus are {@code employeeId:cycleId}.
+ */
+@Component
+public class GoalProgressChangedListener implements CacheInvalidationListener {
+
+    private final PerformanceScoringEngine scoringEngine;
+    private final CacheInvalidationBus invalidationBus;
+
+    public GoalProgressChangedListener(PerformanceScoringEngine scoringEngine, CacheInvalidationBus invalidationBus) {
+        this.scoringEngine = scoringEngine;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(CacheNames.PERFORMANCE_SCORE, this);
+    }
+
+    // the bus defers delivery until after commit, so a concurrent reader cannot re-cache the pre-change score
+    @EventListener
+    public void onGoalProgressChanged(GoalProgressChangedEvent event) {
+        invalidationBus.publish(
+                CacheNames.PERFORMANCE_SCORE,
+                event.employeeId() + ":" + event.performanceCycleId()
+        );
+    }
+
+    @Override
+    public void invalidate(String key) {
+        int separator = key.indexOf(':');
+        scoringEngine.evict(
+                new EmployeeId(Long.parseLong(key.substring(0, separator))),
+                new ReviewCycleId(Long.parseLong(key.substring(separator + 1)))
+        );
+    }
+
+    @Override
+    public void invalidateAll() {
+        scoringEngine.evictAll();
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.performance_management_system.performance.infrastructure.adapters.in.web;
 
+import com.example.performance_management_system.performance.application.dto.CalculateCycleScoresCommand;
 import com.example.performance_management_system.performance.application.dto.CalculatePerformanceScoreCommand;
+import com.example.performance_management_system.performance.application.dto.CycleScoresResult;
 import com.example.performance_management_system.performance.application.dto.PerformanceScoreResult;
+import com.example.performance_management_system.performance.application.port.in.CalculateCycleScoresUseCase;
 import com.example.performance_management_system.performance.application.port.in.CalculatePerformanceScoreUseCase;
+import com.example.performance_management_system.performance.domain.model.valueobject.RatingCriteria;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -13,9 +19,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class PerformanceScoringController {
 
     private final CalculatePerformanceScoreUseCase calculatePerformanceScoreUseCase;
+    private final CalculateCycleScoresUseCase calculateCycleScoresUseCase;
 
-    public PerformanceScoringController(CalculatePerformanceScoreUseCase calculatePerformanceScoreUseCase) {
+    public PerformanceScoringController(
+            CalculatePerformanceScoreUseCase calculatePerformanceScoreUseCase,
+            CalculateCycleScoresUseCase calculateCycleScoresUseCase
+    ) {
         this.calculatePerformanceScoreUseCase = calculatePerformanceScoreUseCase;
+        this.calculateCycleScoresUseCase = calculateCycleScoresUseCase;
     }
 
     @PostMapping("/calculate")
@@ -24,4 +35,15 @@ public class PerformanceScoringController {
                 new CalculatePerformanceScoreCommand(request.employeeId(), request.reviewCycleId(), request.criteria())
         );
     }
+
+    @PostMapping("/cycles/{id}/calculate")
+    @PreAuthorize("hasRole('HR') or hasRole('ADMIN')")
+    public CycleScoresResult calculateForCycle(
+            @PathVariable Long id,
+            @RequestBody(required = false) RatingCriteria criteria
+    ) {
+        return calculateCycleScoresUseCase.calculateForCycle(
+                new CalculateCycleScoresCommand(id, criteria)
+        );
+    }
 }
@@ -1,43 +1,220 @@
 package com.example.performance_management_system.performance.infrastructure.adapters.out.persistence;
 
-import com.example.performance_management_system.goal.model.GoalStatus;
-import com.example.performance_management_system.goal.repository.GoalRepository;
 import com.example.performance_management_system.performance.application.port.out.EmployeePerformanceMetricsRepository;
 import com.example.performance_management_system.performance.domain.model.valueobject.EmployeeId;
 import com.example.performance_management_system.performance.domain.model.valueobject.GoalProgress;
+import com.example.performance_management_system.performance.domain.model.valueobject.GoalProgressAggregate;
 import com.example.performance_management_system.performance.domain.model.valueobject.GoalStatusSnapshot;
 import com.example.performance_management_system.performance.domain.model.valueobject.KeyResultProgress;
 import com.example.performance_management_system.performance.domain.model.valueobject.ReviewCycleId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.stereotype.Component;
 
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+/**
+ * Reads goal progress through a flat goal/key_result projection instead of
+ * hydrating Goal entities and walking their lazy key result collections.
+ */
 @Component
 public class JpaEmployeePerformanceMetricsRepositoryAdapter implements EmployeePerformanceMetricsRepository {
 
-    private final GoalRepository goalRepository;
+    private static final int FETCH_SIZE = 1000;
 
-    public JpaEmployeePerformanceMetricsRepositoryAdapter(GoalRepository goalRepository) {
-        this.goalRepository = goalRepository;
+    private static final String GOAL_PROGRESS_SELECT = """
+            SELECT g.id AS goal_id,
+                   g.employee_id,
+                   g.status,
+                   kr.current_value,
+                   kr.target_value
+            FROM goal g
+            LEFT JOIN key_result kr ON kr.goal_id = g.id
+            WHERE g.performance_cycle_id = ?
+            """;
+
+    private static final String AGGREGATE_SELECT = """
+            SELECT employee_id,
+                   goal_count,
+                   completed_ratio_sum,
+                   approved_ratio_sum,
+                   submitted_ratio_sum,
+                   draft_ratio_sum,
+                   rejected_ratio_sum,
+                   archived_ratio_sum
+            FROM employee_goal_progress
+            WHERE performance_cycle_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JpaEmployeePerformanceMetricsRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     public List<GoalProgress> loadGoalProgress(EmployeeId employeeId, ReviewCycleId reviewCycleId) {
-        return goalRepository.findByEmployeeIdAndPerformanceCycle_Id(employeeId.value(), reviewCycleId.value())
-                .stream()
-                .map(goal -> new GoalProgress(
-                        mapStatus(goal.getStatus()),
-                        goal.getKeyResults().stream()
-                                .map(kr -> new KeyResultProgress(
-                                        kr.getCurrentValue() == null ? 0.0 : kr.getCurrentValue(),
-                                        kr.getTargetValue() == null ? 0.0 : kr.getTargetValue()
-                                ))
-                                .toList()
-                ))
-                .toList();
-    }
-
-    private GoalStatusSnapshot mapStatus(GoalStatus status) {
-        return GoalStatusSnapshot.valueOf(status.name());
+        return loadGoalProgress(List.of(employeeId), reviewCycleId)
+                .getOrDefault(employeeId, List.of());
+    }
+
+    @Override
+    public Map<EmployeeId, List<GoalProgress>> loadGoalProgress(
+            Collection<EmployeeId> employeeIds,
+            ReviewCycleId reviewCycleId
+    ) {
+        if (employeeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Long[] ids = employeeIds.stream()
+                .map(EmployeeId::value)
+                .distinct()
+                .toArray(Long[]::new);
+
+        return queryGoalProgress(
+                GOAL_PROGRESS_SELECT + " AND g.employee_id = ANY(?) ORDER BY g.id",
+                ps -> {
+                    Array idArray = ps.getConnection().createArrayOf("bigint", ids);
+                    ps.setLong(1, reviewCycleId.value());
+                    ps.setArray(2, idArray);
+                }
+        );
+    }
+
+    /**
+     * Streams every goal/key result row of the cycle through one cursor-backed query.
+     */
+    @Override
+    public Map<EmployeeId, List<GoalProgress>> loadGoalProgressForCycle(ReviewCycleId reviewCycleId) {
+        return queryGoalProgress(
+                GOAL_PROGRESS_SELECT + " ORDER BY g.id",
+                ps -> ps.setLong(1, reviewCycleId.value())
+        );
+    }
+
+    @Override
+    public Optional<GoalProgressAggregate> loadProgressAggregate(EmployeeId employeeId, ReviewCycleId reviewCycleId) {
+        return jdbcTemplate.query(
+                AGGREGATE_SELECT + " AND employee_id = ?",
+                (rs, rowNum) -> toAggregate(rs),
+                reviewCycleId.value(),
+                employeeId.value()
+        ).stream().findFirst();
+    }
+
+    @Override
+    public Map<EmployeeId, GoalProgressAggregate> loadProgressAggregates(
+            Collection<EmployeeId> employeeIds,
+            ReviewCycleId reviewCycleId
+    ) {
+        if (employeeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Long[] ids = employeeIds.stream()
+                .map(EmployeeId::value)
+                .distinct()
+                .toArray(Long[]::new);
+
+        Map<EmployeeId, GoalProgressAggregate> aggregates = new HashMap<>();
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(AGGREGATE_SELECT + " AND employee_id = ANY(?)");
+                    ps.setFetchSize(FETCH_SIZE);
+                    ps.setLong(1, reviewCycleId.value());
+                    ps.setArray(2, con.createArrayOf("bigint", ids));
+                    return ps;
+                },
+                rs -> {
+                    aggregates.put(new EmployeeId(rs.getLong("employee_id")), toAggregate(rs));
+                }
+        );
+        return aggregates;
+    }
+
+    private static GoalProgressAggregate toAggregate(ResultSet rs) throws SQLException {
+        return new GoalProgressAggregate(
+                rs.getInt("goal_count"),
+                rs.getDouble("completed_ratio_sum"),
+                rs.getDouble("approved_ratio_sum"),
+                rs.getDouble("submitted_ratio_sum"),
+                rs.getDouble("draft_ratio_sum"),
+                rs.getDouble("rejected_ratio_sum"),
+                rs.getDouble("archived_ratio_sum")
+        );
+    }
+
+    /**
+     * Rows arrive ordered by goal, so each goal is assembled as soon as its last
+     * key result row has been read.
+     */
+    private Map<EmployeeId, List<GoalProgress>> queryGoalProgress(String sql, PreparedStatementSetter setter) {
+        Map<EmployeeId, List<GoalProgress>> goalsByEmployee = new HashMap<>();
+        GoalAccumulator current = new GoalAccumulator();
+
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(sql);
+                    ps.setFetchSize(FETCH_SIZE);
+                    setter.setValues(ps);
+                    return ps;
+                },
+                rs -> {
+                    long goalId = rs.getLong("goal_id");
+                    if (current.goalId != goalId) {
+                        current.flushInto(goalsByEmployee);
+                        current.start(
+                                goalId,
+                                new EmployeeId(rs.getLong("employee_id")),
+                                GoalStatusSnapshot.valueOf(rs.getString("status"))
+                        );
+                    }
+
+                    // LEFT JOIN yields a single all-null key result row for goals without KRs
+                    if (rs.getObject("target_value") != null || rs.getObject("current_value") != null) {
+                        current.keyResults.add(new KeyResultProgress(
+                                rs.getDouble("current_value"),
+                                // negative targets never count as progress; keep them out of the value object
+                                Math.max(0.0, rs.getDouble("target_value"))
+                        ));
+                    }
+                }
+        );
+        current.flushInto(goalsByEmployee);
+
+        return goalsByEmployee;
+    }
+
+    private static final class GoalAccumulator {
+        private long goalId = -1;
+        private EmployeeId employeeId;
+        private GoalStatusSnapshot status;
+        private List<KeyResultProgress> keyResults;
+
+        void start(long goalId, EmployeeId employeeId, GoalStatusSnapshot status) {
+            this.goalId = goalId;
+            this.employeeId = employeeId;
+            this.status = status;
+            this.keyResults = new ArrayList<>();
+        }
+
+        void flushInto(Map<EmployeeId, List<GoalProgress>> goalsByEmployee) {
+            if (employeeId == null) {
+                return;
+            }
+            goalsByEmployee.computeIfAbsent(employeeId, id -> new ArrayList<>())
+                    .add(new GoalProgress(status, List.copyOf(keyResults)));
+            employeeId = null;
+        }
     }
 }
@@ -8,20 +8,39 @@ import com.example.performance_management_system.performance.domain.model.valueo
 import com.example.performance_management_system.performance.domain.model.valueobject.ReviewCycleId;
 import com.example.performance_management_system.rating.model.Rating;
 import com.example.performance_management_system.rating.model.RatingStatus;
+import com.example.performance_management_system.rating.repository.RatingBatchRepository;
+import com.example.performance_management_system.rating.repository.RatingBatchRepository.RatingChange;
 import com.example.performance_management_system.rating.repository.RatingRepository;
+import com.example.performance_management_system.rating.service.RatingDistributionService;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 public class JpaPerformanceReviewRepositoryAdapter implements PerformanceReviewRepository {
 
+    private static final int BATCH_SIZE = 500;
+
     private final RatingRepository ratingRepository;
+    private final RatingBatchRepository batchRepository;
+    private final RatingDistributionService distributionService;
+    private final JdbcTemplate jdbcTemplate;
 
     public JpaPerformanceReviewRepositoryAdapter(
-            RatingRepository ratingRepository
+            RatingRepository ratingRepository,
+            RatingBatchRepository batchRepository,
+            RatingDistributionService distributionService,
+            JdbcTemplate jdbcTemplate
     ) {
         this.ratingRepository = ratingRepository;
+        this.batchRepository = batchRepository;
+        this.distributionService = distributionService;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -32,16 +51,56 @@ public class JpaPerformanceReviewRepositoryAdapter implements PerformanceReviewR
 
     @Override
     public PerformanceReview save(PerformanceReview review) {
-        Rating rating = ratingRepository.findById(review.reviewId())
-                .orElseThrow(() -> new IllegalArgumentException("Rating not found for id " + review.reviewId()));
+        List<RatingChange> changes = batchRepository.update(
+                review.reviewId(),
+                RatingStatus.valueOf(review.status().name()),
+                review.score().value(),
+                review.managerJustification(),
+                review.hrJustification()
+        );
+
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException("Rating not found for id " + review.reviewId());
+        }
+
+        distributionService.record(changes);
+        return review;
+    }
+
+    @Override
+    public List<EmployeeId> findDraftEmployeeIds(ReviewCycleId reviewCycleId) {
+        return jdbcTemplate.query("""
+                        SELECT employee_id
+                        FROM rating
+                        WHERE performance_cycle_id = ?
+                          AND status = 'DRAFT'
+                        """,
+                (rs, rowNum) -> new EmployeeId(rs.getLong("employee_id")),
+                reviewCycleId.value()
+        );
+    }
+
+    @Override
+    public int updateDraftScores(
+            ReviewCycleId reviewCycleId,
+            Map<EmployeeId, PerformanceScore> scores,
+            String justification
+    ) {
+        List<Map.Entry<EmployeeId, PerformanceScore>> entries = new ArrayList<>(scores.entrySet());
+        int updated = 0;
 
-        rating.setScore(review.score().value());
-        rating.setStatus(RatingStatus.valueOf(review.status().name()));
-        rating.setManagerJustification(review.managerJustification());
-        rating.setHrJustification(review.hrJustification());
+        for (int from = 0; from < entries.size(); from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, entries.size());
+            Map<Long, Double> batch = new HashMap<>();
+            for (Map.Entry<EmployeeId, PerformanceScore> entry : entries.subList(from, to)) {
+                batch.put(entry.getKey().value(), entry.getValue().value());
+            }
 
-        Rating saved = ratingRepository.save(rating);
-        return toDomain(saved);
+            List<RatingChange> changes = batchRepository.updateDraftScores(reviewCycleId.value(), batch, justification);
+            distributionService.record(changes);
+            updated += changes.size();
+        }
+        return updated;
     }
 
     private PerformanceReview toDomain(Rating rating) {
@@ -0,0 +1,7 @@
+package com.example.performance_management_system.performancecycle.event;
+
+/**
+ * Published when a performance cycle is created, started or closed.
+ */
+public record PerformanceCycleChangedEvent(Long cycleId) {
+}
@@ -0,0 +1,128 @@
+package com.example.performance_management_system.performancecycle.service;
+
+import com.example.performance_management_system.common.cache.CacheInvalidationBus;
+import com.example.performance_management_system.common.cache.CacheInvalidationListener;
+import com.example.performance_management_system.common.cache.CacheNames;
+import com.example.performance_management_system.performancecycle.event.PerformanceCycleChangedEvent;
+import com.example.performance_management_system.performancecycle.model.CycleStatus;
+import com.example.performance_management_system.performancecycle.model.PerformanceCycle;
+import com.example.performance_management_system.performancecycle.repository.PerformanceCycleRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process cache of the active cycle (including "there is none") and of
+ * cycles by id.
+ * <p>
+ * Cycle changes are broadcast on the {@link CacheInvalidationBus} and drop the
+ * entries on every node after commit. Entries also expire after {@link #TTL},
+ * which bounds staleness if an invalidation is lost.
+ * <p>
+ * Cached cycles are detached entities shared between requests: use them as
+ * read-only values or association references, never modify them.
+ */
+@Component
+public class PerformanceCycleCache {
+
+    static final Duration TTL = Duration.ofSeconds(30);
+
+    private final PerformanceCycleRepository repository;
+
+    private final AtomicReference<Entry> active = new AtomicReference<>();
+    private final ConcurrentHashMap<Long, Entry> byId = new ConcurrentHashMap<>();
+
+    // bumped on every invalidation so loads that raced with a change are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final CacheInvalidationBus invalidationBus;
+
+    public PerformanceCycleCache(PerformanceCycleRepository repository, CacheInvalidationBus invalidationBus) {
+        this.repository = repository;
+        this.invalidationBus = invalidationBus;
+
+        invalidationBus.subscribe(CacheNames.PERFORMANCE_CYCLE, new CacheInvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                PerformanceCycleCache.this.invalidate(Long.valueOf(key));
+            }
+
+            @Override
+            public void invalidateAll() {
+                PerformanceCycleCache.this.invalidateAll();
+            }
+        });
+    }
+
+    public Optional<PerformanceCycle> findActive() {
+        Entry entry = active.get();
+        if (entry != null && entry.isFresh()) {
+            return Optional.ofNullable(entry.cycle());
+        }
+
+        long loadedAt = generation.get();
+        PerformanceCycle cycle = repository.findByStatus(CycleStatus.ACTIVE).orElse(null);
+        Entry loaded = new Entry(cycle, System.nanoTime());
+        active.set(loaded);
+        // an invalidation may have slipped in between the load and the write
+        if (generation.get() != loadedAt) {
+            active.compareAndSet(loaded, null);
+        }
+        return Optional.ofNullable(cycle);
+    }
+
+    public Optional<PerformanceCycle> findById(Long cycleId) {
+        Entry entry = byId.get(cycleId);
+        if (entry != null && entry.isFresh()) {
+            return Optional.of(entry.cycle());
+        }
+
+        long loadedAt = generation.get();
+        Optional<PerformanceCycle> cycle = repository.findById(cycleId);
+        cycle.ifPresent(found -> {
+            Entry loaded = new Entry(found, System.nanoTime());
+            byId.put(cycleId, loaded);
+            // an invalidation may have slipped in between the load and the put
+            if (generation.get() != loadedAt) {
+                byId.remove(cycleId, loaded);
+            }
+        });
+        return cycle;
+    }
+
+    // the bus defers delivery until the publishing transaction commits
+    @EventListener
+    public void onCycleChanged(PerformanceCycleChangedEvent event) {
+        if (event.cycleId() == null) {
+            invalidationBus.publishFlush(CacheNames.PERFORMANCE_CYCLE);
+        } else {
+            invalidationBus.publish(CacheNames.PERFORMANCE_CYCLE, event.cycleId().toString());
+        }
+    }
+
+    public void invalidate(Long cycleId) {
+        generation.incrementAndGet();
+        active.set(null);
+        if (cycleId != null) {
+            byId.remove(cycleId);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        active.set(null);
+        byId.clear();
+    }
+
+    private record Entry(PerformanceCycle cycle, long loadedAtNanos) {
+
+        boolean isFresh() {
+            return System.nanoTime() - loadedAtNanos < TTL.toNanos();
+        }
+    }
+}
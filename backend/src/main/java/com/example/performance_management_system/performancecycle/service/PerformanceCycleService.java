@@ -2,11 +2,13 @@ package com.example.performance_management_system.performancecycle.service;
 
 import com.example.performance_management_system.common.error.ErrorCode;
 import com.example.performance_management_system.common.exception.BusinessException;
+import com.example.performance_management_system.performancecycle.event.PerformanceCycleChangedEvent;
 import com.example.performance_management_system.performancecycle.model.CycleStatus;
 import com.example.performance_management_system.performancecycle.model.PerformanceCycle;
 import com.example.performance_management_system.performancecycle.repository.PerformanceCycleRepository;
 import com.example.performance_management_system.reviewcycle.model.ReviewCycleStatus;
 import com.example.performance_management_system.reviewcycle.repository.ReviewCycleRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,13 +20,19 @@ public class PerformanceCycleService {
 
     private final PerformanceCycleRepository repository;
     private final ReviewCycleRepository reviewCycleRepository;
+    private final PerformanceCycleCache cache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PerformanceCycleService(
             PerformanceCycleRepository repository,
-            ReviewCycleRepository reviewCycleRepository
+            ReviewCycleRepository reviewCycleRepository,
+            PerformanceCycleCache cache,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.repository = repository;
         this.reviewCycleRepository = reviewCycleRepository;
+        this.cache = cache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -38,7 +46,10 @@ public class PerformanceCycleService {
             );
         }
 
-        return repository.save(cycle);
+        PerformanceCycle saved = repository.save(cycle);
+        eventPublisher.publishEvent(new PerformanceCycleChangedEvent(saved.getId()));
+
+        return saved;
     }
 
     @Transactional
@@ -62,7 +73,10 @@ public class PerformanceCycleService {
         }
 
         cycle.activate();
-        return repository.save(cycle);
+        PerformanceCycle saved = repository.save(cycle);
+        eventPublisher.publishEvent(new PerformanceCycleChangedEvent(saved.getId()));
+
+        return saved;
     }
 
     @Transactional
@@ -87,12 +101,18 @@ public class PerformanceCycleService {
         }
 
         cycle.close();
-        return repository.save(cycle);
+        PerformanceCycle saved = repository.save(cycle);
+        eventPublisher.publishEvent(new PerformanceCycleChangedEvent(saved.getId()));
+
+        return saved;
     }
 
+    /**
+     * Served from {@link PerformanceCycleCache}; treat the result as read-only.
+     */
     public PerformanceCycle getActiveCycle() {
 
-        return repository.findByStatus(CycleStatus.ACTIVE)
+        return cache.findActive()
                 .orElseThrow(() -> new BusinessException(
                         HttpStatus.NOT_FOUND,
                         ErrorCode.SYSTEM_ERROR,
@@ -100,6 +120,19 @@ public class PerformanceCycleService {
                 ));
     }
 
+    /**
+     * Served from {@link PerformanceCycleCache}; treat the result as read-only.
+     */
+    public PerformanceCycle getCycle(Long cycleId) {
+
+        return cache.findById(cycleId)
+                .orElseThrow(() -> new BusinessException(
+                        HttpStatus.NOT_FOUND,
+                        ErrorCode.RESOURCE_NOT_FOUND,
+                        "Performance cycle not found"
+                ));
+    }
+
     public List<PerformanceCycle> getAllCycles() {
         return repository.findAll();
     }
@@ -1,11 +1,24 @@
 package com.example.performance_management_system.rating.controller;
 
+import com.example.performance_management_system.common.pagination.CursorPage;
 import com.example.performance_management_system.config.security.SecurityUtil;
+import com.example.performance_management_system.rating.dto.BatchCalibrateRatingRequest;
+import com.example.performance_management_system.rating.dto.BatchRatingIdsRequest;
 import com.example.performance_management_system.rating.dto.CalibrateRatingRequest;
+import com.example.performance_management_system.rating.dto.CalibrationProposalResponse;
 import com.example.performance_management_system.rating.dto.CreateRatingRequest;
+import com.example.performance_management_system.rating.dto.RatingBatchResult;
+import com.example.performance_management_system.rating.dto.RatingDistributionResponse;
+import com.example.performance_management_system.rating.dto.RatingResponse;
 import com.example.performance_management_system.rating.dto.UpdateManagerRatingRequest;
+import com.example.performance_management_system.rating.model.DistributionGroup;
+import com.example.performance_management_system.rating.model.NormalizationMode;
 import com.example.performance_management_system.rating.model.Rating;
+import com.example.performance_management_system.rating.model.RatingStatus;
+import com.example.performance_management_system.rating.service.CalibrationService;
+import com.example.performance_management_system.rating.service.RatingDistributionService;
 import com.example.performance_management_system.rating.service.RatingService;
+import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -17,9 +30,17 @@ import java.util.List;
 public class RatingController {
 
     private final RatingService service;
+    private final RatingDistributionService distributionService;
+    private final CalibrationService calibrationService;
 
-    public RatingController(RatingService service) {
+    public RatingController(
+            RatingService service,
+            RatingDistributionService distributionService,
+            CalibrationService calibrationService
+    ) {
         this.service = service;
+        this.distributionService = distributionService;
+        this.calibrationService = calibrationService;
     }
 
     @PostMapping
@@ -34,7 +55,7 @@ public class RatingController {
 
     @GetMapping("/pending-calibration")
     @PreAuthorize("hasRole('HR')")
-    public List<Rating> getRatingsForCalibration() {
+    public List<RatingResponse> getRatingsForCalibration() {
         return service.getRatingsPendingCalibration();
     }
 
@@ -45,34 +66,61 @@ public class RatingController {
         return service.calibrate(id, req);
     }
 
+    // 🔹 normalised proposals; apply the accepted ones via /calibrate:batch
+    @GetMapping("/calibration/proposals")
+    @PreAuthorize("hasRole('HR')")
+    public CalibrationProposalResponse getCalibrationProposals(
+            @RequestParam Long cycleId,
+            @RequestParam(defaultValue = "Z_SCORE") NormalizationMode mode,
+            @RequestParam(defaultValue = "3") int minTeamSize
+    ) {
+        return calibrationService.propose(cycleId, mode, minTeamSize);
+    }
+
     @PostMapping("/{id}/finalize")
     public Rating finalizeRating(@PathVariable Long id) {
         return service.finalizeRating(id);
     }
 
+    // 🔹 batch transitions: one conditional update, per-item APPLIED / CONFLICT / ...
+    @PostMapping("/submit:batch")
+    public RatingBatchResult submitBatch(@Valid @RequestBody BatchRatingIdsRequest req) {
+        return service.submitByManager(req.ratingIds);
+    }
+
+    @PostMapping("/calibrate:batch")
+    public RatingBatchResult calibrateBatch(@Valid @RequestBody BatchCalibrateRatingRequest req) {
+        return service.calibrate(req);
+    }
+
+    @PostMapping("/finalize:batch")
+    public RatingBatchResult finalizeBatch(@Valid @RequestBody BatchRatingIdsRequest req) {
+        return service.finalizeRatings(req.ratingIds);
+    }
+
     @GetMapping("/finalize")
     @PreAuthorize("hasRole('LEADERSHIP')")
-    public List<Rating> getRatingsForFinalization() {
+    public List<RatingResponse> getRatingsForFinalization() {
         return service.getRatingsForFinalization();
     }
 
 
     @GetMapping("/team")
     @PreAuthorize("hasRole('MANAGER')")
-    public List<Rating> getTeamRatings() {
+    public List<RatingResponse> getTeamRatings() {
         Long managerId = SecurityUtil.userId();
         return service.getTeamRatings(managerId);
     }
 
     @GetMapping("/cycle/active")
     @PreAuthorize("hasRole('HR') or hasRole('LEADERSHIP')")
-    public List<Rating> getActiveCycleRatings() {
+    public List<RatingResponse> getActiveCycleRatings() {
         return service.getRatingsForActiveCycle();
     }
 
     @GetMapping
     @PreAuthorize("hasRole('HR') or hasRole('MANAGER') or hasRole('LEADERSHIP')")
-    public Page<Rating> getRatingsForCycle(
+    public Page<RatingResponse> getRatingsForCycle(
             @RequestParam Long cycleId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
@@ -80,6 +128,35 @@ public class RatingController {
         return service.getRatingsForCycle(cycleId, page, size);
     }
 
+    // 🔹 keyset mode: pass cursor= (empty) for the first page, then nextCursor
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('HR') or hasRole('MANAGER') or hasRole('LEADERSHIP')")
+    public CursorPage<RatingResponse> scrollRatingsForCycle(
+            @RequestParam Long cycleId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return service.getRatingsForCycle(cycleId, cursor, size, includeTotal);
+    }
+
+    // 🔹 calibration dashboard: histogram, mean, stddev and percentiles per group
+    @GetMapping("/distribution")
+    @PreAuthorize("hasRole('HR') or hasRole('LEADERSHIP') or hasRole('ADMIN')")
+    public List<RatingDistributionResponse> getDistribution(
+            @RequestParam Long cycleId,
+            @RequestParam(defaultValue = "CYCLE") DistributionGroup groupBy,
+            @RequestParam(required = false) RatingStatus status
+    ) {
+        return distributionService.getDistribution(cycleId, groupBy, status);
+    }
+
+    @PostMapping("/distribution/cycles/{cycleId}/rebuild")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    public int rebuildDistribution(@PathVariable Long cycleId) {
+        return distributionService.rebuild(cycleId);
+    }
+
     @GetMapping("/my")
     @PreAuthorize("hasRole('EMPLOYEE')")
     public Rating getMyRating() {
@@ -0,0 +1,32 @@
+package com.example.performance_management_system.rating.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BatchCalibrateRatingRequest {
+
+    @NotEmpty(message = "At least one rating is required")
+    @Size(max = BatchRatingIdsRequest.MAX_ITEMS, message = "Too many ratings in one batch")
+    public List<@Valid Item> items;
+
+    public static class Item {
+
+        @NotNull(message = "Rating id is required")
+        public Long ratingId;
+
+        @NotNull(message = "New score is required")
+        @Min(value = 1, message = "Minimum rating is 1")
+        @Max(value = 5, message = "Maximum rating is 5")
+        public Double newScore;
+
+        @NotBlank(message = "Calibration justification is required")
+        public String justification;
+    }
+}
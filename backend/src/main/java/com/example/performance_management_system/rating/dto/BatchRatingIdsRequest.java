@@ -0,0 +1,16 @@
+package com.example.performance_management_system.rating.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BatchRatingIdsRequest {
+
+    public static final int MAX_ITEMS = 1000;
+
+    @NotEmpty(message = "At least one rating is required")
+    @Size(max = MAX_ITEMS, message = "Too many ratings in one batch")
+    public List<@NotNull Long> ratingIds;
+}
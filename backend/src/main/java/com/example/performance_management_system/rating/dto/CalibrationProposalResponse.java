@@ -0,0 +1,44 @@
+package com.example.performance_management_system.rating.dto;
+
+import com.example.performance_management_system.rating.model.NormalizationMode;
+
+import java.util.List;
+
+/**
+ * Normalised score proposals for the MANAGER_SUBMITTED ratings of a cycle.
+ * Accepted proposals are applied through {@code POST /api/ratings/calibrate:batch}.
+ */
+public record CalibrationProposalResponse(
+        Long cycleId,
+        NormalizationMode mode,
+        long count,
+        double mean,
+        double stddev,
+        List<ManagerLeniency> managers,
+        List<Proposal> proposals
+) {
+
+    /**
+     * {@code leniency} is the manager's mean minus the cycle mean. Teams below the
+     * minimum size are reported but not normalised.
+     */
+    public record ManagerLeniency(
+            Long managerId,
+            long count,
+            double mean,
+            double stddev,
+            double leniency,
+            boolean normalized
+    ) {
+    }
+
+    public record Proposal(
+            Long ratingId,
+            Long employeeId,
+            Long managerId,
+            double currentScore,
+            double proposedScore,
+            double zScore
+    ) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.performance_management_system.rating.dto;
+
+import java.util.List;
+
+/**
+ * Per-item outcome of a batch state transition, in request order.
+ */
+public record RatingBatchResult(
+        int requested,
+        int applied,
+        List<Item> results
+) {
+
+    public enum Outcome {
+        APPLIED,
+        CONFLICT,
+        NOT_FOUND,
+        FORBIDDEN,
+        DUPLICATE
+    }
+
+    public record Item(Long ratingId, Outcome outcome, String message) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.performance_management_system.rating.dto;
+
+import com.example.performance_management_system.rating.model.DistributionGroup;
+
+import java.util.List;
+
+/**
+ * Score distribution of one group. Percentiles are resolved to 0.1 score buckets
+ * and report the mean score of the bucket they fall in.
+ */
+public record RatingDistributionResponse(
+        DistributionGroup groupType,
+        Long groupId,
+        String groupName,
+        long count,
+        Double mean,
+        Double stddev,
+        Double p10,
+        Double p25,
+        Double p50,
+        Double p75,
+        Double p90,
+        List<HistogramBin> histogram
+) {
+
+    public record HistogramBin(double from, double to, long count) {
+    }
+}
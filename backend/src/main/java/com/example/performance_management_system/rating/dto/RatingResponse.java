@@ -0,0 +1,24 @@
+package com.example.performance_management_system.rating.dto;
+
+import com.example.performance_management_system.rating.model.RatingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat rating read model, filled directly by a JPQL constructor expression.
+ */
+public record RatingResponse(
+        Long id,
+        Long employeeId,
+        String employeeName,
+        Long managerId,
+        String managerName,
+        Long performanceCycleId,
+        String cycleName,
+        Double score,
+        RatingStatus status,
+        String managerJustification,
+        String hrJustification,
+        LocalDateTime createdAt
+) {
+}
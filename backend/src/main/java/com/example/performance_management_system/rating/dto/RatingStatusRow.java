@@ -0,0 +1,6 @@
+package com.example.performance_management_system.rating.dto;
+
+import com.example.performance_management_system.rating.model.RatingStatus;
+
+public record RatingStatusRow(Long employeeId, RatingStatus status) {
+}
@@ -0,0 +1,7 @@
+package com.example.performance_management_system.rating.model;
+
+public enum DistributionGroup {
+    CYCLE,
+    DEPARTMENT,
+    MANAGER
+}
@@ -0,0 +1,8 @@
+package com.example.performance_management_system.rating.model;
+
+public enum NormalizationMode {
+    /** Re-scale each manager's scores to the cycle-wide mean and spread. */
+    Z_SCORE,
+    /** Rank by within-team z-score and assign scores by fixed shares. */
+    FORCED_DISTRIBUTION
+}
@@ -7,6 +7,11 @@ import lombok.Setter;
 
 import java.time.LocalDateTime;
 
+/**
+ * Status moves (DRAFT → MANAGER_SUBMITTED → HR_CALIBRATED → FINALIZED) are
+ * compare-and-set updates in {@code RatingBatchRepository}, not entity methods,
+ * so concurrent requests cannot both win a transition.
+ */
 @Getter
 @Setter
 @Entity
@@ -17,6 +22,9 @@ import java.time.LocalDateTime;
                         name = "uk_rating_employee_cycle",
                         columnNames = {"employee_id", "performance_cycle_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_rating_cycle", columnList = "performance_cycle_id, id")
         }
 )
 public class Rating {
@@ -28,9 +36,6 @@ public class Rating {
     @Column(name = "employee_id", nullable = false)
     private Long employeeId;
 
-    @Transient
-    private String employeeName;
-
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "performance_cycle_id", nullable = false)
     private PerformanceCycle performanceCycle;
@@ -44,36 +49,15 @@ public class Rating {
     @Column(name = "manager_id", nullable = false)
     private Long managerId;
 
+    /** Department group the rating is counted under in rating_distribution; 0 for none. Written by SQL only. */
+    @Column(name = "counted_department_id", insertable = false, updatable = false)
+    private Long countedDepartmentId;
+
     private String managerJustification;
     private String hrJustification;
 
     private LocalDateTime createdAt;
 
-    /* ---------- Domain Rules ---------- */
-
-    public void submitByManager() {
-        if (status != RatingStatus.DRAFT) {
-            throw new IllegalStateException("Only DRAFT ratings can be submitted");
-        }
-        status = RatingStatus.MANAGER_SUBMITTED;
-    }
-
-    public void calibrateByHr(Double newScore, String justification) {
-        if (status != RatingStatus.MANAGER_SUBMITTED) {
-            throw new IllegalStateException("Only MANAGER_SUBMITTED ratings can be calibrated");
-        }
-        this.score = newScore;
-        this.hrJustification = justification;
-        status = RatingStatus.HR_CALIBRATED;
-    }
-
-    public void finalizeRating() {
-        if (status != RatingStatus.HR_CALIBRATED) {
-            throw new IllegalStateException("Only HR_CALIBRATED ratings can be finalized");
-        }
-        status = RatingStatus.FINALIZED;
-    }
-
     @PrePersist
     void prePersist() {
         createdAt = LocalDateTime.now();
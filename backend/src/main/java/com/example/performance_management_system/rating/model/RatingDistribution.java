@@ -0,0 +1,56 @@
+package com.example.performance_management_system.rating.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rating counters per (cycle, group, status, score bucket), maintained
+ * incrementally by the rating write paths. Bucket {@code b} holds scores that
+ * round to {@code 1.0 + b / 10}; the whole cycle is the {@link DistributionGroup#CYCLE}
+ * group with id 0.
+ */
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "rating_distribution",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_rating_distribution_bucket",
+                        columnNames = {"performance_cycle_id", "group_type", "group_id", "status", "bucket"}
+                )
+        }
+)
+public class RatingDistribution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "performance_cycle_id", nullable = false)
+    private Long performanceCycleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "group_type", nullable = false)
+    private DistributionGroup groupType;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RatingStatus status;
+
+    @Column(nullable = false)
+    private int bucket;
+
+    private long ratingCount;
+
+    private double scoreSum;
+    private double scoreSqSum;
+
+    private LocalDateTime updatedAt;
+}
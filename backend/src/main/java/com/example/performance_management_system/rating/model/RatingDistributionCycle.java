@@ -0,0 +1,24 @@
+package com.example.performance_management_system.rating.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks a cycle whose {@link RatingDistribution} counters have been seeded;
+ * from then on they are only adjusted by deltas.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "rating_distribution_cycle")
+public class RatingDistributionCycle {
+
+    @Id
+    @Column(name = "performance_cycle_id")
+    private Long performanceCycleId;
+
+    private LocalDateTime seededAt;
+}
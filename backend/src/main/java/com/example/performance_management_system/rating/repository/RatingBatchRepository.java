@@ -0,0 +1,350 @@
+package com.example.performance_management_system.rating.repository;
+
+import com.example.performance_management_system.rating.model.RatingStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compare-and-set rating state transitions. Each transition is a single
+ * conditional UPDATE over all ids; the rows it actually changed come back via
+ * RETURNING, so rows in the wrong state are left untouched without being read
+ * first. Used for single ratings as well as batches.
+ * <p>
+ * Every changed row is returned as a {@link RatingChange} with its values
+ * before and after, which is what the rating distribution counters consume.
+ * Rating writes outside {@code RatingService} (activation drafts, cycle-wide
+ * rescoring) come through here as well, so none of them bypasses the counters.
+ */
+@Repository
+public class RatingBatchRepository {
+
+    // the department group the new value is counted under, stamped by COUNT_DEPARTMENT
+    private static final String CHANGE_COLUMNS = """
+            r.id,
+            r.performance_cycle_id,
+            r.employee_id,
+            r.manager_id,
+            r.counted_department_id AS department_id,
+            r.status,
+            r.score
+            """;
+
+    /*
+     * Every write re-stamps the employee's current department (0 for none), so
+     * the counters can take the old value out of the department it was added to
+     * and add the new value to the current one.
+     */
+    private static final String COUNT_DEPARTMENT = """
+            counted_department_id = COALESCE(
+                (SELECT u.department_id FROM users u WHERE u.id = r.employee_id), 0
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RatingBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Moves every rating in {@code ids} that is currently {@code from} to {@code to}.
+     *
+     * @return the ratings that were moved
+     */
+    public List<RatingChange> transition(Collection<Long> ids, RatingStatus from, RatingStatus to) {
+        Long[] idArray = ids.toArray(Long[]::new);
+        // the CTE locks the rows it reads, so old is the row this update replaces
+        return queryChanges(
+                """
+                WITH old AS (
+                    SELECT id, status, score, counted_department_id FROM rating
+                    WHERE id = ANY(?) AND status = ?
+                    FOR UPDATE
+                )
+                UPDATE rating r SET status = ?, %s
+                FROM old
+                WHERE r.id = old.id
+                RETURNING %s, old.status AS old_status, old.score AS old_score,
+                          old.counted_department_id AS old_department_id
+                """.formatted(COUNT_DEPARTMENT, CHANGE_COLUMNS),
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", idArray));
+                    ps.setString(2, from.name());
+                    ps.setString(3, to.name());
+                }
+        );
+    }
+
+    /**
+     * Applies HR calibration to every MANAGER_SUBMITTED rating among the entries.
+     *
+     * @return the ratings that were calibrated
+     */
+    public List<RatingChange> calibrate(List<Calibration> calibrations) {
+        Long[] ids = new Long[calibrations.size()];
+        Double[] scores = new Double[calibrations.size()];
+        String[] justifications = new String[calibrations.size()];
+        for (int i = 0; i < calibrations.size(); i++) {
+            ids[i] = calibrations.get(i).ratingId();
+            scores[i] = calibrations.get(i).score();
+            justifications[i] = calibrations.get(i).justification();
+        }
+
+        // the CTE locks the rows it reads, so old is the row this update replaces
+        return queryChanges(
+                """
+                WITH old AS (
+                    SELECT id, status, score, counted_department_id FROM rating
+                    WHERE id = ANY(?) AND status = ?
+                    FOR UPDATE
+                )
+                UPDATE rating r
+                SET score = v.score,
+                    hr_justification = v.justification,
+                    status = ?,
+                    %s
+                FROM old
+                JOIN unnest(?::bigint[], ?::float8[], ?::text[]) AS v(id, score, justification) ON v.id = old.id
+                WHERE r.id = old.id
+                RETURNING %s, old.status AS old_status, old.score AS old_score,
+                          old.counted_department_id AS old_department_id
+                """.formatted(COUNT_DEPARTMENT, CHANGE_COLUMNS),
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+                    ps.setString(2, RatingStatus.MANAGER_SUBMITTED.name());
+                    ps.setString(3, RatingStatus.HR_CALIBRATED.name());
+                    ps.setArray(4, ps.getConnection().createArrayOf("bigint", ids));
+                    ps.setArray(5, ps.getConnection().createArrayOf("float8", scores));
+                    ps.setArray(6, ps.getConnection().createArrayOf("text", justifications));
+                }
+        );
+    }
+
+    /**
+     * Manager edit of a DRAFT rating.
+     *
+     * @return the change, or empty if the rating is no longer a draft
+     */
+    public List<RatingChange> updateDraft(Long ratingId, Double score, String justification) {
+        return queryChanges(
+                """
+                WITH old AS (
+                    SELECT id, status, score, counted_department_id FROM rating
+                    WHERE id = ? AND status = ?
+                    FOR UPDATE
+                )
+                UPDATE rating r SET score = ?, manager_justification = ?, %s
+                FROM old
+                WHERE r.id = old.id
+                RETURNING %s, old.status AS old_status, old.score AS old_score,
+                          old.counted_department_id AS old_department_id
+                """.formatted(COUNT_DEPARTMENT, CHANGE_COLUMNS),
+                ps -> {
+                    ps.setLong(1, ratingId);
+                    ps.setString(2, RatingStatus.DRAFT.name());
+                    ps.setDouble(3, score);
+                    ps.setString(4, justification);
+                }
+        );
+    }
+
+    /**
+     * Rewrites the score, status and justifications of one rating, whatever its
+     * current state; callers enforce the state rules.
+     *
+     * @return the change, or empty if the rating does not exist
+     */
+    public List<RatingChange> update(
+            Long ratingId,
+            RatingStatus status,
+            double score,
+            String managerJustification,
+            String hrJustification
+    ) {
+        return queryChanges(
+                """
+                WITH old AS (
+                    SELECT id, status, score, counted_department_id FROM rating
+                    WHERE id = ?
+                    FOR UPDATE
+                )
+                UPDATE rating r
+                SET status = ?,
+                    score = ?,
+                    manager_justification = ?,
+                    hr_justification = ?,
+                    %s
+                FROM old
+                WHERE r.id = old.id
+                RETURNING %s, old.status AS old_status, old.score AS old_score,
+                          old.counted_department_id AS old_department_id
+                """.formatted(COUNT_DEPARTMENT, CHANGE_COLUMNS),
+                ps -> {
+                    ps.setLong(1, ratingId);
+                    ps.setString(2, status.name());
+                    ps.setDouble(3, score);
+                    ps.setString(4, managerJustification);
+                    ps.setString(5, hrJustification);
+                }
+        );
+    }
+
+    /**
+     * Rescores the DRAFT ratings of the given employees in one cycle; ratings
+     * that moved on in the meantime are left untouched.
+     *
+     * @return the ratings that were rescored
+     */
+    public List<RatingChange> updateDraftScores(
+            Long performanceCycleId,
+            Map<Long, Double> scoresByEmployee,
+            String justification
+    ) {
+        Long[] employeeIds = scoresByEmployee.keySet().toArray(Long[]::new);
+        Double[] scores = new Double[employeeIds.length];
+        for (int i = 0; i < employeeIds.length; i++) {
+            scores[i] = scoresByEmployee.get(employeeIds[i]);
+        }
+
+        // the CTE locks the rows it reads, so old is the row this update replaces
+        return queryChanges(
+                """
+                WITH old AS (
+                    SELECT rt.id, rt.status, rt.score, rt.counted_department_id, v.score AS new_score
+                    FROM rating rt
+                    JOIN unnest(?::bigint[], ?::float8[]) AS v(employee_id, score) ON v.employee_id = rt.employee_id
+                    WHERE rt.performance_cycle_id = ? AND rt.status = ?
+                    FOR UPDATE OF rt
+                )
+                UPDATE rating r SET score = old.new_score, manager_justification = ?, %s
+                FROM old
+                WHERE r.id = old.id
+                RETURNING %s, old.status AS old_status, old.score AS old_score,
+                          old.counted_department_id AS old_department_id
+                """.formatted(COUNT_DEPARTMENT, CHANGE_COLUMNS),
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", employeeIds));
+                    ps.setArray(2, ps.getConnection().createArrayOf("float8", scores));
+                    ps.setLong(3, performanceCycleId);
+                    ps.setString(4, RatingStatus.DRAFT.name());
+                    ps.setString(5, justification);
+                }
+        );
+    }
+
+    /**
+     * Stamps freshly inserted ratings with their department and returns them as
+     * changes from nothing. The rows must already be flushed in the current transaction.
+     */
+    public List<RatingChange> findCreated(Collection<Long> ids) {
+        Long[] idArray = ids.toArray(Long[]::new);
+        return queryChanges(
+                """
+                UPDATE rating r SET %s
+                WHERE r.id = ANY(?)
+                RETURNING %s, NULL::varchar AS old_status, NULL::float8 AS old_score,
+                          NULL::bigint AS old_department_id
+                """.formatted(COUNT_DEPARTMENT, CHANGE_COLUMNS),
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", idArray))
+        );
+    }
+
+    /**
+     * Current employee, manager and status of the given ratings; missing ids are absent.
+     */
+    public Map<Long, RatingState> findStates(Collection<Long> ids) {
+        Long[] idArray = ids.toArray(Long[]::new);
+        Map<Long, RatingState> states = new HashMap<>();
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(
+                            "SELECT id, employee_id, manager_id, status FROM rating WHERE id = ANY(?)"
+                    );
+                    ps.setArray(1, con.createArrayOf("bigint", idArray));
+                    return ps;
+                },
+                rs -> {
+                    states.put(rs.getLong("id"), new RatingState(
+                            rs.getLong("employee_id"),
+                            rs.getLong("manager_id"),
+                            RatingStatus.valueOf(rs.getString("status"))
+                    ));
+                }
+        );
+        return states;
+    }
+
+    private List<RatingChange> queryChanges(String sql, PreparedStatementSetter setter) {
+        List<RatingChange> changes = new ArrayList<>();
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(sql);
+                    setter.setValues(ps);
+                    return ps;
+                },
+                rs -> {
+                    changes.add(toChange(rs));
+                }
+        );
+        return changes;
+    }
+
+    private static RatingChange toChange(ResultSet rs) throws SQLException {
+        long departmentId = rs.getLong("department_id");
+        String oldStatus = rs.getString("old_status");
+        long oldDepartmentId = rs.getLong("old_department_id");
+        boolean hasOldDepartment = !rs.wasNull();
+        double oldScore = rs.getDouble("old_score");
+        boolean hasOldScore = !rs.wasNull();
+
+        return new RatingChange(
+                rs.getLong("id"),
+                rs.getLong("performance_cycle_id"),
+                rs.getLong("employee_id"),
+                rs.getLong("manager_id"),
+                departmentId,
+                hasOldDepartment ? oldDepartmentId : null,
+                oldStatus != null ? RatingStatus.valueOf(oldStatus) : null,
+                hasOldScore ? oldScore : null,
+                RatingStatus.valueOf(rs.getString("status")),
+                rs.getDouble("score")
+        );
+    }
+
+    public record Calibration(Long ratingId, Double score, String justification) {
+    }
+
+    public record RatingState(Long employeeId, Long managerId, RatingStatus status) {
+    }
+
+    /**
+     * One rating row before and after a write. {@code oldStatus} and {@code oldScore}
+     * are null for a rating that did not exist before. {@code departmentId} is the
+     * department group (0 for none) the new value is counted under and
+     * {@code oldDepartmentId} the one the old value was counted under; the latter
+     * is null for new ratings and for rows counted before departments were stamped.
+     */
+    public record RatingChange(
+            Long ratingId,
+            Long performanceCycleId,
+            Long employeeId,
+            Long managerId,
+            Long departmentId,
+            Long oldDepartmentId,
+            RatingStatus oldStatus,
+            Double oldScore,
+            RatingStatus newStatus,
+            double newScore
+    ) {
+    }
+}
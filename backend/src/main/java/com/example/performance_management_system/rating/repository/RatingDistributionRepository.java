@@ -0,0 +1,271 @@
+package com.example.performance_management_system.rating.repository;
+
+import com.example.performance_management_system.rating.model.DistributionGroup;
+import com.example.performance_management_system.rating.model.RatingStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and adjusts the {@code rating_distribution} counters.
+ */
+@Repository
+public class RatingDistributionRepository {
+
+    public static final int MAX_BUCKET = 40;
+
+    /*
+     * Stamps ratings that have no counted department yet. Rows locked by a
+     * concurrent rating write are skipped instead of waited for (that writer
+     * may itself be waiting for this seed); INSERT_FOR_CYCLE counts them under
+     * the current department, which is also where that writer takes them out.
+     */
+    private static final String STAMP_DEPARTMENTS = """
+            UPDATE rating r
+            SET counted_department_id = COALESCE(
+                (SELECT u.department_id FROM users u WHERE u.id = r.employee_id), 0
+            )
+            WHERE r.id IN (
+                SELECT id FROM rating
+                WHERE performance_cycle_id = ? AND counted_department_id IS NULL
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+    /*
+     * Bucketing must match bucketOf exactly; FLOOR(x + 0.5) rather than ROUND,
+     * which rounds half to even for double precision.
+     */
+    private static final String BUCKET_OF_SCORE = "LEAST(40, GREATEST(0, FLOOR((r.score - 1) * 10 + 0.5)))::int";
+
+    // every rating of the cycle once per group type it is counted under
+    private static final String RATINGS_BY_GROUP = """
+            FROM rating r
+            LEFT JOIN users u ON u.id = r.employee_id
+            CROSS JOIN LATERAL (VALUES
+                ('CYCLE', 0::bigint),
+                ('DEPARTMENT', COALESCE(r.counted_department_id, u.department_id, 0)),
+                ('MANAGER', r.manager_id)
+            ) AS g(group_type, group_id)
+            WHERE r.performance_cycle_id = ?
+            """;
+
+    private static final String INSERT_FOR_CYCLE = """
+            INSERT INTO rating_distribution (
+                performance_cycle_id, group_type, group_id, status, bucket,
+                rating_count, score_sum, score_sq_sum, updated_at
+            )
+            SELECT r.performance_cycle_id, g.group_type, g.group_id, r.status,
+                   %s AS bucket,
+                   COUNT(*), SUM(r.score), SUM(r.score * r.score), now()
+            %s
+            GROUP BY r.performance_cycle_id, g.group_type, g.group_id, r.status, bucket
+            """.formatted(BUCKET_OF_SCORE, RATINGS_BY_GROUP);
+
+    private static final String UPSERT_DELTA = """
+            INSERT INTO rating_distribution (
+                performance_cycle_id, group_type, group_id, status, bucket,
+                rating_count, score_sum, score_sq_sum, updated_at
+            )
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, now())
+            ON CONFLICT (performance_cycle_id, group_type, group_id, status, bucket) DO UPDATE
+            SET rating_count = rating_distribution.rating_count + EXCLUDED.rating_count,
+                score_sum = rating_distribution.score_sum + EXCLUDED.score_sum,
+                score_sq_sum = rating_distribution.score_sq_sum + EXCLUDED.score_sq_sum,
+                updated_at = now()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RatingDistributionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static int bucketOf(double score) {
+        return (int) Math.max(0, Math.min(MAX_BUCKET, Math.floor((score - 1.0) * 10.0 + 0.5)));
+    }
+
+    /**
+     * Marks the cycle as seeded.
+     *
+     * @return true if this call marked it, i.e. the counters still have to be built
+     */
+    public boolean markSeeded(Long cycleId) {
+        return jdbcTemplate.update(
+                """
+                INSERT INTO rating_distribution_cycle (performance_cycle_id, seeded_at)
+                VALUES (?, now())
+                ON CONFLICT (performance_cycle_id) DO NOTHING
+                """,
+                cycleId
+        ) == 1;
+    }
+
+    public boolean isSeeded(Long cycleId) {
+        Boolean seeded = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM rating_distribution_cycle WHERE performance_cycle_id = ?)",
+                Boolean.class,
+                cycleId
+        );
+        return Boolean.TRUE.equals(seeded);
+    }
+
+    public int deleteForCycle(Long cycleId) {
+        return jdbcTemplate.update("DELETE FROM rating_distribution WHERE performance_cycle_id = ?", cycleId);
+    }
+
+    /**
+     * Builds the counters of the cycle from its rating rows, stamping each rating
+     * with the department it is counted under.
+     */
+    public int insertForCycle(Long cycleId) {
+        jdbcTemplate.update(STAMP_DEPARTMENTS, cycleId);
+        return jdbcTemplate.update(INSERT_FOR_CYCLE, cycleId);
+    }
+
+    /**
+     * Adds the deltas in one batch. Rows are touched in key order so concurrent
+     * writers updating the same buckets cannot deadlock.
+     */
+    public void applyDeltas(Map<BucketKey, BucketDelta> deltas) {
+        List<Map.Entry<BucketKey, BucketDelta>> ordered = new ArrayList<>(deltas.entrySet());
+        ordered.removeIf(entry -> entry.getValue().isEmpty());
+        ordered.sort(Map.Entry.comparingByKey(BucketKey.ORDER));
+
+        if (ordered.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_DELTA, ordered, ordered.size(), (ps, entry) -> {
+            BucketKey key = entry.getKey();
+            BucketDelta delta = entry.getValue();
+            ps.setLong(1, key.performanceCycleId());
+            ps.setString(2, key.groupType().name());
+            ps.setLong(3, key.groupId());
+            ps.setString(4, key.status().name());
+            ps.setInt(5, key.bucket());
+            ps.setLong(6, delta.count);
+            ps.setDouble(7, delta.sum);
+            ps.setDouble(8, delta.squareSum);
+        });
+    }
+
+    /**
+     * Counters of every group of one type, summed over statuses unless one is given,
+     * ordered by group and bucket.
+     */
+    public List<BucketRow> findBuckets(Long cycleId, DistributionGroup groupType, RatingStatus status) {
+        String sql = """
+                SELECT group_id, bucket,
+                       SUM(rating_count) AS rating_count,
+                       SUM(score_sum) AS score_sum,
+                       SUM(score_sq_sum) AS score_sq_sum
+                FROM rating_distribution
+                WHERE performance_cycle_id = ? AND group_type = ?
+                """
+                + (status == null ? "" : " AND status = ?")
+                + " GROUP BY group_id, bucket HAVING SUM(rating_count) > 0 ORDER BY group_id, bucket";
+
+        return queryBuckets(sql, cycleId, groupType, status);
+    }
+
+    /**
+     * The same rows as {@link #findBuckets}, aggregated from the rating table, for
+     * a cycle whose counters have not been built yet. Writes nothing.
+     */
+    public List<BucketRow> findBucketsFromRatings(Long cycleId, DistributionGroup groupType, RatingStatus status) {
+        String sql = """
+                SELECT g.group_id, %s AS bucket,
+                       COUNT(*) AS rating_count,
+                       SUM(r.score) AS score_sum,
+                       SUM(r.score * r.score) AS score_sq_sum
+                %s AND g.group_type = ?
+                """.formatted(BUCKET_OF_SCORE, RATINGS_BY_GROUP)
+                + (status == null ? "" : " AND r.status = ?")
+                + " GROUP BY g.group_id, bucket ORDER BY g.group_id, bucket";
+
+        return queryBuckets(sql, cycleId, groupType, status);
+    }
+
+    private List<BucketRow> queryBuckets(String sql, Long cycleId, DistributionGroup groupType, RatingStatus status) {
+        List<Object> args = new ArrayList<>(List.of(cycleId, groupType.name()));
+        if (status != null) {
+            args.add(status.name());
+        }
+
+        return jdbcTemplate.query(
+                sql,
+                (rs, rowNum) -> new BucketRow(
+                        rs.getLong("group_id"),
+                        rs.getInt("bucket"),
+                        rs.getLong("rating_count"),
+                        rs.getDouble("score_sum"),
+                        rs.getDouble("score_sq_sum")
+                ),
+                args.toArray()
+        );
+    }
+
+    public Map<Long, String> findGroupNames(DistributionGroup groupType, Collection<Long> groupIds) {
+        String sql = switch (groupType) {
+            case CYCLE -> "SELECT id, name FROM performance_cycle WHERE id = ANY(?)";
+            case DEPARTMENT -> "SELECT id, display_name AS name FROM department WHERE id = ANY(?)";
+            case MANAGER -> "SELECT id, name FROM users WHERE id = ANY(?)";
+        };
+        Long[] ids = groupIds.toArray(Long[]::new);
+
+        Map<Long, String> names = new HashMap<>();
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(sql);
+                    ps.setArray(1, con.createArrayOf("bigint", ids));
+                    return ps;
+                },
+                rs -> {
+                    names.put(rs.getLong("id"), rs.getString("name"));
+                }
+        );
+        return names;
+    }
+
+    public record BucketKey(
+            Long performanceCycleId,
+            DistributionGroup groupType,
+            Long groupId,
+            RatingStatus status,
+            int bucket
+    ) {
+        static final Comparator<BucketKey> ORDER = Comparator
+                .comparing(BucketKey::performanceCycleId)
+                .thenComparing(BucketKey::groupType)
+                .thenComparing(BucketKey::groupId)
+                .thenComparing(BucketKey::status)
+                .thenComparingInt(BucketKey::bucket);
+    }
+
+    public static final class BucketDelta {
+        private long count;
+        private double sum;
+        private double squareSum;
+
+        public void add(double score, int sign) {
+            count += sign;
+            sum += sign * score;
+            squareSum += sign * score * score;
+        }
+
+        boolean isEmpty() {
+            return count == 0 && sum == 0.0 && squareSum == 0.0;
+        }
+    }
+
+    public record BucketRow(long groupId, int bucket, long count, double sum, double squareSum) {
+    }
+}
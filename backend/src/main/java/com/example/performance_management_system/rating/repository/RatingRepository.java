@@ -1,18 +1,104 @@
 package com.example.performance_management_system.rating.repository;
 
 import com.example.performance_management_system.performancecycle.model.CycleStatus;
+import com.example.performance_management_system.rating.dto.RatingResponse;
+import com.example.performance_management_system.rating.dto.RatingStatusRow;
 import com.example.performance_management_system.rating.model.Rating;
 import com.example.performance_management_system.performancecycle.model.PerformanceCycle;
 import com.example.performance_management_system.rating.model.RatingStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface RatingRepository extends JpaRepository<Rating, Long> {
 
+    /* ---------- Read model ---------- */
+
+    String RESPONSE_SELECT = """
+        SELECT new com.example.performance_management_system.rating.dto.RatingResponse(
+            r.id, r.employeeId, e.name, r.managerId, m.name,
+            c.id, c.name, r.score, r.status,
+            r.managerJustification, r.hrJustification, r.createdAt
+        )
+        FROM Rating r
+        JOIN r.performanceCycle c
+        LEFT JOIN User e ON e.id = r.employeeId
+        LEFT JOIN User m ON m.id = r.managerId
+    """;
+
+    @Query(
+            value = RESPONSE_SELECT + " WHERE c.id = :cycleId",
+            countQuery = "SELECT COUNT(r) FROM Rating r WHERE r.performanceCycle.id = :cycleId"
+    )
+    Page<RatingResponse> findResponsesByCycle(@Param("cycleId") Long cycleId, Pageable pageable);
+
+    @Query(
+            value = RESPONSE_SELECT + " WHERE r.managerId = :managerId AND c.id = :cycleId",
+            countQuery = """
+                SELECT COUNT(r) FROM Rating r
+                WHERE r.managerId = :managerId AND r.performanceCycle.id = :cycleId
+            """
+    )
+    Page<RatingResponse> findResponsesByManagerAndCycle(
+            @Param("managerId") Long managerId,
+            @Param("cycleId") Long cycleId,
+            Pageable pageable
+    );
+
+    @Query(RESPONSE_SELECT + " WHERE c.id = :cycleId ORDER BY r.id")
+    List<RatingResponse> findResponsesByCycle(@Param("cycleId") Long cycleId);
+
+    @Query(RESPONSE_SELECT + " WHERE r.managerId = :managerId AND c.id = :cycleId ORDER BY r.id")
+    List<RatingResponse> findResponsesByManagerAndCycle(
+            @Param("managerId") Long managerId,
+            @Param("cycleId") Long cycleId
+    );
+
+    @Query(RESPONSE_SELECT + " WHERE r.status = :status AND c.id = :cycleId ORDER BY r.id")
+    List<RatingResponse> findResponsesByStatusAndCycle(
+            @Param("status") RatingStatus status,
+            @Param("cycleId") Long cycleId
+    );
+
+    /* ---------- Keyset pages (ordered by id) ---------- */
+
+    @Query(RESPONSE_SELECT + " WHERE c.id = :cycleId AND r.id > :afterId ORDER BY r.id")
+    List<RatingResponse> findResponsesByCycleAfter(
+            @Param("cycleId") Long cycleId,
+            @Param("afterId") long afterId,
+            Pageable limit
+    );
+
+    @Query(RESPONSE_SELECT + " WHERE r.managerId = :managerId AND c.id = :cycleId AND r.id > :afterId ORDER BY r.id")
+    List<RatingResponse> findResponsesByManagerAndCycleAfter(
+            @Param("managerId") Long managerId,
+            @Param("cycleId") Long cycleId,
+            @Param("afterId") long afterId,
+            Pageable limit
+    );
+
+    @Query("""
+        SELECT new com.example.performance_management_system.rating.dto.RatingStatusRow(r.employeeId, r.status)
+        FROM Rating r
+        WHERE r.employeeId IN :employeeIds AND r.performanceCycle.id = :cycleId
+    """)
+    List<RatingStatusRow> findStatusByEmployees(
+            @Param("employeeIds") Collection<Long> employeeIds,
+            @Param("cycleId") Long cycleId
+    );
+
+    long countByPerformanceCycle_Id(Long cycleId);
+
+    long countByManagerIdAndPerformanceCycle_Id(Long managerId, Long cycleId);
+
+    /* ---------- Entity ---------- */
+
     Optional<Rating> findByEmployeeIdAndPerformanceCycle(
             Long employeeId,
             PerformanceCycle performanceCycle
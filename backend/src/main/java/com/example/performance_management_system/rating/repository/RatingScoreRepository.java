@@ -0,0 +1,95 @@
+package com.example.performance_management_system.rating.repository;
+
+import com.example.performance_management_system.rating.model.RatingStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+
+/**
+ * Streams the scores of a cycle into flat columns for calibration.
+ * A plain SELECT reads an MVCC snapshot and takes no row locks.
+ */
+@Repository
+public class RatingScoreRepository {
+
+    private static final int FETCH_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RatingScoreRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Fetch size only takes effect inside a transaction; call from a read-only one.
+     */
+    public ScoreColumns loadScores(Long cycleId, RatingStatus status) {
+        ScoreColumns.Builder columns = new ScoreColumns.Builder();
+
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement("""
+                            SELECT id, employee_id, manager_id, score
+                            FROM rating
+                            WHERE performance_cycle_id = ? AND status = ?
+                            ORDER BY id
+                            """);
+                    ps.setFetchSize(FETCH_SIZE);
+                    ps.setLong(1, cycleId);
+                    ps.setString(2, status.name());
+                    return ps;
+                },
+                rs -> {
+                    columns.add(
+                            rs.getLong("id"),
+                            rs.getLong("employee_id"),
+                            rs.getLong("manager_id"),
+                            rs.getDouble("score")
+                    );
+                }
+        );
+
+        return columns.build();
+    }
+
+    public record ScoreColumns(long[] ratingIds, long[] employeeIds, long[] managerIds, double[] scores) {
+
+        public int size() {
+            return ratingIds.length;
+        }
+
+        static final class Builder {
+            private long[] ratingIds = new long[1024];
+            private long[] employeeIds = new long[1024];
+            private long[] managerIds = new long[1024];
+            private double[] scores = new double[1024];
+            private int size;
+
+            void add(long ratingId, long employeeId, long managerId, double score) {
+                if (size == ratingIds.length) {
+                    int capacity = size * 2;
+                    ratingIds = Arrays.copyOf(ratingIds, capacity);
+                    employeeIds = Arrays.copyOf(employeeIds, capacity);
+                    managerIds = Arrays.copyOf(managerIds, capacity);
+                    scores = Arrays.copyOf(scores, capacity);
+                }
+                ratingIds[size] = ratingId;
+                employeeIds[size] = employeeId;
+                managerIds[size] = managerId;
+                scores[size] = score;
+                size++;
+            }
+
+            ScoreColumns build() {
+                return new ScoreColumns(
+                        Arrays.copyOf(ratingIds, size),
+                        Arrays.copyOf(employeeIds, size),
+                        Arrays.copyOf(managerIds, size),
+                        Arrays.copyOf(scores, size)
+                );
+            }
+        }
+    }
+}
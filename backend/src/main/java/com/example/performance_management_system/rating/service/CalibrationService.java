@@ -0,0 +1,92 @@
+package com.example.performance_management_system.rating.service;
+
+import com.example.performance_management_system.common.error.ErrorCode;
+import com.example.performance_management_system.common.exception.BusinessException;
+import com.example.performance_management_system.rating.dto.CalibrationProposalResponse;
+import com.example.performance_management_system.rating.model.NormalizationMode;
+import com.example.performance_management_system.rating.model.RatingStatus;
+import com.example.performance_management_system.rating.repository.RatingScoreRepository;
+import com.example.performance_management_system.rating.repository.RatingScoreRepository.ScoreColumns;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Proposes cross-manager normalised scores for the ratings awaiting HR
+ * calibration. Nothing is written: HR reviews the proposals and applies the
+ * ones it accepts through the calibrate flow.
+ */
+@Service
+public class CalibrationService {
+
+    private final RatingScoreRepository scoreRepository;
+    private final ScoreNormalizer normalizer = new ScoreNormalizer();
+
+    public CalibrationService(RatingScoreRepository scoreRepository) {
+        this.scoreRepository = scoreRepository;
+    }
+
+    @PreAuthorize("hasRole('HR')")
+    @Transactional(readOnly = true)
+    public CalibrationProposalResponse propose(Long cycleId, NormalizationMode mode, int minTeamSize) {
+
+        if (minTeamSize < 1) {
+            throw new BusinessException(
+                    HttpStatus.BAD_REQUEST,
+                    ErrorCode.INVALID_INPUT,
+                    "Minimum team size must be at least 1"
+            );
+        }
+
+        // only manager-submitted scores: calibrated ones no longer show a manager's leniency
+        ScoreColumns columns = scoreRepository.loadScores(cycleId, RatingStatus.MANAGER_SUBMITTED);
+        ScoreNormalizer.Result result = normalizer.normalize(
+                columns.managerIds(),
+                columns.scores(),
+                mode,
+                minTeamSize
+        );
+
+        List<CalibrationProposalResponse.ManagerLeniency> managers = new ArrayList<>(result.teams().length);
+        for (ScoreNormalizer.TeamStats team : result.teams()) {
+            managers.add(new CalibrationProposalResponse.ManagerLeniency(
+                    team.managerId(),
+                    team.count(),
+                    round(team.mean()),
+                    round(team.stddev()),
+                    round(team.mean() - result.mean()),
+                    team.normalized()
+            ));
+        }
+
+        List<CalibrationProposalResponse.Proposal> proposals = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            proposals.add(new CalibrationProposalResponse.Proposal(
+                    columns.ratingIds()[i],
+                    columns.employeeIds()[i],
+                    columns.managerIds()[i],
+                    columns.scores()[i],
+                    result.proposedScores()[i],
+                    round(result.zScores()[i])
+            ));
+        }
+
+        return new CalibrationProposalResponse(
+                cycleId,
+                mode,
+                result.count(),
+                round(result.mean()),
+                round(result.stddev()),
+                managers,
+                proposals
+        );
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
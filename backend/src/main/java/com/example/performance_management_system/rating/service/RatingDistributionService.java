@@ -0,0 +1,214 @@
+package com.example.performance_management_system.rating.service;
+
+import com.example.performance_management_system.rating.dto.RatingDistributionResponse;
+import com.example.performance_management_system.rating.model.DistributionGroup;
+import com.example.performance_management_system.rating.model.RatingDistribution;
+import com.example.performance_management_system.rating.model.RatingStatus;
+import com.example.performance_management_system.rating.repository.RatingBatchRepository.RatingChange;
+import com.example.performance_management_system.rating.repository.RatingDistributionRepository;
+import com.example.performance_management_system.rating.repository.RatingDistributionRepository.BucketDelta;
+import com.example.performance_management_system.rating.repository.RatingDistributionRepository.BucketKey;
+import com.example.performance_management_system.rating.repository.RatingDistributionRepository.BucketRow;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@link RatingDistribution} in step with rating writes and serves the
+ * calibration dashboard from it, so a distribution costs O(groups × buckets)
+ * instead of a scan of every rating.
+ * <p>
+ * Rating writes report their changed rows after the fact. The first write to a
+ * cycle builds its counters from the rating table (which already includes that
+ * write); every later one only applies the difference. Until then, reads
+ * aggregate the rating table directly. Each rating row records
+ * the department it is counted under: the old value is taken out of that
+ * department and the new value is added to the employee's current one, so a
+ * department move is picked up by the rating's next write.
+ */
+@Service
+public class RatingDistributionService {
+
+    private static final int HISTOGRAM_BINS = 8;
+    private static final int BUCKETS_PER_BIN = 5;
+
+    private final RatingDistributionRepository repository;
+
+    public RatingDistributionService(RatingDistributionRepository repository) {
+        this.repository = repository;
+    }
+
+    /* ================= MAINTENANCE ================= */
+
+    /**
+     * Must run in the transaction that wrote the changes.
+     */
+    public void record(List<RatingChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Map<BucketKey, BucketDelta> deltas = new HashMap<>();
+
+        Map<Long, List<RatingChange>> byCycle = changes.stream()
+                .collect(Collectors.groupingBy(RatingChange::performanceCycleId));
+
+        byCycle.forEach((cycleId, cycleChanges) -> {
+            if (repository.markSeeded(cycleId)) {
+                // seeded from rows that already include these changes
+                repository.insertForCycle(cycleId);
+                return;
+            }
+            for (RatingChange change : cycleChanges) {
+                if (change.oldStatus() != null && change.oldScore() != null) {
+                    // rows counted before departments were stamped were counted under the current one
+                    Long oldDepartmentId = change.oldDepartmentId() != null
+                            ? change.oldDepartmentId()
+                            : change.departmentId();
+                    addToGroups(deltas, change, oldDepartmentId, change.oldStatus(), change.oldScore(), -1);
+                }
+                addToGroups(deltas, change, change.departmentId(), change.newStatus(), change.newScore(), 1);
+            }
+        });
+
+        repository.applyDeltas(deltas);
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    @Transactional
+    public int rebuild(Long cycleId) {
+        repository.deleteForCycle(cycleId);
+        repository.markSeeded(cycleId);
+        return repository.insertForCycle(cycleId);
+    }
+
+    private static void addToGroups(
+            Map<BucketKey, BucketDelta> deltas,
+            RatingChange change,
+            Long departmentId,
+            RatingStatus status,
+            double score,
+            int sign
+    ) {
+        int bucket = RatingDistributionRepository.bucketOf(score);
+        Long cycleId = change.performanceCycleId();
+
+        deltas.computeIfAbsent(new BucketKey(cycleId, DistributionGroup.CYCLE, 0L, status, bucket), key -> new BucketDelta())
+                .add(score, sign);
+        deltas.computeIfAbsent(new BucketKey(cycleId, DistributionGroup.DEPARTMENT, departmentId, status, bucket), key -> new BucketDelta())
+                .add(score, sign);
+        deltas.computeIfAbsent(new BucketKey(cycleId, DistributionGroup.MANAGER, change.managerId(), status, bucket), key -> new BucketDelta())
+                .add(score, sign);
+    }
+
+    /* ================= READ ================= */
+
+    /**
+     * Distribution of every group of {@code groupBy} in the cycle, over all statuses
+     * unless {@code status} is given.
+     */
+    @PreAuthorize("hasRole('HR') or hasRole('LEADERSHIP') or hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public List<RatingDistributionResponse> getDistribution(
+            Long cycleId,
+            DistributionGroup groupBy,
+            RatingStatus status
+    ) {
+        // counters are built by the first rating write or a rebuild, never by a read
+        List<BucketRow> buckets = repository.isSeeded(cycleId)
+                ? repository.findBuckets(cycleId, groupBy, status)
+                : repository.findBucketsFromRatings(cycleId, groupBy, status);
+
+        Map<Long, List<BucketRow>> rowsByGroup = new LinkedHashMap<>();
+        for (BucketRow row : buckets) {
+            rowsByGroup.computeIfAbsent(row.groupId(), id -> new ArrayList<>()).add(row);
+        }
+
+        if (rowsByGroup.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> names = groupBy == DistributionGroup.CYCLE
+                ? repository.findGroupNames(groupBy, List.of(cycleId))
+                : repository.findGroupNames(groupBy, rowsByGroup.keySet());
+
+        List<RatingDistributionResponse> result = new ArrayList<>(rowsByGroup.size());
+        rowsByGroup.forEach((groupId, rows) -> result.add(summarize(
+                groupBy,
+                groupId,
+                names.get(groupBy == DistributionGroup.CYCLE ? cycleId : groupId),
+                rows
+        )));
+        return result;
+    }
+
+    /**
+     * @param rows one group's non-empty buckets, ascending
+     */
+    private static RatingDistributionResponse summarize(
+            DistributionGroup groupType,
+            Long groupId,
+            String groupName,
+            List<BucketRow> rows
+    ) {
+        long count = 0;
+        double sum = 0.0;
+        double squareSum = 0.0;
+        long[] bins = new long[HISTOGRAM_BINS];
+
+        for (BucketRow row : rows) {
+            count += row.count();
+            sum += row.sum();
+            squareSum += row.squareSum();
+            bins[Math.min(HISTOGRAM_BINS - 1, row.bucket() / BUCKETS_PER_BIN)] += row.count();
+        }
+
+        double mean = sum / count;
+        double variance = Math.max(0.0, squareSum / count - mean * mean);
+
+        List<RatingDistributionResponse.HistogramBin> histogram = new ArrayList<>(HISTOGRAM_BINS);
+        for (int bin = 0; bin < HISTOGRAM_BINS; bin++) {
+            double from = 1.0 + bin * 0.5;
+            histogram.add(new RatingDistributionResponse.HistogramBin(from, from + 0.5, bins[bin]));
+        }
+
+        return new RatingDistributionResponse(
+                groupType,
+                groupId,
+                groupName,
+                count,
+                round(mean),
+                round(Math.sqrt(variance)),
+                percentile(rows, count, 0.10),
+                percentile(rows, count, 0.25),
+                percentile(rows, count, 0.50),
+                percentile(rows, count, 0.75),
+                percentile(rows, count, 0.90),
+                histogram
+        );
+    }
+
+    // nearest rank
+    private static Double percentile(List<BucketRow> rows, long count, double p) {
+        long rank = Math.max(1, (long) Math.ceil(p * count));
+        long seen = 0;
+        for (BucketRow row : rows) {
+            seen += row.count();
+            if (seen >= rank) {
+                return round(row.sum() / row.count());
+            }
+        }
+        return null;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
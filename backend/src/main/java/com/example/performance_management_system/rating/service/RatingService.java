@@ -1,52 +1,68 @@
 package com.example.performance_management_system.rating.service;
 
 import com.example.performance_management_system.common.error.ErrorCode;
+import com.example.performance_management_system.common.pagination.CursorPage;
+import com.example.performance_management_system.common.pagination.PageCursor;
 import com.example.performance_management_system.common.exception.BusinessException;
 import com.example.performance_management_system.config.security.SecurityUtil;
-import com.example.performance_management_system.goal.model.Goal;
-import com.example.performance_management_system.goal.model.GoalStatus;
-import com.example.performance_management_system.goal.repository.GoalRepository;
-import com.example.performance_management_system.keyresult.model.KeyResult;
+import com.example.performance_management_system.performance.application.service.PerformanceScoringEngine;
+import com.example.performance_management_system.performance.domain.model.valueobject.EmployeeId;
+import com.example.performance_management_system.performance.domain.model.valueobject.ReviewCycleId;
 import com.example.performance_management_system.performancecycle.model.CycleStatus;
 import com.example.performance_management_system.performancecycle.service.PerformanceCycleService;
+import com.example.performance_management_system.rating.dto.BatchCalibrateRatingRequest;
 import com.example.performance_management_system.rating.dto.CalibrateRatingRequest;
 import com.example.performance_management_system.rating.dto.CreateRatingRequest;
+import com.example.performance_management_system.rating.dto.RatingBatchResult;
+import com.example.performance_management_system.rating.dto.RatingResponse;
 import com.example.performance_management_system.rating.model.Rating;
 import com.example.performance_management_system.rating.model.RatingStatus;
+import com.example.performance_management_system.rating.repository.RatingBatchRepository;
+import com.example.performance_management_system.rating.repository.RatingBatchRepository.RatingChange;
+import com.example.performance_management_system.rating.repository.RatingBatchRepository.RatingState;
 import com.example.performance_management_system.rating.repository.RatingRepository;
-import com.example.performance_management_system.user.repository.UserRepository;
 import com.example.performance_management_system.user.service.HierarchyService;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class RatingService {
 
     private final RatingRepository repository;
+    private final RatingBatchRepository batchRepository;
     private final PerformanceCycleService cycleService;
     private final HierarchyService hierarchyService;
-    private final UserRepository userRepository;
-    private final GoalRepository goalRepository;
+    private final PerformanceScoringEngine scoringEngine;
+    private final RatingDistributionService distributionService;
 
     public RatingService(
             RatingRepository repository,
+            RatingBatchRepository batchRepository,
             PerformanceCycleService cycleService,
             HierarchyService hierarchyService,
-            UserRepository userRepository,
-            GoalRepository goalRepository
+            PerformanceScoringEngine scoringEngine,
+            RatingDistributionService distributionService
     ) {
         this.repository = repository;
+        this.batchRepository = batchRepository;
         this.cycleService = cycleService;
         this.hierarchyService = hierarchyService;
-        this.userRepository = userRepository;
-        this.goalRepository = goalRepository;
+        this.scoringEngine = scoringEngine;
+        this.distributionService = distributionService;
     }
 
     /* ================= CREATE ================= */
@@ -83,7 +99,9 @@ public class RatingService {
         rating.setScore(calculateScoreFromGoals(req.employeeId));
         rating.setManagerJustification(req.managerJustification);
 
-        return repository.save(rating);
+        Rating saved = repository.save(rating);
+        distributionService.record(batchRepository.findCreated(List.of(saved.getId())));
+        return saved;
     }
 
     /* ================= MANAGER ================= */
@@ -92,14 +110,9 @@ public class RatingService {
     @Transactional
     public Rating submitByManager(Long ratingId) {
 
-        Rating rating = get(ratingId);
-
-        if (rating.getStatus() != RatingStatus.DRAFT) {
-            throw new BusinessException(
-                    HttpStatus.CONFLICT,
-                    ErrorCode.RATING_INVALID_STATE,
-                    "Rating is not in draft state"
-            );
+        RatingState state = batchRepository.findStates(List.of(ratingId)).get(ratingId);
+        if (state == null) {
+            throw ratingNotFound();
         }
 
         Long managerId = SecurityUtil.userId();
@@ -108,12 +121,12 @@ public class RatingService {
         if (!role.equals("HR") && !role.equals("ADMIN")) {
             hierarchyService.validateManagerAccess(
                     managerId,
-                    rating.getEmployeeId()
+                    state.employeeId()
             );
         }
 
-        rating.submitByManager();
-        return repository.save(rating);
+        return transition(ratingId, RatingStatus.DRAFT, RatingStatus.MANAGER_SUBMITTED,
+                "Rating is not in draft state");
     }
 
     /* ================= HR ================= */
@@ -122,18 +135,12 @@ public class RatingService {
     @Transactional
     public Rating calibrate(Long ratingId, CalibrateRatingRequest req) {
 
-        Rating rating = get(ratingId);
-
-        if (rating.getStatus() != RatingStatus.MANAGER_SUBMITTED) {
-            throw new BusinessException(
-                    HttpStatus.CONFLICT,
-                    ErrorCode.RATING_INVALID_STATE,
-                    "Rating must be manager submitted before calibration"
-            );
-        }
+        List<RatingChange> changes = batchRepository.calibrate(List.of(
+                new RatingBatchRepository.Calibration(ratingId, req.newScore, req.justification)
+        ));
 
-        rating.calibrateByHr(req.newScore, req.justification);
-        return repository.save(rating);
+        return reloadOrConflict(ratingId, changes,
+                "Rating must be manager submitted before calibration");
     }
 
     /* ================= LEADERSHIP ================= */
@@ -141,112 +148,279 @@ public class RatingService {
     @PreAuthorize("hasRole('LEADERSHIP')")
     @Transactional
     public Rating finalizeRating(Long ratingId) {
+        return transition(ratingId, RatingStatus.HR_CALIBRATED, RatingStatus.FINALIZED,
+                "Rating must be calibrated before finalization");
+    }
+
+    /* ================= TRANSITIONS ================= */
 
-        Rating rating = get(ratingId);
+    /*
+     * Transitions are compare-and-set: one UPDATE ... WHERE id = ? AND status = ?.
+     * Two concurrent requests for the same transition cannot both succeed, and a
+     * transition never overwrites a state another request has just written.
+     */
+    private Rating transition(Long ratingId, RatingStatus from, RatingStatus to, String conflictMessage) {
+        List<RatingChange> changes = batchRepository.transition(List.of(ratingId), from, to);
+        return reloadOrConflict(ratingId, changes, conflictMessage);
+    }
 
-        if (rating.getStatus() != RatingStatus.HR_CALIBRATED) {
+    private Rating reloadOrConflict(Long ratingId, List<RatingChange> changes, String conflictMessage) {
+        if (changes.isEmpty()) {
+            if (batchRepository.findStates(List.of(ratingId)).isEmpty()) {
+                throw ratingNotFound();
+            }
             throw new BusinessException(
                     HttpStatus.CONFLICT,
                     ErrorCode.RATING_INVALID_STATE,
-                    "Rating must be calibrated before finalization"
+                    conflictMessage
             );
         }
+        distributionService.record(changes);
+        // not loaded before the update, so this reads the row as written
+        return get(ratingId);
+    }
+
+    /* ================= BATCH ================= */
+
+    @PreAuthorize("hasRole('MANAGER')")
+    @Transactional
+    public RatingBatchResult submitByManager(List<Long> ratingIds) {
+
+        Long managerId = SecurityUtil.userId();
+        String role = SecurityUtil.role();
+        boolean checkHierarchy = !role.equals("HR") && !role.equals("ADMIN");
+
+        // hierarchy checks need the employee of each rating before anything is updated
+        Map<Long, RatingState> states = batchRepository.findStates(new HashSet<>(ratingIds));
+        Map<Long, RatingBatchResult.Item> rejected = new HashMap<>();
+
+        for (Long ratingId : ratingIds) {
+            RatingState state = states.get(ratingId);
+            if (state == null) {
+                rejected.put(ratingId, notFound(ratingId));
+            } else if (checkHierarchy && !hierarchyService.isManagerOf(managerId, state.employeeId())) {
+                rejected.put(ratingId, new RatingBatchResult.Item(
+                        ratingId,
+                        RatingBatchResult.Outcome.FORBIDDEN,
+                        "You are not the manager of this employee"
+                ));
+            }
+        }
+
+        return applyBatch(
+                ratingIds,
+                RatingStatus.DRAFT,
+                rejected,
+                ids -> batchRepository.transition(ids, RatingStatus.DRAFT, RatingStatus.MANAGER_SUBMITTED)
+        );
+    }
+
+    @PreAuthorize("hasRole('HR')")
+    @Transactional
+    public RatingBatchResult calibrate(BatchCalibrateRatingRequest req) {
+
+        Map<Long, BatchCalibrateRatingRequest.Item> itemsById = new LinkedHashMap<>();
+        List<Long> ratingIds = new ArrayList<>(req.items.size());
+        for (BatchCalibrateRatingRequest.Item item : req.items) {
+            ratingIds.add(item.ratingId);
+            itemsById.putIfAbsent(item.ratingId, item);
+        }
+
+        return applyBatch(
+                ratingIds,
+                RatingStatus.MANAGER_SUBMITTED,
+                Map.of(),
+                ids -> batchRepository.calibrate(ids.stream()
+                        .map(itemsById::get)
+                        .map(item -> new RatingBatchRepository.Calibration(
+                                item.ratingId,
+                                item.newScore,
+                                item.justification
+                        ))
+                        .toList())
+        );
+    }
+
+    @PreAuthorize("hasRole('LEADERSHIP')")
+    @Transactional
+    public RatingBatchResult finalizeRatings(List<Long> ratingIds) {
+        return applyBatch(
+                ratingIds,
+                RatingStatus.HR_CALIBRATED,
+                Map.of(),
+                ids -> batchRepository.transition(ids, RatingStatus.HR_CALIBRATED, RatingStatus.FINALIZED)
+        );
+    }
+
+    /**
+     * Runs one conditional update over every distinct, not already rejected id and
+     * reports an outcome per requested id. Only ids the update skipped are read back,
+     * to tell a missing rating from one in the wrong state.
+     */
+    private RatingBatchResult applyBatch(
+            List<Long> ratingIds,
+            RatingStatus expected,
+            Map<Long, RatingBatchResult.Item> rejected,
+            Function<List<Long>, List<RatingChange>> update
+    ) {
+        List<Long> candidates = ratingIds.stream()
+                .distinct()
+                .filter(id -> !rejected.containsKey(id))
+                .toList();
+
+        List<RatingChange> changes = candidates.isEmpty() ? List.of() : update.apply(candidates);
+        distributionService.record(changes);
+
+        Set<Long> applied = changes.stream()
+                .map(RatingChange::ratingId)
+                .collect(Collectors.toSet());
+
+        List<Long> skipped = candidates.stream()
+                .filter(id -> !applied.contains(id))
+                .toList();
+        Map<Long, RatingState> states = skipped.isEmpty() ? Map.of() : batchRepository.findStates(skipped);
+
+        List<RatingBatchResult.Item> results = new ArrayList<>(ratingIds.size());
+        Set<Long> reported = new HashSet<>();
+
+        for (Long ratingId : ratingIds) {
+            if (!reported.add(ratingId)) {
+                results.add(new RatingBatchResult.Item(
+                        ratingId,
+                        RatingBatchResult.Outcome.DUPLICATE,
+                        "Rating appears more than once in the batch"
+                ));
+            } else if (rejected.containsKey(ratingId)) {
+                results.add(rejected.get(ratingId));
+            } else if (applied.contains(ratingId)) {
+                results.add(new RatingBatchResult.Item(ratingId, RatingBatchResult.Outcome.APPLIED, null));
+            } else if (!states.containsKey(ratingId)) {
+                results.add(notFound(ratingId));
+            } else {
+                results.add(new RatingBatchResult.Item(
+                        ratingId,
+                        RatingBatchResult.Outcome.CONFLICT,
+                        "Rating is " + states.get(ratingId).status() + ", expected " + expected
+                ));
+            }
+        }
+
+        return new RatingBatchResult(ratingIds.size(), applied.size(), results);
+    }
 
-        rating.finalizeRating();
-        return repository.save(rating);
+    private static RatingBatchResult.Item notFound(Long ratingId) {
+        return new RatingBatchResult.Item(ratingId, RatingBatchResult.Outcome.NOT_FOUND, "Rating not found");
     }
 
     /* ================= READ ================= */
 
     private Rating get(Long id) {
         return repository.findById(id)
-                .orElseThrow(() -> new BusinessException(
-                        HttpStatus.NOT_FOUND,
-                        ErrorCode.SYSTEM_ERROR, // can be RATING_NOT_FOUND later
-                        "Rating not found"
-                ));
+                .orElseThrow(this::ratingNotFound);
+    }
+
+    private BusinessException ratingNotFound() {
+        return new BusinessException(
+                HttpStatus.NOT_FOUND,
+                ErrorCode.SYSTEM_ERROR, // can be RATING_NOT_FOUND later
+                "Rating not found"
+        );
     }
 
-    public Page<Rating> getRatingsForCycle(
+    public Page<RatingResponse> getRatingsForCycle(
             Long cycleId,
             int page,
             int size
     ) {
-        Page<Rating> ratingsPage;
-
         if ("MANAGER".equals(SecurityUtil.role())) {
-            ratingsPage = repository.findByManagerIdAndPerformanceCycle_Id(
+            return repository.findResponsesByManagerAndCycle(
                     SecurityUtil.userId(),
                     cycleId,
                     PageRequest.of(page, size)
             );
-        } else {
-            ratingsPage = repository.findByPerformanceCycle_Id(
-                    cycleId,
-                    PageRequest.of(page, size)
-            );
         }
 
-        var enrichedRatings = enrichRatingsWithEmployeeNames(ratingsPage.getContent());
+        return repository.findResponsesByCycle(
+                cycleId,
+                PageRequest.of(page, size)
+        );
+    }
+
+    /**
+     * Keyset alternative to {@link #getRatingsForCycle(Long, int, int)}; the total
+     * is only counted when asked for.
+     */
+    public CursorPage<RatingResponse> getRatingsForCycle(
+            Long cycleId,
+            String cursor,
+            int size,
+            boolean includeTotal
+    ) {
+        long afterId = PageCursor.afterId(PageCursor.decode(cursor));
+
+        if ("MANAGER".equals(SecurityUtil.role())) {
+            Long managerId = SecurityUtil.userId();
+            return CursorPage.of(
+                    repository.findResponsesByManagerAndCycleAfter(managerId, cycleId, afterId, CursorPage.limit(size)),
+                    size,
+                    rating -> PageCursor.of(rating.id()),
+                    includeTotal ? repository.countByManagerIdAndPerformanceCycle_Id(managerId, cycleId) : null
+            );
+        }
 
-        return new PageImpl<>(
-                enrichedRatings,
-                ratingsPage.getPageable(),
-                ratingsPage.getTotalElements()
+        return CursorPage.of(
+                repository.findResponsesByCycleAfter(cycleId, afterId, CursorPage.limit(size)),
+                size,
+                rating -> PageCursor.of(rating.id()),
+                includeTotal ? repository.countByPerformanceCycle_Id(cycleId) : null
         );
     }
 
     @PreAuthorize("hasRole('MANAGER')")
-    public List<Rating> getTeamRatings(Long managerId) {
+    public List<RatingResponse> getTeamRatings(Long managerId) {
 
         var cycle = cycleService.getActiveCycle();
 
-        List<Rating> ratings = repository.findByManagerIdAndPerformanceCycle(
+        return repository.findResponsesByManagerAndCycle(
                 managerId,
-                cycle
+                cycle.getId()
         );
-        return enrichRatingsWithEmployeeNames(ratings);
     }
 
     @PreAuthorize("hasRole('HR')")
-    public List<Rating> getRatingsPendingCalibration() {
+    public List<RatingResponse> getRatingsPendingCalibration() {
 
         var cycle = cycleService.getActiveCycle();
 
-        List<Rating> ratings = repository.findByStatusAndPerformanceCycle(
+        return repository.findResponsesByStatusAndCycle(
                 RatingStatus.MANAGER_SUBMITTED,
-                cycle
+                cycle.getId()
         );
-        return enrichRatingsWithEmployeeNames(ratings);
     }
 
     @PreAuthorize("hasRole('LEADERSHIP')")
-    public List<Rating> getRatingsForFinalization() {
+    public List<RatingResponse> getRatingsForFinalization() {
 
         var cycle = cycleService.getActiveCycle();
 
-        List<Rating> ratings = repository.findByStatusAndPerformanceCycle(
+        return repository.findResponsesByStatusAndCycle(
                 RatingStatus.HR_CALIBRATED,
-                cycle
+                cycle.getId()
         );
-        return enrichRatingsWithEmployeeNames(ratings);
     }
 
-    public List<Rating> getRatingsForActiveCycle() {
+    public List<RatingResponse> getRatingsForActiveCycle() {
         var cycle = cycleService.getActiveCycle();
 
-        List<Rating> ratings;
         String role = SecurityUtil.role();
 
         if ("HR".equals(role)) {
-            ratings = repository.findByStatusAndPerformanceCycle(RatingStatus.MANAGER_SUBMITTED, cycle);
+            return repository.findResponsesByStatusAndCycle(RatingStatus.MANAGER_SUBMITTED, cycle.getId());
         } else if ("LEADERSHIP".equals(role)) {
-            ratings = repository.findByStatusAndPerformanceCycle(RatingStatus.HR_CALIBRATED, cycle);
-        } else {
-            ratings = repository.findByPerformanceCycle(cycle);
+            return repository.findResponsesByStatusAndCycle(RatingStatus.HR_CALIBRATED, cycle.getId());
         }
 
-        return enrichRatingsWithEmployeeNames(ratings);
+        return repository.findResponsesByCycle(cycle.getId());
     }
 
     public Rating getMyActiveRating(Long employeeId) {
@@ -276,81 +450,13 @@ public class RatingService {
     }
 
 
-    private List<Rating> enrichRatingsWithEmployeeNames(List<Rating> ratings) {
-        if (ratings.isEmpty()) {
-            return ratings;
-        }
-
-        var employeeIds = ratings.stream()
-                .map(Rating::getEmployeeId)
-                .distinct()
-                .toList();
-
-        var employeeById = userRepository.findAllById(employeeIds)
-                .stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        user -> user.getId(),
-                        user -> user.getName()
-                ));
-
-        ratings.forEach(rating -> rating.setEmployeeName(
-                employeeById.getOrDefault(rating.getEmployeeId(), "Unknown")
-        ));
-
-        return ratings;
-    }
-
-
     private Double calculateScoreFromGoals(Long employeeId) {
         var activeCycle = cycleService.getActiveCycle();
 
-        List<Goal> goals = goalRepository.findByEmployeeIdAndPerformanceCycle_Id(
-                employeeId,
-                activeCycle.getId()
-        );
-
-        if (goals.isEmpty()) {
-            return 1.0;
-        }
-
-        double averageScore = goals.stream()
-                .mapToDouble(this::calculateGoalScore)
-                .average()
-                .orElse(1.0);
-
-        double boundedScore = Math.max(1.0, Math.min(5.0, averageScore));
-        return Math.round(boundedScore * 100.0) / 100.0;
-    }
-
-    private double calculateGoalScore(Goal goal) {
-        double progress = goal.getKeyResults().stream()
-                .mapToDouble(this::calculateKeyResultProgress)
-                .average()
-                .orElse(0.0);
-
-        double statusWeight = mapGoalStatusWeight(goal.getStatus());
-
-        return progress * statusWeight * 5.0;
-    }
-
-    private double calculateKeyResultProgress(KeyResult keyResult) {
-        if (keyResult.getTargetValue() == null || keyResult.getTargetValue() <= 0) {
-            return 0.0;
-        }
-
-        double current = keyResult.getCurrentValue() == null ? 0.0 : keyResult.getCurrentValue();
-        return Math.max(0.0, Math.min(1.0, current / keyResult.getTargetValue()));
-    }
-
-    private double mapGoalStatusWeight(GoalStatus status) {
-        return switch (status) {
-            case COMPLETED -> 1.0;
-            case APPROVED -> 0.9;
-            case SUBMITTED -> 0.75;
-            case DRAFT -> 0.5;
-            case REJECTED -> 0.2;
-            case ARCHIVED -> 0.0;
-        };
+        return scoringEngine.score(
+                new EmployeeId(employeeId),
+                new ReviewCycleId(activeCycle.getId())
+        ).value();
     }
 
     /* ================= UPDATE ================= */
@@ -363,9 +469,12 @@ public class RatingService {
             String justification
     ) {
 
-        Rating rating = get(ratingId);
+        RatingState state = batchRepository.findStates(List.of(ratingId)).get(ratingId);
+        if (state == null) {
+            throw ratingNotFound();
+        }
 
-        if (!rating.getManagerId().equals(SecurityUtil.userId())) {
+        if (!SecurityUtil.userId().equals(state.managerId())) {
             throw new BusinessException(
                     HttpStatus.FORBIDDEN,
                     ErrorCode.ACCESS_DENIED,
@@ -373,7 +482,14 @@ public class RatingService {
             );
         }
 
-        if (rating.getStatus() != RatingStatus.DRAFT) {
+        // conditional on DRAFT, so an edit racing a submission cannot change the submitted rating
+        List<RatingChange> changes = batchRepository.updateDraft(
+                ratingId,
+                calculateScoreFromGoals(state.employeeId()),
+                justification
+        );
+
+        if (changes.isEmpty()) {
             throw new BusinessException(
                     HttpStatus.CONFLICT,
                     ErrorCode.RATING_INVALID_STATE,
@@ -381,9 +497,7 @@ public class RatingService {
             );
         }
 
-        rating.setScore(calculateScoreFromGoals(rating.getEmployeeId()));
-        rating.setManagerJustification(justification);
-
-        return repository.save(rating);
+        distributionService.record(changes);
+        return get(ratingId);
     }
 }
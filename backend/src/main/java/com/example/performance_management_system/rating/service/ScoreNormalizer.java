@@ -0,0 +1,180 @@
+package com.example.performance_management_system.rating.service;
+
+import com.example.performance_management_system.rating.model.NormalizationMode;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cross-manager score normalisation over flat rating columns.
+ * <p>
+ * One pass accumulates the mean and variance of every manager's scores and of
+ * the whole cycle with Welford's update; a second pass turns each score into a
+ * within-team z-score and proposes a new score from it. Teams smaller than
+ * {@code minTeamSize} are too small to judge leniency: their z-score is taken
+ * against the cycle instead, and in {@link NormalizationMode#Z_SCORE} their
+ * scores are left unchanged.
+ */
+public final class ScoreNormalizer {
+
+    /** Share of ratings that receive 1, 2, 3, 4 and 5 under a forced distribution. */
+    public static final double[] DEFAULT_FORCED_SHARES = {0.10, 0.20, 0.40, 0.20, 0.10};
+
+    private static final double MIN_SCORE = 1.0;
+    private static final double MAX_SCORE = 5.0;
+
+    private static final int INDEX_BITS = 24;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    public Result normalize(long[] managerIds, double[] scores, NormalizationMode mode, int minTeamSize) {
+        Objects.requireNonNull(mode, "Normalization mode is required");
+        if (managerIds.length != scores.length) {
+            throw new IllegalArgumentException("Manager and score columns differ in length");
+        }
+
+        int n = scores.length;
+
+        // dense manager index, in order of first appearance
+        Map<Long, Integer> managerIndex = new HashMap<>();
+        int[] team = new int[n];
+        long[] teamManagerIds = new long[Math.max(1, n)];
+        for (int i = 0; i < n; i++) {
+            Integer index = managerIndex.get(managerIds[i]);
+            if (index == null) {
+                index = managerIndex.size();
+                managerIndex.put(managerIds[i], index);
+                teamManagerIds[index] = managerIds[i];
+            }
+            team[i] = index;
+        }
+        int teams = managerIndex.size();
+
+        /* ---------- Pass 1: Welford ---------- */
+
+        long[] teamCount = new long[teams];
+        double[] teamMean = new double[teams];
+        double[] teamM2 = new double[teams];
+        long count = 0;
+        double mean = 0.0;
+        double m2 = 0.0;
+
+        for (int i = 0; i < n; i++) {
+            double score = scores[i];
+            int t = team[i];
+
+            long c = ++teamCount[t];
+            double delta = score - teamMean[t];
+            teamMean[t] += delta / c;
+            teamM2[t] += delta * (score - teamMean[t]);
+
+            count++;
+            double globalDelta = score - mean;
+            mean += globalDelta / count;
+            m2 += globalDelta * (score - mean);
+        }
+
+        double stddev = count == 0 ? 0.0 : Math.sqrt(m2 / count);
+        double[] teamStddev = new double[teams];
+        for (int t = 0; t < teams; t++) {
+            teamStddev[t] = Math.sqrt(teamM2[t] / teamCount[t]);
+        }
+
+        /* ---------- Pass 2: z-scores and proposals ---------- */
+
+        double[] z = new double[n];
+        double[] proposed = new double[n];
+
+        for (int i = 0; i < n; i++) {
+            int t = team[i];
+            boolean normalized = teamCount[t] >= minTeamSize;
+
+            if (normalized) {
+                z[i] = teamStddev[t] > 0.0 ? (scores[i] - teamMean[t]) / teamStddev[t] : 0.0;
+                proposed[i] = round(clamp(mean + z[i] * stddev));
+            } else {
+                z[i] = stddev > 0.0 ? (scores[i] - mean) / stddev : 0.0;
+                proposed[i] = scores[i];
+            }
+        }
+
+        if (mode == NormalizationMode.FORCED_DISTRIBUTION) {
+            forceDistribution(z, proposed, DEFAULT_FORCED_SHARES);
+        }
+
+        TeamStats[] teamStats = new TeamStats[teams];
+        for (int t = 0; t < teams; t++) {
+            teamStats[t] = new TeamStats(
+                    teamManagerIds[t],
+                    teamCount[t],
+                    teamMean[t],
+                    teamStddev[t],
+                    teamCount[t] >= minTeamSize
+            );
+        }
+
+        return new Result(count, mean, stddev, teamStats, z, proposed);
+    }
+
+    /**
+     * Ranks all ratings by z-score and hands out the scores 1..5 in order of
+     * {@code shares}.
+     * <p>
+     * Ranking sorts primitive keys: each z-score is mapped to a long that sorts
+     * like the double, and its low {@link #INDEX_BITS} bits are replaced by the
+     * rating index. z-scores closer than about 1e-8 relative therefore tie and
+     * are ordered by index.
+     */
+    private static void forceDistribution(double[] z, double[] proposed, double[] shares) {
+        int n = z.length;
+        if (n == 0) {
+            return;
+        }
+        if (n > INDEX_MASK) {
+            throw new IllegalArgumentException("Too many ratings to rank: " + n);
+        }
+
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            long bits = Double.doubleToLongBits(z[i] + 0.0);
+            long sortable = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+            keys[i] = (sortable & ~INDEX_MASK) | i;
+        }
+        Arrays.sort(keys);
+
+        double cumulative = 0.0;
+        int position = 0;
+        for (int level = 0; level < shares.length; level++) {
+            cumulative += shares[level];
+            int end = level == shares.length - 1 ? n : (int) Math.round(cumulative * n);
+            for (; position < end; position++) {
+                proposed[(int) (keys[position] & INDEX_MASK)] = MIN_SCORE + level;
+            }
+        }
+    }
+
+    private static double clamp(double score) {
+        return Math.max(MIN_SCORE, Math.min(MAX_SCORE, score));
+    }
+
+    private static double round(double score) {
+        return Math.round(score * 100.0) / 100.0;
+    }
+
+    public record TeamStats(long managerId, long count, double mean, double stddev, boolean normalized) {
+    }
+
+    /**
+     * {@code zScores} and {@code proposedScores} are indexed like the input columns.
+     */
+    public record Result(
+            long count,
+            double mean,
+            double stddev,
+            TeamStats[] teams,
+            double[] zScores,
+            double[] proposedScores
+    ) {
+    }
+}
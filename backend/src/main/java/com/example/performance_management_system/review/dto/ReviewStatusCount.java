@@ -0,0 +1,6 @@
+package com.example.performance_management_system.review.dto;
+
+import com.example.performance_management_system.review.model.ReviewStatus;
+
+public record ReviewStatusCount(Long employeeId, ReviewStatus status, Long count) {
+}
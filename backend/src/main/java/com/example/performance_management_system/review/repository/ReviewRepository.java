@@ -1,12 +1,16 @@
 package com.example.performance_management_system.review.repository;
 
+import com.example.performance_management_system.review.dto.ReviewStatusCount;
 import com.example.performance_management_system.review.model.Review;
 import com.example.performance_management_system.reviewcycle.model.ReviewCycle;
 import com.example.performance_management_system.reviewcycle.model.ReviewCycleStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +32,17 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     );
 
     Page<Review> findByManagerId(Long managerId, Pageable pageable);
+
+    @Query("""
+        SELECT new com.example.performance_management_system.review.dto.ReviewStatusCount(
+            r.employeeId, r.status, COUNT(r)
+        )
+        FROM Review r
+        WHERE r.employeeId IN :employeeIds AND r.reviewCycle.performanceCycle.id = :cycleId
+        GROUP BY r.employeeId, r.status
+    """)
+    List<ReviewStatusCount> countByEmployeeAndStatus(
+            @Param("employeeIds") Collection<Long> employeeIds,
+            @Param("cycleId") Long cycleId
+    );
 }
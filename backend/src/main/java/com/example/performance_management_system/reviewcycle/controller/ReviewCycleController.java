@@ -1,8 +1,10 @@
 package com.example.performance_management_system.reviewcycle.controller;
 
 import com.example.performance_management_system.reviewcycle.dto.CreateReviewCycleRequest;
+import com.example.performance_management_system.reviewcycle.dto.ReviewCycleActivationResponse;
 import com.example.performance_management_system.reviewcycle.model.ReviewCycle;
 import com.example.performance_management_system.reviewcycle.service.ReviewCycleService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -36,8 +38,14 @@ public class ReviewCycleController {
 
     @PostMapping("/{id}/activate")
     @PreAuthorize("hasRole('HR') or hasRole('ADMIN')")
-    public ReviewCycle activate(@PathVariable Long id) {
-        return service.activate(id);
+    public ResponseEntity<ReviewCycleActivationResponse> activate(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(service.activate(id));
+    }
+
+    // 🔹 ACTIVATION PROGRESS
+    @GetMapping("/{id}/activation")
+    public ReviewCycleActivationResponse activation(@PathVariable Long id) {
+        return service.getActivation(id);
     }
 
     @PostMapping("/{id}/close")
@@ -0,0 +1,32 @@
+package com.example.performance_management_system.reviewcycle.dto;
+
+import com.example.performance_management_system.reviewcycle.model.ActivationJobStatus;
+import com.example.performance_management_system.reviewcycle.model.ReviewCycleStatus;
+
+import java.time.LocalDateTime;
+
+public class ReviewCycleActivationResponse {
+
+    public Long reviewCycleId;
+    public ReviewCycleStatus status;
+
+    public Long jobId;
+    public ActivationJobStatus jobStatus;
+
+    public long totalEmployees;
+    public long processedEmployees;
+    public double percentComplete;
+
+    public long reviewsCreated;
+    public long ratingsCreated;
+
+    // employees per second since the job started
+    public double throughputPerSecond;
+
+    // null while there is not enough progress to estimate, 0 once finished
+    public Long etaSeconds;
+
+    public LocalDateTime startedAt;
+    public LocalDateTime completedAt;
+    public String failureReason;
+}
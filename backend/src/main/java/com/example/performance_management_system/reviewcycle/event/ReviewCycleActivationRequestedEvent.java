@@ -0,0 +1,8 @@
+package com.example.performance_management_system.reviewcycle.event;
+
+/**
+ * Published when an activation job is created or retried; the worker picks it
+ * up once the creating transaction has committed.
+ */
+public record ReviewCycleActivationRequestedEvent(Long jobId) {
+}
@@ -0,0 +1,8 @@
+package com.example.performance_management_system.reviewcycle.model;
+
+public enum ActivationJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,113 @@
+package com.example.performance_management_system.reviewcycle.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted progress of a review cycle activation.
+ * {@code lastEmployeeId} is the checkpoint: it is committed together with the
+ * reviews/ratings of each chunk, so a restarted node resumes right after it.
+ */
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "review_cycle_activation_job",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_activation_job_review_cycle",
+                        columnNames = {"review_cycle_id"}
+                )
+        }
+)
+public class ReviewCycleActivationJob {
+
+    /** Exception messages (SQL plus detail) can run far past the column. */
+    public static final int MAX_FAILURE_REASON_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "review_cycle_id", nullable = false)
+    private Long reviewCycleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ActivationJobStatus status;
+
+    private long totalEmployees;
+    private long processedEmployees;
+    private long lastEmployeeId;
+
+    private long reviewsCreated;
+    private long ratingsCreated;
+
+    @Column(length = MAX_FAILURE_REASON_LENGTH)
+    private String failureReason;
+
+    /** The worker that claimed the job; chunks only commit while it still matches. */
+    private String owner;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime heartbeatAt;
+    private LocalDateTime completedAt;
+
+    /* ---------- Domain Rules ---------- */
+
+    public void recordChunk(long lastEmployeeId, int employees, int reviews, int ratings) {
+        this.lastEmployeeId = lastEmployeeId;
+        this.processedEmployees += employees;
+        this.reviewsCreated += reviews;
+        this.ratingsCreated += ratings;
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        status = ActivationJobStatus.COMPLETED;
+        completedAt = LocalDateTime.now();
+        heartbeatAt = completedAt;
+    }
+
+    public void fail(String reason) {
+        status = ActivationJobStatus.FAILED;
+        failureReason = reason != null && reason.length() > MAX_FAILURE_REASON_LENGTH
+                ? reason.substring(0, MAX_FAILURE_REASON_LENGTH)
+                : reason;
+        heartbeatAt = LocalDateTime.now();
+    }
+
+    /**
+     * FAILED jobs go back to PENDING and continue from their checkpoint.
+     */
+    public void retry() {
+        if (status != ActivationJobStatus.FAILED) {
+            throw new IllegalStateException("Only FAILED activation jobs can be retried");
+        }
+        status = ActivationJobStatus.PENDING;
+        failureReason = null;
+        owner = null;
+        heartbeatAt = null;
+    }
+
+    /**
+     * A RUNNING job whose worker has not checkpointed since {@code staleBefore}.
+     */
+    public boolean isStale(LocalDateTime staleBefore) {
+        return status == ActivationJobStatus.RUNNING
+                && (heartbeatAt == null || heartbeatAt.isBefore(staleBefore));
+    }
+
+    public boolean isFinished() {
+        return status == ActivationJobStatus.COMPLETED;
+    }
+
+    @PrePersist
+    void prePersist() {
+        startedAt = LocalDateTime.now();
+        status = ActivationJobStatus.PENDING;
+    }
+}
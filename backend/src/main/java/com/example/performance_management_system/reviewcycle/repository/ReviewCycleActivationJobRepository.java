@@ -0,0 +1,79 @@
+package com.example.performance_management_system.reviewcycle.repository;
+
+import com.example.performance_management_system.reviewcycle.model.ActivationJobStatus;
+import com.example.performance_management_system.reviewcycle.model.ReviewCycleActivationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReviewCycleActivationJobRepository
+        extends JpaRepository<ReviewCycleActivationJob, Long> {
+
+    Optional<ReviewCycleActivationJob> findByReviewCycleId(Long reviewCycleId);
+
+    /**
+     * Jobs nobody is working on: PENDING ones, and RUNNING ones whose worker
+     * has not heartbeated since {@code staleBefore}.
+     */
+    @Query("""
+            SELECT j.id
+            FROM ReviewCycleActivationJob j
+            WHERE j.status = :pending
+               OR (j.status = :running
+                   AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore))
+            """)
+    List<Long> findResumableIds(
+            @Param("pending") ActivationJobStatus pending,
+            @Param("running") ActivationJobStatus running,
+            @Param("staleBefore") LocalDateTime staleBefore
+    );
+
+    /**
+     * Claims a job for {@code owner}. Succeeds only if nobody has touched it since
+     * {@code staleBefore}, so two nodes resuming after a restart cannot both run it.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE ReviewCycleActivationJob j
+            SET j.status = :running,
+                j.owner = :owner,
+                j.heartbeatAt = :now
+            WHERE j.id = :id
+              AND j.status IN (:pending, :running)
+              AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)
+            """)
+    int claim(
+            @Param("id") Long id,
+            @Param("pending") ActivationJobStatus pending,
+            @Param("running") ActivationJobStatus running,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("staleBefore") LocalDateTime staleBefore
+    );
+
+    /**
+     * Refreshes the heartbeat if {@code owner} still holds the job. Run first in
+     * every chunk transaction: the row lock it takes makes a concurrent claim
+     * wait for the chunk and then see a fresh heartbeat, and a 0 tells a worker
+     * that lost the job to stop before writing anything.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE ReviewCycleActivationJob j
+            SET j.heartbeatAt = :now
+            WHERE j.id = :id
+              AND j.status = :running
+              AND j.owner = :owner
+            """)
+    int heartbeat(
+            @Param("id") Long id,
+            @Param("running") ActivationJobStatus running,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -0,0 +1,184 @@
+package com.example.performance_management_system.reviewcycle.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based persistence for review cycle activation.
+ * Replaces the per-employee exists/find/save loop with a handful of statements
+ * that run inside the caller's transaction. Employees are addressed by id range
+ * so activation can be processed (and checkpointed) in chunks.
+ */
+@Repository
+public class ReviewCycleActivationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewCycleActivationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long countActiveEmployees() {
+        Long count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM users u
+                JOIN role r ON r.id = u.role_id
+                WHERE u.active = true
+                  AND r.name = 'EMPLOYEE'
+                """, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Next page of active employee ids strictly after {@code afterId}, in id order.
+     */
+    public List<Long> findEmployeeIdsAfter(long afterId, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT u.id
+                FROM users u
+                JOIN role r ON r.id = u.role_id
+                WHERE u.active = true
+                  AND r.name = 'EMPLOYEE'
+                  AND u.id > ?
+                ORDER BY u.id
+                LIMIT ?
+                """, Long.class, afterId, limit);
+    }
+
+    /**
+     * Creates a NOT_STARTED review for every active employee in
+     * ({@code fromIdExclusive}, {@code toIdInclusive}] that has a manager
+     * and no review in this cycle yet. Returns the number of rows inserted.
+     */
+    public int insertMissingReviews(
+            Long reviewCycleId,
+            long fromIdExclusive,
+            long toIdInclusive,
+            LocalDateTime createdAt
+    ) {
+        return jdbcTemplate.update("""
+                INSERT INTO review (employee_id, manager_id, review_cycle_id, status, created_at)
+                SELECT u.id, u.manager_id, ?, 'NOT_STARTED', ?
+                FROM users u
+                JOIN role r ON r.id = u.role_id
+                WHERE u.active = true
+                  AND r.name = 'EMPLOYEE'
+                  AND u.manager_id IS NOT NULL
+                  AND u.id > ?
+                  AND u.id <= ?
+                  AND NOT EXISTS (
+                      SELECT 1
+                      FROM review rv
+                      WHERE rv.employee_id = u.id
+                        AND rv.review_cycle_id = ?
+                  )
+                """,
+                reviewCycleId,
+                Timestamp.valueOf(createdAt),
+                fromIdExclusive,
+                toIdInclusive,
+                reviewCycleId
+        );
+    }
+
+    /**
+     * Active employees in ({@code fromIdExclusive}, {@code toIdInclusive}] that have
+     * a manager and still need a rating in the cycle.
+     */
+    public List<RatingSeed> findRatingSeeds(
+            Long performanceCycleId,
+            long fromIdExclusive,
+            long toIdInclusive
+    ) {
+        return jdbcTemplate.query("""
+                SELECT u.id AS employee_id,
+                       u.manager_id
+                FROM users u
+                JOIN role r ON r.id = u.role_id
+                WHERE u.active = true
+                  AND r.name = 'EMPLOYEE'
+                  AND u.manager_id IS NOT NULL
+                  AND u.id > ?
+                  AND u.id <= ?
+                  AND NOT EXISTS (
+                      SELECT 1
+                      FROM rating rt
+                      WHERE rt.employee_id = u.id
+                        AND rt.performance_cycle_id = ?
+                  )
+                ORDER BY u.id
+                """,
+                (rs, rowNum) -> new RatingSeed(
+                        rs.getLong("employee_id"),
+                        rs.getLong("manager_id")
+                ),
+                fromIdExclusive,
+                toIdInclusive,
+                performanceCycleId
+        );
+    }
+
+    /**
+     * Inserts DRAFT ratings in one statement. Returns the ids of the rows
+     * written, for the caller to report to the rating distribution.
+     */
+    public List<Long> insertDraftRatings(
+            Long performanceCycleId,
+            List<DraftRating> ratings,
+            String justification,
+            LocalDateTime createdAt
+    ) {
+        if (ratings.isEmpty()) {
+            return List.of();
+        }
+
+        Long[] employeeIds = new Long[ratings.size()];
+        Long[] managerIds = new Long[ratings.size()];
+        Double[] scores = new Double[ratings.size()];
+        for (int i = 0; i < ratings.size(); i++) {
+            employeeIds[i] = ratings.get(i).employeeId();
+            managerIds[i] = ratings.get(i).managerId();
+            scores[i] = ratings.get(i).score();
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+
+        return jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement("""
+                            INSERT INTO rating (employee_id, manager_id, performance_cycle_id, score, status,
+                                                manager_justification, created_at)
+                            SELECT v.employee_id, v.manager_id, ?, v.score, 'DRAFT', ?, ?
+                            FROM unnest(?::bigint[], ?::bigint[], ?::float8[]) AS v(employee_id, manager_id, score)
+                            RETURNING id
+                            """);
+                    ps.setLong(1, performanceCycleId);
+                    ps.setString(2, justification);
+                    ps.setTimestamp(3, timestamp);
+                    ps.setArray(4, con.createArrayOf("bigint", employeeIds));
+                    ps.setArray(5, con.createArrayOf("bigint", managerIds));
+                    ps.setArray(6, con.createArrayOf("float8", scores));
+                    return ps;
+                },
+                (rs, rowNum) -> rs.getLong("id")
+        );
+    }
+
+    public record RatingSeed(
+            Long employeeId,
+            Long managerId
+    ) {
+    }
+
+    public record DraftRating(
+            Long employeeId,
+            Long managerId,
+            double score
+    ) {
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.performance_management_system.reviewcycle.service;
+
+import com.example.performance_management_system.performance.application.service.PerformanceScoringEngine;
+import com.example.performance_management_system.performance.domain.model.valueobject.EmployeeId;
+import com.example.performance_management_system.performance.domain.model.valueobject.PerformanceScore;
+import com.example.performance_management_system.performance.domain.model.valueobject.ReviewCycleId;
+import com.example.performance_management_system.rating.repository.RatingBatchRepository;
+import com.example.performance_management_system.rating.service.RatingDistributionService;
+import com.example.performance_management_system.reviewcycle.event.ReviewCycleActivationRequestedEvent;
+import com.example.performance_management_system.reviewcycle.model.ActivationJobStatus;
+import com.example.performance_management_system.reviewcycle.model.ReviewCycle;
+import com.example.performance_management_system.reviewcycle.model.ReviewCycleActivationJob;
+import com.example.performance_management_system.reviewcycle.repository.ReviewCycleActivationJobRepository;
+import com.example.performance_management_system.reviewcycle.repository.ReviewCycleActivationRepository;
+import com.example.performance_management_system.reviewcycle.repository.ReviewCycleActivationRepository.DraftRating;
+import com.example.performance_management_system.reviewcycle.repository.ReviewCycleActivationRepository.RatingSeed;
+import com.example.performance_management_system.reviewcycle.repository.ReviewCycleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs review cycle activation jobs on a bounded pool.
+ * Every chunk (reviews, ratings and the job checkpoint) commits in its own
+ * transaction, so a crash loses at most the chunk in flight.
+ */
+@Component
+@Slf4j
+public class ReviewCycleActivationWorker {
+
+    static final int CHUNK_SIZE = 1000;
+
+    /** A RUNNING job without a heartbeat for this long is considered orphaned. */
+    static final Duration STALE_AFTER = Duration.ofMinutes(2);
+
+    private final ReviewCycleActivationJobRepository jobRepository;
+    private final ReviewCycleRepository cycleRepository;
+    private final ReviewCycleActivationRepository activationRepository;
+    private final PerformanceScoringEngine scoringEngine;
+    private final RatingBatchRepository ratingBatchRepository;
+    private final RatingDistributionService distributionService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+
+    // identifies this worker in the job's owner column
+    private final String workerId = UUID.randomUUID().toString();
+
+    // jobs submitted to the pool and not finished yet, so re-scans do not queue duplicates
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    public ReviewCycleActivationWorker(
+            ReviewCycleActivationJobRepository jobRepository,
+            ReviewCycleRepository cycleRepository,
+            ReviewCycleActivationRepository activationRepository,
+            PerformanceScoringEngine scoringEngine,
+            RatingBatchRepository ratingBatchRepository,
+            RatingDistributionService distributionService,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("reviewCycleActivationExecutor") TaskExecutor executor
+    ) {
+        this.jobRepository = jobRepository;
+        this.cycleRepository = cycleRepository;
+        this.activationRepository = activationRepository;
+        this.scoringEngine = scoringEngine;
+        this.ratingBatchRepository = ratingBatchRepository;
+        this.distributionService = distributionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+    }
+
+    /* ================= SCHEDULING ================= */
+
+    @TransactionalEventListener
+    public void onActivationRequested(ReviewCycleActivationRequestedEvent event) {
+        submit(event.jobId());
+    }
+
+    /**
+     * Picks up jobs that were queued or running when this node (or another one) went down.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        resumeJobs();
+    }
+
+    /**
+     * Re-submits jobs that nobody is working on: PENDING jobs the pool rejected,
+     * and RUNNING jobs whose worker stopped heartbeating (it crashed, or this node
+     * restarted before the job went stale). The claim in {@link #run(Long)}
+     * still decides who gets each job.
+     */
+    @Scheduled(
+            initialDelayString = "${pms.review-cycle.activation.rescan-interval-ms:30000}",
+            fixedDelayString = "${pms.review-cycle.activation.rescan-interval-ms:30000}"
+    )
+    public void resumeJobs() {
+        List<Long> jobIds = jobRepository.findResumableIds(
+                ActivationJobStatus.PENDING,
+                ActivationJobStatus.RUNNING,
+                LocalDateTime.now().minus(STALE_AFTER)
+        );
+
+        for (Long jobId : jobIds) {
+            if (submit(jobId)) {
+                log.info("Resuming activation job {}", jobId);
+            }
+        }
+    }
+
+    // returns false if the job is already queued here or the pool is full
+    private boolean submit(Long jobId) {
+        if (!queued.add(jobId)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    queued.remove(jobId);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException ex) {
+            queued.remove(jobId);
+            // job stays PENDING; the next re-scan submits it again
+            log.warn("Activation pool saturated, job {} left pending", jobId);
+            return false;
+        }
+    }
+
+    /* ================= EXECUTION ================= */
+
+    void run(Long jobId) {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        Integer claimed = transactionTemplate.execute(status ->
+                jobRepository.claim(
+                        jobId,
+                        ActivationJobStatus.PENDING,
+                        ActivationJobStatus.RUNNING,
+                        workerId,
+                        now,
+                        now.minus(STALE_AFTER)
+                )
+        );
+
+        if (claimed == null || claimed == 0) {
+            log.debug("Activation job {} is finished or owned by another worker", jobId);
+            return;
+        }
+
+        try {
+            boolean finished = false;
+            while (!finished) {
+                finished = Boolean.TRUE.equals(
+                        transactionTemplate.execute(status -> processNextChunk(jobId))
+                );
+            }
+        } catch (Exception ex) {
+            log.error("Activation job {} failed", jobId, ex);
+            transactionTemplate.executeWithoutResult(status ->
+                    jobRepository.findById(jobId)
+                            .filter(job -> workerId.equals(job.getOwner()))
+                            .ifPresent(job -> job.fail(ex.getMessage()))
+            );
+        }
+    }
+
+    /**
+     * Processes the next chunk of employees after the checkpoint.
+     * Returns true once there is nothing left for this worker: the cycle has
+     * been activated, or another worker has taken the job over.
+     */
+    private boolean processNextChunk(Long jobId) {
+
+        int owned = jobRepository.heartbeat(
+                jobId,
+                ActivationJobStatus.RUNNING,
+                workerId,
+                LocalDateTime.now()
+        );
+
+        if (owned == 0) {
+            log.warn("Activation job {} is no longer owned by this worker, stopping", jobId);
+            return true;
+        }
+
+        ReviewCycleActivationJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("Activation job not found"));
+
+        ReviewCycle cycle = cycleRepository.findById(job.getReviewCycleId())
+                .orElseThrow(() -> new IllegalStateException("Review cycle not found"));
+
+        List<Long> employeeIds = activationRepository.findEmployeeIdsAfter(
+                job.getLastEmployeeId(),
+                CHUNK_SIZE
+        );
+
+        if (employeeIds.isEmpty()) {
+            cycle.activate();
+            job.complete();
+            log.info("Activation job {} completed: {} reviews, {} ratings",
+                    jobId, job.getReviewsCreated(), job.getRatingsCreated());
+            return true;
+        }
+
+        long fromId = job.getLastEmployeeId();
+        long toId = employeeIds.get(employeeIds.size() - 1);
+        LocalDateTime now = LocalDateTime.now();
+
+        int reviews = activationRepository.insertMissingReviews(cycle.getId(), fromId, toId, now);
+        int ratings = generateRatings(cycle.getPerformanceCycle().getId(), fromId, toId, now);
+
+        job.recordChunk(toId, employeeIds.size(), reviews, ratings);
+        return false;
+    }
+
+    int generateRatings(Long performanceCycleId, long fromId, long toId, LocalDateTime now) {
+
+        List<RatingSeed> seeds = activationRepository.findRatingSeeds(performanceCycleId, fromId, toId);
+
+        Map<EmployeeId, PerformanceScore> scores = scoringEngine.scoreAll(
+                seeds.stream().map(seed -> new EmployeeId(seed.employeeId())).toList(),
+                new ReviewCycleId(performanceCycleId),
+                null
+        );
+
+        List<DraftRating> ratings = seeds.stream()
+                .map(seed -> new DraftRating(
+                        seed.employeeId(),
+                        seed.managerId(),
+                        scores.get(new EmployeeId(seed.employeeId())).value()
+                ))
+                .toList();
+
+        List<Long> ratingIds = activationRepository.insertDraftRatings(
+                performanceCycleId,
+                ratings,
+                "Auto-generated by system",
+                now
+        );
+
+        if (!ratingIds.isEmpty()) {
+            distributionService.record(ratingBatchRepository.findCreated(ratingIds));
+        }
+        return ratingIds.size();
+    }
+}
@@ -2,25 +2,25 @@ package com.example.performance_management_system.reviewcycle.service;
 
 import com.example.performance_management_system.common.error.ErrorCode;
 import com.example.performance_management_system.common.exception.BusinessException;
-import com.example.performance_management_system.goal.model.Goal;
-import com.example.performance_management_system.goal.repository.GoalRepository;
-import com.example.performance_management_system.keyresult.model.KeyResult;
 import com.example.performance_management_system.performancecycle.model.CycleStatus;
 import com.example.performance_management_system.performancecycle.service.PerformanceCycleService;
 import com.example.performance_management_system.performancecycle.repository.PerformanceCycleRepository;
-import com.example.performance_management_system.rating.model.Rating;
-import com.example.performance_management_system.rating.model.RatingStatus;
-import com.example.performance_management_system.rating.repository.RatingRepository;
-import com.example.performance_management_system.review.model.Review;
-import com.example.performance_management_system.review.repository.ReviewRepository;
+import com.example.performance_management_system.reviewcycle.dto.ReviewCycleActivationResponse;
+import com.example.performance_management_system.reviewcycle.event.ReviewCycleActivationRequestedEvent;
+import com.example.performance_management_system.reviewcycle.model.ActivationJobStatus;
 import com.example.performance_management_system.reviewcycle.model.ReviewCycle;
+import com.example.performance_management_system.reviewcycle.model.ReviewCycleActivationJob;
+import com.example.performance_management_system.reviewcycle.model.ReviewCycleStatus;
+import com.example.performance_management_system.reviewcycle.repository.ReviewCycleActivationJobRepository;
+import com.example.performance_management_system.reviewcycle.repository.ReviewCycleActivationRepository;
 import com.example.performance_management_system.reviewcycle.repository.ReviewCycleRepository;
-import com.example.performance_management_system.user.model.User;
-import com.example.performance_management_system.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -29,27 +29,24 @@ public class ReviewCycleService {
     private final ReviewCycleRepository repository;
     private final PerformanceCycleService performanceCycleService;
     private final PerformanceCycleRepository performanceCycleRepository;
-    private final UserRepository userRepository;
-    private final ReviewRepository reviewRepository;
-    private final RatingRepository ratingRepository;
-    private final GoalRepository goalRepository;
+    private final ReviewCycleActivationRepository activationRepository;
+    private final ReviewCycleActivationJobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ReviewCycleService(
             ReviewCycleRepository repository,
             PerformanceCycleService performanceCycleService,
             PerformanceCycleRepository performanceCycleRepository,
-            UserRepository userRepository,
-            ReviewRepository reviewRepository,
-            RatingRepository ratingRepository,
-            GoalRepository goalRepository
+            ReviewCycleActivationRepository activationRepository,
+            ReviewCycleActivationJobRepository jobRepository,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.repository = repository;
         this.performanceCycleService = performanceCycleService;
         this.performanceCycleRepository = performanceCycleRepository;
-        this.userRepository = userRepository;
-        this.reviewRepository = reviewRepository;
-        this.ratingRepository = ratingRepository;
-        this.goalRepository = goalRepository;
+        this.activationRepository = activationRepository;
+        this.jobRepository = jobRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /* ================= CREATE ================= */
@@ -72,46 +69,68 @@ public class ReviewCycleService {
 
     /* ================= ACTIVATE ================= */
 
+    /**
+     * Starts (or resumes) the activation job for a DRAFT cycle and returns its progress.
+     * The cycle itself only becomes ACTIVE once the job has processed every employee.
+     */
     @Transactional
-    public ReviewCycle activate(Long reviewCycleId) {
+    public ReviewCycleActivationResponse activate(Long reviewCycleId) {
 
-        ReviewCycle cycle = repository.findById(reviewCycleId)
-                .orElseThrow(() -> new BusinessException(
-                        HttpStatus.NOT_FOUND,
-                        ErrorCode.SYSTEM_ERROR, // can be REVIEW_CYCLE_NOT_FOUND later
-                        "Review cycle not found"
-                ));
+        ReviewCycle cycle = getCycle(reviewCycleId);
 
-        cycle.activate();
+        ReviewCycleActivationJob job = jobRepository.findByReviewCycleId(reviewCycleId)
+                .orElse(null);
 
-        // 🔥 orchestration (must be all-or-nothing)
-        try {
-            createReviewsForCycle(cycle);
-            generateRatingsForCycle(cycle);
-        } catch (Exception ex) {
-            // ensures rollback + visibility
-            throw new BusinessException(
-                    HttpStatus.INTERNAL_SERVER_ERROR,
-                    ErrorCode.SYSTEM_ERROR,
-                    "Failed to activate review cycle"
-            );
+        if (job == null) {
+            if (cycle.getStatus() != ReviewCycleStatus.DRAFT) {
+                throw new BusinessException(
+                        HttpStatus.CONFLICT,
+                        ErrorCode.VALIDATION_FAILED,
+                        "Only DRAFT review cycles can be activated"
+                );
+            }
+
+            job = new ReviewCycleActivationJob();
+            job.setReviewCycleId(reviewCycleId);
+            job.setTotalEmployees(activationRepository.countActiveEmployees());
+            job = jobRepository.save(job);
+
+            eventPublisher.publishEvent(new ReviewCycleActivationRequestedEvent(job.getId()));
+
+        } else if (job.getStatus() == ActivationJobStatus.FAILED) {
+            job.retry();
+            eventPublisher.publishEvent(new ReviewCycleActivationRequestedEvent(job.getId()));
+
+        } else if (job.getStatus() == ActivationJobStatus.PENDING
+                || job.isStale(LocalDateTime.now().minus(ReviewCycleActivationWorker.STALE_AFTER))) {
+            // rejected by a saturated pool, or its worker died; claiming makes a re-submit safe
+            eventPublisher.publishEvent(new ReviewCycleActivationRequestedEvent(job.getId()));
         }
 
-        return repository.save(cycle);
+        return toActivationResponse(cycle, job);
     }
 
-    /* ================= CLOSE ================= */
+    public ReviewCycleActivationResponse getActivation(Long reviewCycleId) {
 
-    @Transactional
-    public ReviewCycle close(Long reviewCycleId) {
+        ReviewCycle cycle = getCycle(reviewCycleId);
 
-        ReviewCycle cycle = repository.findById(reviewCycleId)
+        ReviewCycleActivationJob job = jobRepository.findByReviewCycleId(reviewCycleId)
                 .orElseThrow(() -> new BusinessException(
                         HttpStatus.NOT_FOUND,
-                        ErrorCode.SYSTEM_ERROR,
-                        "Review cycle not found"
+                        ErrorCode.RESOURCE_NOT_FOUND,
+                        "Activation has not been started for this review cycle"
                 ));
 
+        return toActivationResponse(cycle, job);
+    }
+
+    /* ================= CLOSE ================= */
+
+    @Transactional
+    public ReviewCycle close(Long reviewCycleId) {
+
+        ReviewCycle cycle = getCycle(reviewCycleId);
+
         cycle.close();
         return repository.save(cycle);
     }
@@ -124,84 +143,51 @@ public class ReviewCycleService {
 
     /* ================= INTERNAL ================= */
 
-    private void createReviewsForCycle(ReviewCycle cycle) {
-
-        List<User> employees = userRepository.findAllActiveEmployees();
-
-        for (User employee : employees) {
-
-            if (reviewRepository.existsByEmployeeIdAndReviewCycle(
-                    employee.getId(), cycle)) {
-                continue;
-            }
-
-            Review review = new Review();
-            review.setEmployeeId(employee.getId());
-            review.setManagerId(employee.getManagerId());
-            review.setReviewCycle(cycle);
-
-            reviewRepository.save(review);
-        }
-    }
-
-    @Transactional
-    public void generateRatingsForCycle(ReviewCycle cycle) {
-
-        List<User> employees = userRepository.findAllActiveEmployees();
-
-        for (User employee : employees) {
-
-            boolean alreadyExists =
-                    ratingRepository.existsByEmployeeIdAndPerformanceCycle(
-                            employee.getId(),
-                            cycle.getPerformanceCycle()
-                    );
-
-            if (alreadyExists) {
-                continue;
-            }
-
-            double score = calculateInitialScore(employee.getId(), cycle);
-
-            Rating rating = new Rating();
-            rating.setEmployeeId(employee.getId());
-            rating.setManagerId(employee.getManagerId());
-            rating.setPerformanceCycle(cycle.getPerformanceCycle());
-            rating.setScore(score);
-            rating.setStatus(RatingStatus.DRAFT);
-            rating.setManagerJustification("Auto-generated by system");
-
-            ratingRepository.save(rating);
-        }
+    private ReviewCycle getCycle(Long reviewCycleId) {
+        return repository.findById(reviewCycleId)
+                .orElseThrow(() -> new BusinessException(
+                        HttpStatus.NOT_FOUND,
+                        ErrorCode.SYSTEM_ERROR, // can be REVIEW_CYCLE_NOT_FOUND later
+                        "Review cycle not found"
+                ));
     }
 
-    private int calculateInitialScore(Long employeeId, ReviewCycle cycle) {
-
-        List<Goal> goals =
-                goalRepository.findByEmployeeIdAndPerformanceCycle_Id(
-                        employeeId,
-                        cycle.getPerformanceCycle().getId()
-                );
-
-        if (goals.isEmpty()) {
-            return 2;
-        }
-
-        double totalProgress = 0;
-
-        for (Goal goal : goals) {
-            for (KeyResult kr : goal.getKeyResults()) {
-                double progress =
-                        (kr.getCurrentValue() / kr.getTargetValue()) * 100;
-                totalProgress += Math.min(progress, 100);
-            }
+    private ReviewCycleActivationResponse toActivationResponse(
+            ReviewCycle cycle,
+            ReviewCycleActivationJob job
+    ) {
+        ReviewCycleActivationResponse res = new ReviewCycleActivationResponse();
+        res.reviewCycleId = cycle.getId();
+        res.status = cycle.getStatus();
+        res.jobId = job.getId();
+        res.jobStatus = job.getStatus();
+        res.totalEmployees = job.getTotalEmployees();
+        res.processedEmployees = job.getProcessedEmployees();
+        res.reviewsCreated = job.getReviewsCreated();
+        res.ratingsCreated = job.getRatingsCreated();
+        res.startedAt = job.getStartedAt();
+        res.completedAt = job.getCompletedAt();
+        res.failureReason = job.getFailureReason();
+
+        // employees hired mid-run can push processed past the initial total
+        long total = Math.max(job.getTotalEmployees(), job.getProcessedEmployees());
+        res.percentComplete = job.isFinished() || total == 0
+                ? 100.0
+                : job.getProcessedEmployees() * 100.0 / total;
+
+        LocalDateTime end = job.getCompletedAt() != null ? job.getCompletedAt() : LocalDateTime.now();
+        double seconds = job.getStartedAt() == null
+                ? 0
+                : Duration.between(job.getStartedAt(), end).toMillis() / 1000.0;
+
+        res.throughputPerSecond = seconds > 0 ? job.getProcessedEmployees() / seconds : 0;
+
+        if (job.isFinished()) {
+            res.etaSeconds = 0L;
+        } else if (res.throughputPerSecond > 0) {
+            res.etaSeconds = Math.round((total - job.getProcessedEmployees()) / res.throughputPerSecond);
         }
 
-        double avg = totalProgress / goals.size();
-
-        if (avg >= 90) return 5;
-        if (avg >= 75) return 4;
-        if (avg >= 60) return 3;
-        return 2;
+        return res;
     }
 }
@@ -1,6 +1,7 @@
 package com.example.performance_management_system.user.controller;
 
 
+import com.example.performance_management_system.common.pagination.CursorPage;
 import com.example.performance_management_system.user.dto.CreateUserRequest;
 import com.example.performance_management_system.user.dto.UpdateUserRequest;
 import com.example.performance_management_system.user.dto.UserDetailResponse;
@@ -40,18 +41,19 @@ public class UserController {
             @RequestParam(defaultValue = "5") int size
     ) {
         return userService.getAllUsers(PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id")))
-                .map(user -> {
-                    UserListResponse dto = new UserListResponse();
-                    dto.id = user.getId();
-                    dto.name = user.getName();
-                    dto.email = user.getEmail();
-                    dto.role = user.getRole().getName();
-                    dto.departmentType = user.getDepartment().getType();
-                    dto.departmentDisplayName = user.getDepartment().getDisplayName();
-                    dto.managerId = user.getManagerId();
-                    dto.active = user.getActive();
-                    return dto;
-                });
+                .map(this::toListDto);
+    }
+
+    // 🔹 keyset mode: pass cursor= (empty) for the first page, then nextCursor
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    public CursorPage<UserListResponse> scrollUsers(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return userService.getAllUsers(cursor, size, includeTotal)
+                .map(this::toListDto);
     }
 
     @GetMapping("/{userId}")
@@ -94,8 +96,16 @@ public class UserController {
         return dto;
     }
 
-
-
-
-
+    private UserListResponse toListDto(User user) {
+        UserListResponse dto = new UserListResponse();
+        dto.id = user.getId();
+        dto.name = user.getName();
+        dto.email = user.getEmail();
+        dto.role = user.getRole().getName();
+        dto.departmentType = user.getDepartment().getType();
+        dto.departmentDisplayName = user.getDepartment().getDisplayName();
+        dto.managerId = user.getManagerId();
+        dto.active = user.getActive();
+        return dto;
+    }
 }
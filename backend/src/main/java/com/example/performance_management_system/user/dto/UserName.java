@@ -0,0 +1,4 @@
+package com.example.performance_management_system.user.dto;
+
+public record UserName(Long id, String name) {
+}
@@ -0,0 +1,8 @@
+package com.example.performance_management_system.user.event;
+
+/**
+ * Published when a user is created or their manager may have changed.
+ * {@code managerId} is null for users without a manager.
+ */
+public record UserHierarchyChangedEvent(Long userId, Long managerId) {
+}
@@ -1,9 +1,12 @@
 package com.example.performance_management_system.user.repository;
 
 import com.example.performance_management_system.common.enums.Role;
+import com.example.performance_management_system.user.dto.UserName;
 import com.example.performance_management_system.user.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
@@ -24,4 +27,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
 
     List<User> findByManagerId(Long managerId);
+
+    @Query("""
+        SELECT new com.example.performance_management_system.user.dto.UserName(u.id, u.name)
+        FROM User u
+        WHERE u.id IN :ids
+    """)
+    List<UserName> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset page of users, newest id first, with role and department fetched in the same query.
+     */
+    @Query("""
+        SELECT u
+        FROM User u
+        JOIN FETCH u.role
+        JOIN FETCH u.department
+        WHERE u.id < :beforeId
+        ORDER BY u.id DESC
+    """)
+    List<User> findBeforeId(@Param("beforeId") long beforeId, Pageable limit);
 }
@@ -9,18 +9,22 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+/**
+ * Answers manager/reportee questions from {@link OrgHierarchyIndex}; the database
+ * is only consulted for users the index has not seen yet.
+ */
 @Service
 public class HierarchyService {
 
-    private final UserService userService;
     private final UserRepository userRepository;
+    private final OrgHierarchyIndex orgIndex;
 
     public HierarchyService(
             UserRepository userRepository,
-            UserService userService
+            OrgHierarchyIndex orgIndex
     ) {
-        this.userService = userService;
         this.userRepository = userRepository;
+        this.orgIndex = orgIndex;
     }
 
     /**
@@ -32,10 +36,9 @@ public class HierarchyService {
             return false;
         }
 
-        User employee = userService.getById(employeeId);
+        requireKnown(employeeId, "User not found");
 
-        return employee.getManagerId() != null
-                && employee.getManagerId().equals(managerId);
+        return managerId.equals(orgIndex.managerOf(employeeId));
     }
 
     /**
@@ -43,14 +46,9 @@ public class HierarchyService {
      */
     public void validateManagerAccess(Long managerId, Long employeeId) {
 
-        User employee = userRepository.findById(employeeId)
-                .orElseThrow(() -> new BusinessException(
-                        HttpStatus.NOT_FOUND,
-                        ErrorCode.USER_NOT_FOUND,
-                        "Employee not found"
-                ));
+        requireKnown(employeeId, "Employee not found");
 
-        if (!managerId.equals(employee.getManagerId())) {
+        if (!managerId.equals(orgIndex.managerOf(employeeId))) {
             throw new BusinessException(
                     HttpStatus.FORBIDDEN,
                     ErrorCode.ACCESS_DENIED,
@@ -60,22 +58,53 @@ public class HierarchyService {
     }
 
     public List<Long> getDirectReporteeIds(Long managerId) {
-        return userRepository.findByManagerId(managerId)
-                .stream()
-                .map(User::getId)
-                .toList();
+        return orgIndex.directReporteeIds(managerId);
+    }
+
+    /**
+     * Checks if employeeId reports to managerId directly or through any number of levels
+     */
+    public boolean isInSubtree(Long managerId, Long employeeId) {
+
+        requireKnown(employeeId, "User not found");
+
+        return orgIndex.isInSubtree(managerId, employeeId);
+    }
+
+    /**
+     * Throws exception if employee is not somewhere below the manager
+     */
+    public void validateSubtreeAccess(Long managerId, Long employeeId) {
+
+        if (!isInSubtree(managerId, employeeId)) {
+            throw new BusinessException(
+                    HttpStatus.FORBIDDEN,
+                    ErrorCode.ACCESS_DENIED,
+                    "Employee is not in your reporting line"
+            );
+        }
+    }
+
+    public List<Long> getSubtreeIds(Long managerId) {
+        return orgIndex.subtreeIds(managerId);
+    }
+
+    /**
+     * Managers above the employee, nearest first
+     */
+    public List<Long> getReportingChain(Long employeeId) {
+
+        requireKnown(employeeId, "Employee not found");
+
+        return orgIndex.reportingChain(employeeId);
     }
 
     public Long getManagerId(Long employeeId) {
 
-        User employee = userRepository.findById(employeeId)
-                .orElseThrow(() -> new BusinessException(
-                        HttpStatus.NOT_FOUND,
-                        ErrorCode.USER_NOT_FOUND,
-                        "Employee not found"
-                ));
+        requireKnown(employeeId, "Employee not found");
 
-        if (employee.getManagerId() == null) {
+        Long managerId = orgIndex.managerOf(employeeId);
+        if (managerId == null) {
             throw new BusinessException(
                     HttpStatus.CONFLICT,
                     ErrorCode.USER_NOT_FOUND, // see note below
@@ -83,6 +112,25 @@ public class HierarchyService {
             );
         }
 
-        return employee.getManagerId();
+        return managerId;
+    }
+
+    /**
+     * Falls back to the database for users created after the index was built
+     * (e.g. on another instance) and adds them to the index.
+     */
+    private void requireKnown(Long userId, String notFoundMessage) {
+        if (orgIndex.contains(userId)) {
+            return;
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(
+                        HttpStatus.NOT_FOUND,
+                        ErrorCode.USER_NOT_FOUND,
+                        notFoundMessage
+                ));
+
+        orgIndex.apply(user.getId(), user.getManagerId());
     }
 }
@@ -0,0 +1,441 @@
+package com.example.performance_management_system.user.service;
+
+import com.example.performance_management_system.common.cache.CacheInvalidationBus;
+import com.example.performance_management_system.common.cache.CacheInvalidationListener;
+import com.example.performance_management_system.common.cache.CacheNames;
+import com.example.performance_management_system.user.event.UserHierarchyChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * In-memory copy of the users → manager relation.
+ * <p>
+ * The whole org is held in a few primitive arrays: user ids sorted ascending,
+ * the array index of each user's manager, and the direct reportees of every
+ * user as a compressed adjacency list. Readers see an immutable snapshot
+ * through a volatile field; writers build a new snapshot and swap it in.
+ * <p>
+ * Each snapshot also labels the org tree with a depth-first (Euler tour) walk:
+ * user {@code i} is entered at {@code tin[i]} and its subtree occupies the
+ * positions {@code [tin[i], tout[i])} of the walk, so "is X below Y" is two
+ * integer comparisons and a subtree is a contiguous slice.
+ * <p>
+ * Manager changes are broadcast on the {@link CacheInvalidationBus}; every node
+ * re-reads the changed user after commit and patches its own snapshot.
+ */
+@Component
+public class OrgHierarchyIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(OrgHierarchyIndex.class);
+
+    private static final int FETCH_SIZE = 1000;
+    static final long NO_MANAGER = 0L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final Timer fullRefreshTimer;
+    private final Timer patchTimer;
+
+    private volatile Snapshot snapshot;
+
+    public OrgHierarchyIndex(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            CacheInvalidationBus invalidationBus
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.invalidationBus = invalidationBus;
+
+        this.fullRefreshTimer = Timer.builder("org.hierarchy.refresh")
+                .description("Time to rebuild the org hierarchy index")
+                .tag("type", "full")
+                .register(meterRegistry);
+        this.patchTimer = Timer.builder("org.hierarchy.refresh")
+                .description("Time to rebuild the org hierarchy index")
+                .tag("type", "patch")
+                .register(meterRegistry);
+
+        Gauge.builder("org.hierarchy.size", this, index -> index.current().size())
+                .description("Users in the org hierarchy index")
+                .register(meterRegistry);
+        Gauge.builder("org.hierarchy.memory", this, index -> index.current().estimatedBytes())
+                .description("Estimated heap held by the org hierarchy index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        invalidationBus.subscribe(CacheNames.ORG_HIERARCHY, new CacheInvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                refresh(Long.valueOf(key));
+            }
+
+            @Override
+            public void invalidateAll() {
+                reload();
+            }
+        });
+    }
+
+    /* ================= Loading ================= */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        snapshot = fullRefreshTimer.record(this::loadSnapshot);
+        log.info("Org hierarchy index loaded with {} users", snapshot.size());
+    }
+
+    // the bus defers delivery until the publishing transaction commits
+    @EventListener
+    public void onUserHierarchyChanged(UserHierarchyChangedEvent event) {
+        invalidationBus.publish(CacheNames.ORG_HIERARCHY, event.userId().toString());
+    }
+
+    /**
+     * Re-reads a single user's manager and patches it into the index.
+     */
+    public void refresh(Long userId) {
+        List<Long> managerIds = jdbcTemplate.query(
+                "SELECT manager_id FROM users WHERE id = ?",
+                (rs, rowNum) -> {
+                    long managerId = rs.getLong("manager_id");
+                    return rs.wasNull() ? null : managerId;
+                },
+                userId
+        );
+        if (managerIds.isEmpty()) {
+            // not visible (yet); the next full reload picks it up
+            return;
+        }
+        apply(userId, managerIds.get(0));
+    }
+
+    /**
+     * Sets (or adds) a single user's manager without going back to the database.
+     */
+    public synchronized void apply(Long userId, Long managerId) {
+        Snapshot base = current();
+        snapshot = patchTimer.record(() -> base.withManager(
+                userId,
+                managerId == null ? NO_MANAGER : managerId
+        ));
+    }
+
+    /* ================= Queries ================= */
+
+    public boolean contains(Long userId) {
+        return current().indexOf(userId) >= 0;
+    }
+
+    /**
+     * The user's manager id, or null when the user is unknown or has no manager.
+     */
+    public Long managerOf(Long userId) {
+        Snapshot s = current();
+        int index = s.indexOf(userId);
+        if (index < 0 || s.managerIds[index] == NO_MANAGER) {
+            return null;
+        }
+        return s.managerIds[index];
+    }
+
+    public List<Long> directReporteeIds(Long managerId) {
+        Snapshot s = current();
+        int index = s.indexOf(managerId);
+        if (index < 0) {
+            return List.of();
+        }
+
+        int from = s.reporteeOffsets[index];
+        int to = s.reporteeOffsets[index + 1];
+
+        List<Long> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(s.ids[s.reportees[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * True if employeeId is anywhere below managerId (direct or skip-level).
+     * A user is not in their own subtree.
+     */
+    public boolean isInSubtree(Long managerId, Long employeeId) {
+        Snapshot s = current();
+        int manager = s.indexOf(managerId);
+        int employee = s.indexOf(employeeId);
+        if (manager < 0 || employee < 0) {
+            return false;
+        }
+        return s.tin[manager] < s.tin[employee] && s.tin[employee] < s.tout[manager];
+    }
+
+    /**
+     * Every user below managerId, in depth-first order.
+     */
+    public List<Long> subtreeIds(Long managerId) {
+        Snapshot s = current();
+        int index = s.indexOf(managerId);
+        if (index < 0) {
+            return List.of();
+        }
+
+        int from = s.tin[index] + 1;
+        int to = s.tout[index];
+
+        List<Long> result = new ArrayList<>(to - from);
+        for (int position = from; position < to; position++) {
+            result.add(s.ids[s.order[position]]);
+        }
+        return result;
+    }
+
+    /**
+     * The managers above userId, nearest first.
+     */
+    public List<Long> reportingChain(Long userId) {
+        Snapshot s = current();
+        int index = s.indexOf(userId);
+        if (index < 0) {
+            return List.of();
+        }
+
+        List<Long> chain = new ArrayList<>();
+        // bounded by the org size in case the data contains a management loop
+        for (int manager = s.managerIndex[index];
+             manager >= 0 && chain.size() < s.size();
+             manager = s.managerIndex[manager]) {
+            if (manager == index) {
+                break;
+            }
+            chain.add(s.ids[manager]);
+        }
+        return chain;
+    }
+
+    public int size() {
+        return current().size();
+    }
+
+    public long estimatedBytes() {
+        return current().estimatedBytes();
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null) {
+            return s;
+        }
+        synchronized (this) {
+            // requests can arrive before ApplicationReadyEvent
+            if (snapshot == null) {
+                reload();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot loadSnapshot() {
+        LongColumn ids = new LongColumn();
+        LongColumn managers = new LongColumn();
+
+        jdbcTemplate.query(
+                con -> {
+                    var ps = con.prepareStatement("SELECT id, manager_id FROM users ORDER BY id");
+                    ps.setFetchSize(FETCH_SIZE);
+                    return ps;
+                },
+                rs -> {
+                    ids.add(rs.getLong("id"));
+                    long managerId = rs.getLong("manager_id");
+                    managers.add(rs.wasNull() ? NO_MANAGER : managerId);
+                }
+        );
+
+        return Snapshot.build(ids.toArray(), managers.toArray());
+    }
+
+    /* ================= Snapshot ================= */
+
+    static final class Snapshot {
+
+        final long[] ids;
+        final long[] managerIds;
+        final int[] managerIndex;
+        final int[] reporteeOffsets;
+        final int[] reportees;
+        final int[] tin;
+        final int[] tout;
+        final int[] order;
+
+        private Snapshot(long[] ids, long[] managerIds, int[] managerIndex, int[] reporteeOffsets, int[] reportees) {
+            this.ids = ids;
+            this.managerIds = managerIds;
+            this.managerIndex = managerIndex;
+            this.reporteeOffsets = reporteeOffsets;
+            this.reportees = reportees;
+
+            int n = ids.length;
+            this.tin = new int[n];
+            this.tout = new int[n];
+            this.order = new int[n];
+            label();
+        }
+
+        /**
+         * Iterative depth-first walk from every root. Users caught in a management
+         * loop have no root above them; they are walked from the first unvisited
+         * member of the loop, which breaks it at that user.
+         */
+        private void label() {
+            int n = ids.length;
+            boolean[] visited = new boolean[n];
+            int[] stack = new int[n];
+            int[] nextChild = new int[n];
+            int position = 0;
+
+            for (int pass = 0; pass < 2; pass++) {
+                for (int start = 0; start < n; start++) {
+                    if (visited[start] || (pass == 0 && managerIndex[start] >= 0)) {
+                        continue;
+                    }
+
+                    int top = 0;
+                    stack[top] = start;
+                    visited[start] = true;
+                    tin[start] = position;
+                    order[position++] = start;
+                    nextChild[start] = reporteeOffsets[start];
+
+                    while (top >= 0) {
+                        int node = stack[top];
+                        if (nextChild[node] < reporteeOffsets[node + 1]) {
+                            int child = reportees[nextChild[node]++];
+                            if (visited[child]) {
+                                continue;
+                            }
+                            visited[child] = true;
+                            tin[child] = position;
+                            order[position++] = child;
+                            nextChild[child] = reporteeOffsets[child];
+                            stack[++top] = child;
+                        } else {
+                            tout[node] = position;
+                            top--;
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * @param ids        user ids, sorted ascending
+         * @param managerIds manager id of each user, {@link #NO_MANAGER} when none
+         */
+        static Snapshot build(long[] ids, long[] managerIds) {
+            int n = ids.length;
+            int[] managerIndex = new int[n];
+            int[] reporteeOffsets = new int[n + 1];
+
+            for (int i = 0; i < n; i++) {
+                int manager = managerIds[i] == NO_MANAGER ? -1 : Arrays.binarySearch(ids, managerIds[i]);
+                managerIndex[i] = manager < 0 ? -1 : manager;
+                if (managerIndex[i] >= 0) {
+                    reporteeOffsets[managerIndex[i] + 1]++;
+                }
+            }
+
+            for (int i = 0; i < n; i++) {
+                reporteeOffsets[i + 1] += reporteeOffsets[i];
+            }
+
+            // filled in id order, so each manager's reportees stay sorted by id
+            int[] cursor = Arrays.copyOf(reporteeOffsets, n);
+            int[] reportees = new int[reporteeOffsets[n]];
+            for (int i = 0; i < n; i++) {
+                if (managerIndex[i] >= 0) {
+                    reportees[cursor[managerIndex[i]]++] = i;
+                }
+            }
+
+            return new Snapshot(ids, managerIds, managerIndex, reporteeOffsets, reportees);
+        }
+
+        Snapshot withManager(long userId, long managerId) {
+            int index = Arrays.binarySearch(ids, userId);
+
+            if (index >= 0) {
+                if (managerIds[index] == managerId) {
+                    return this;
+                }
+                long[] managers = managerIds.clone();
+                managers[index] = managerId;
+                return build(ids, managers);
+            }
+
+            int insertAt = -index - 1;
+            long[] newIds = new long[ids.length + 1];
+            long[] newManagers = new long[ids.length + 1];
+
+            System.arraycopy(ids, 0, newIds, 0, insertAt);
+            System.arraycopy(managerIds, 0, newManagers, 0, insertAt);
+            newIds[insertAt] = userId;
+            newManagers[insertAt] = managerId;
+            System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+            System.arraycopy(managerIds, insertAt, newManagers, insertAt + 1, ids.length - insertAt);
+
+            return build(newIds, newManagers);
+        }
+
+        int indexOf(Long userId) {
+            return userId == null ? -1 : Arrays.binarySearch(ids, userId);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        long estimatedBytes() {
+            // 16 bytes of header per array
+            return 16L * 8
+                    + 8L * ids.length
+                    + 8L * managerIds.length
+                    + 4L * managerIndex.length
+                    + 4L * reporteeOffsets.length
+                    + 4L * reportees.length
+                    + 4L * tin.length
+                    + 4L * tout.length
+                    + 4L * order.length;
+        }
+    }
+
+    private static final class LongColumn {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
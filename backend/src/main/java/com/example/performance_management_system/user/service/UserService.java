@@ -3,6 +3,8 @@ package com.example.performance_management_system.user.service;
 import com.example.performance_management_system.common.enums.DepartmentType;
 import com.example.performance_management_system.common.enums.Role;
 import com.example.performance_management_system.common.error.ErrorCode;
+import com.example.performance_management_system.common.pagination.CursorPage;
+import com.example.performance_management_system.common.pagination.PageCursor;
 import com.example.performance_management_system.common.exception.BusinessException;
 import com.example.performance_management_system.config.security.SecurityUtil;
 import com.example.performance_management_system.department.model.Department;
@@ -16,17 +18,21 @@ import com.example.performance_management_system.role.model.RoleEntity;
 import com.example.performance_management_system.role.repository.RoleRepository;
 import com.example.performance_management_system.user.dto.CreateUserRequest;
 import com.example.performance_management_system.user.dto.UpdateUserRequest;
+import com.example.performance_management_system.user.event.UserHierarchyChangedEvent;
 import com.example.performance_management_system.user.model.User;
 import com.example.performance_management_system.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class UserService {
@@ -36,19 +42,22 @@ public class UserService {
     private final DepartmentService departmentService;
     private final PasswordEncoder passwordEncoder;
     private final AuditEventProducer auditEventProducer;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserService(
             UserRepository userRepository,
             RoleRepository roleRepository,
             DepartmentService departmentService,
             PasswordEncoder passwordEncoder,
-            AuditEventProducer auditEventProducer
+            AuditEventProducer auditEventProducer,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.departmentService = departmentService;
         this.passwordEncoder = passwordEncoder;
         this.auditEventProducer = auditEventProducer;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -93,7 +102,10 @@ public class UserService {
         user.setManagerId(request.managerId);
         user.setActive(true);
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserHierarchyChangedEvent(saved.getId(), saved.getManagerId()));
+
+        return saved;
     }
 
     public User getByEmail(String email) {
@@ -145,6 +157,21 @@ public class UserService {
         return userRepository.findAll(pageable);
     }
 
+    /**
+     * Keyset page of users, newest first. Role and department come back fetched.
+     */
+    public CursorPage<User> getAllUsers(String cursor, int size, boolean includeTotal) {
+        return CursorPage.of(
+                userRepository.findBeforeId(
+                        PageCursor.beforeId(PageCursor.decode(cursor)),
+                        CursorPage.limit(size)
+                ),
+                size,
+                user -> PageCursor.of(user.getId()),
+                includeTotal ? userRepository.count() : null
+        );
+    }
+
     @Transactional
     public User updateUser(Long userId, UpdateUserRequest request) {
 
@@ -182,6 +209,7 @@ public class UserService {
 
         String oldRole = user.getRole().getName().name();
         Long oldDepartmentId = user.getDepartment().getId();
+        Long oldManagerId = user.getManagerId();
 
         user.setName(request.name);
         user.setEmail(request.email);
@@ -207,6 +235,23 @@ public class UserService {
 
         auditEventProducer.publish(event);
 
+        if (!Objects.equals(oldManagerId, updated.getManagerId())) {
+            // Map.of rejects nulls and either side may have no manager
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("oldManagerId", oldManagerId);
+            payload.put("newManagerId", updated.getManagerId());
+
+            auditEventProducer.publish(AuditEvent.of(
+                    EventType.USER_MANAGER_CHANGED,
+                    DomainType.USER,
+                    updated.getId().toString(),
+                    new Actor(SecurityUtil.userId(), SecurityUtil.role()),
+                    payload
+            ));
+
+            eventPublisher.publishEvent(new UserHierarchyChangedEvent(updated.getId(), updated.getManagerId()));
+        }
+
         return updated;
     }
 
@@ -0,0 +1,196 @@
+package com.example.performance_management_system.goal.service;
+
+import com.example.performance_management_system.config.security.model.UserPrincipal;
+import com.example.performance_management_system.goal.dto.GoalProgressSummary;
+import com.example.performance_management_system.goal.dto.GoalResponse;
+import com.example.performance_management_system.goal.model.Goal;
+import com.example.performance_management_system.goal.repository.EmployeeGoalProgressRepository;
+import com.example.performance_management_system.keyresult.model.KeyResult;
+import com.example.performance_management_system.performancecycle.model.CycleStatus;
+import com.example.performance_management_system.performancecycle.model.PerformanceCycle;
+import com.example.performance_management_system.performancecycle.service.PerformanceCycleService;
+import com.example.performance_management_system.user.service.HierarchyService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts the SQL statements behind each goal read path with Hibernate
+ * statistics, so that a lazy association touched while mapping responses
+ * shows up as a failure rather than as N extra selects in production.
+ * <p>
+ * Fixtures are written inside the test transaction and rolled back.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "pms.cache-bus.type=memory"
+})
+@Transactional
+class GoalQueryCountTest {
+
+    private static final int GOALS = 50;
+    private static final int KEY_RESULTS_PER_GOAL = 2;
+
+    @Autowired
+    private GoalService goalService;
+
+    @Autowired
+    private EmployeeGoalProgressRepository goalProgressRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private HierarchyService hierarchyService;
+
+    @MockitoBean
+    private PerformanceCycleService cycleService;
+
+    private Statistics statistics;
+    private Long employeeId;
+    private Long cycleId;
+    private Long firstGoalId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        PerformanceCycle cycle = new PerformanceCycle();
+        cycle.setName("query-count-" + UUID.randomUUID());
+        cycle.setCycleType("ANNUAL");
+        cycle.setStartDate(LocalDate.now());
+        cycle.setEndDate(LocalDate.now().plusYears(1));
+        cycle.setStatus(CycleStatus.DRAFT);
+        cycle.setCreatedBy("test");
+        entityManager.persist(cycle);
+        cycleId = cycle.getId();
+
+        // an id no real user has, so existing goals never leak into the counts
+        employeeId = -Math.abs(UUID.randomUUID().getMostSignificantBits() % 1_000_000_000L) - 1;
+
+        for (int i = 0; i < GOALS; i++) {
+            Goal goal = new Goal();
+            goal.setTitle("Goal " + i);
+            goal.setEmployeeId(employeeId);
+            goal.setPerformanceCycle(cycle);
+
+            for (int k = 0; k < KEY_RESULTS_PER_GOAL; k++) {
+                KeyResult keyResult = new KeyResult();
+                keyResult.setMetric("Metric " + k);
+                keyResult.setTargetValue(10.0);
+                keyResult.setGoal(goal);
+                goal.getKeyResults().add(keyResult);
+            }
+            goal.recalculateProgressStats();
+
+            entityManager.persist(goal);
+            if (firstGoalId == null) {
+                firstGoalId = goal.getId();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        when(hierarchyService.getDirectReporteeIds(anyLong())).thenReturn(List.of(employeeId));
+        when(cycleService.getActiveCycle()).thenReturn(cycle);
+        when(cycleService.getCycle(cycle.getId())).thenReturn(cycle);
+
+        signInAs(employeeId, "EMPLOYEE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void employeeGoalPageUsesPageCountAndOneKeyResultQuery() {
+        Page<GoalResponse> page = countStatements(3, () -> goalService.getGoalsForEmployee(employeeId, 0, GOALS));
+
+        assertEquals(GOALS, page.getNumberOfElements());
+        assertEquals(KEY_RESULTS_PER_GOAL, page.getContent().get(0).keyResults.size());
+    }
+
+    @Test
+    void employeeGoalCursorPageUsesPageAndOneKeyResultQuery() {
+        var page = countStatements(2, () -> goalService.getGoalsForEmployee(employeeId, null, GOALS, false));
+
+        assertEquals(GOALS, page.content().size());
+    }
+
+    @Test
+    void goalDetailUsesOneQuery() {
+        GoalResponse goal = countStatements(1, () -> goalService.getGoalById(firstGoalId));
+
+        assertEquals(KEY_RESULTS_PER_GOAL, goal.keyResults.size());
+    }
+
+    @Test
+    void teamGoalPageUsesPageCountAndOneKeyResultQuery() {
+        signInAs(1L, "MANAGER");
+
+        Page<GoalResponse> page = countStatements(3, () -> goalService.getTeamGoals(0, GOALS));
+
+        assertEquals(GOALS, page.getNumberOfElements());
+    }
+
+    @Test
+    void teamGoalCursorPageUsesPageAndOneKeyResultQuery() {
+        signInAs(1L, "MANAGER");
+
+        var page = countStatements(2, () -> goalService.getTeamGoals(null, GOALS, false));
+
+        assertEquals(GOALS, page.content().size());
+    }
+
+    @Test
+    void myProgressWithoutRollUpReadsTheGoalTablesAndWritesNothing() {
+        // roll-up lookup, then the aggregate over goal/key_result
+        GoalProgressSummary progress = countStatements(2, () -> goalService.getMyProgress());
+
+        assertEquals(GOALS, progress.goalCount);
+        assertEquals(0.0, progress.averageProgress);
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertTrue(goalProgressRepository.findByEmployeeIdAndPerformanceCycleId(employeeId, cycleId).isEmpty());
+    }
+
+    private <T> T countStatements(long expected, Supplier<T> call) {
+        statistics.clear();
+        T result = call.get();
+        assertEquals(expected, statistics.getPrepareStatementCount(), "SQL statements executed");
+        return result;
+    }
+
+    private static void signInAs(Long userId, String role) {
+        UserPrincipal principal = new UserPrincipal(userId, "user-" + userId, role);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+        );
+    }
+}
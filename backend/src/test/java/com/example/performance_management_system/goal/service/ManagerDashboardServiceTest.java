@@ -0,0 +1,276 @@
+package com.example.performance_management_system.goal.service;
+
+import com.example.performance_management_system.common.enums.DepartmentType;
+import com.example.performance_management_system.common.enums.Role;
+import com.example.performance_management_system.config.security.model.UserPrincipal;
+import com.example.performance_management_system.department.model.Department;
+import com.example.performance_management_system.department.repository.DepartmentRepository;
+import com.example.performance_management_system.goal.dto.ManagerDashboardSummary;
+import com.example.performance_management_system.goal.model.Goal;
+import com.example.performance_management_system.goal.model.GoalStatus;
+import com.example.performance_management_system.keyresult.model.KeyResult;
+import com.example.performance_management_system.performancecycle.model.CycleStatus;
+import com.example.performance_management_system.performancecycle.model.PerformanceCycle;
+import com.example.performance_management_system.performancecycle.service.PerformanceCycleService;
+import com.example.performance_management_system.rating.model.Rating;
+import com.example.performance_management_system.rating.model.RatingStatus;
+import com.example.performance_management_system.review.model.Review;
+import com.example.performance_management_system.review.model.ReviewStatus;
+import com.example.performance_management_system.reviewcycle.model.ReviewCycle;
+import com.example.performance_management_system.role.model.RoleEntity;
+import com.example.performance_management_system.role.repository.RoleRepository;
+import com.example.performance_management_system.user.model.User;
+import com.example.performance_management_system.user.service.HierarchyService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+/**
+ * Guards the query budget of the dashboard with Hibernate statistics: the
+ * number of SQL statements must be the same for a small and a large team.
+ * <p>
+ * Fixtures are written inside the test transaction and rolled back.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "pms.cache-bus.type=memory"
+})
+@Transactional
+class ManagerDashboardServiceTest {
+
+    // names, goals by status, key result completion, reviews by status, ratings
+    private static final long DASHBOARD_STATEMENTS = 5;
+
+    private static final int SMALL_TEAM = 5;
+    private static final int LARGE_TEAM = 200;
+
+    @Autowired
+    private ManagerDashboardService service;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private HierarchyService hierarchyService;
+
+    @MockitoBean
+    private PerformanceCycleService cycleService;
+
+    private Statistics statistics;
+    private PerformanceCycle cycle;
+    private ReviewCycle reviewCycle;
+    private RoleEntity employeeRole;
+    private Department department;
+    private Long managerId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        cycle = new PerformanceCycle();
+        cycle.setName("dashboard-" + UUID.randomUUID());
+        cycle.setCycleType("ANNUAL");
+        cycle.setStartDate(LocalDate.now());
+        cycle.setEndDate(LocalDate.now().plusYears(1));
+        cycle.setStatus(CycleStatus.DRAFT);
+        cycle.setCreatedBy("test");
+        entityManager.persist(cycle);
+
+        reviewCycle = new ReviewCycle();
+        reviewCycle.setPerformanceCycle(cycle);
+        reviewCycle.setName("dashboard review");
+        entityManager.persist(reviewCycle);
+
+        employeeRole = roleRepository.findByName(Role.EMPLOYEE).orElseGet(() -> {
+            RoleEntity role = new RoleEntity();
+            role.setName(Role.EMPLOYEE);
+            entityManager.persist(role);
+            return role;
+        });
+
+        department = departmentRepository.findByType(DepartmentType.ENGINEERING).orElseGet(() -> {
+            Department created = new Department();
+            created.setType(DepartmentType.ENGINEERING);
+            created.setDisplayName("Engineering");
+            entityManager.persist(created);
+            return created;
+        });
+
+        // an id no real user has, so existing reportees never leak into the counts
+        managerId = -Math.abs(UUID.randomUUID().getMostSignificantBits() % 1_000_000_000L) - 1;
+
+        when(cycleService.getActiveCycle()).thenReturn(cycle);
+
+        signInAs(managerId, "MANAGER");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void smallTeamSummaryUsesOneQueryPerAggregate() {
+        List<Long> team = createTeam(SMALL_TEAM);
+
+        ManagerDashboardSummary summary = countStatements(DASHBOARD_STATEMENTS, team);
+
+        assertSummary(summary, team);
+    }
+
+    @Test
+    void largeTeamSummaryUsesTheSameQueryCount() {
+        List<Long> team = createTeam(LARGE_TEAM);
+
+        ManagerDashboardSummary summary = countStatements(DASHBOARD_STATEMENTS, team);
+
+        assertSummary(summary, team);
+    }
+
+    @Test
+    void managerWithoutReporteesSkipsAllQueries() {
+        ManagerDashboardSummary summary = countStatements(0, List.of());
+
+        assertEquals(0, summary.totalGoals);
+        assertEquals(0, summary.reportees.size());
+    }
+
+    /* ---------- Fixtures ---------- */
+
+    /**
+     * Each reportee gets a submitted goal with one of two key results done, a
+     * completed goal with both done and a submitted self review; every other
+     * reportee also gets a rating.
+     */
+    private List<Long> createTeam(int size) {
+        List<Long> ids = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            User user = new User();
+            user.setName("Employee " + i);
+            user.setEmail("dashboard-" + UUID.randomUUID() + "@example.com");
+            user.setPassword("secret");
+            user.setRole(employeeRole);
+            user.setDepartment(department);
+            user.setManagerId(managerId);
+            entityManager.persist(user);
+            ids.add(user.getId());
+
+            // the entities reset their status on persist, so it is moved on afterwards
+            goal(user.getId(), 0.0).setStatus(GoalStatus.SUBMITTED);
+            goal(user.getId(), 10.0).setStatus(GoalStatus.COMPLETED);
+
+            Review review = new Review();
+            review.setEmployeeId(user.getId());
+            review.setManagerId(managerId);
+            review.setReviewCycle(reviewCycle);
+            entityManager.persist(review);
+            review.setStatus(ReviewStatus.SELF_REVIEW_SUBMITTED);
+
+            if (i % 2 == 0) {
+                Rating rating = new Rating();
+                rating.setEmployeeId(user.getId());
+                rating.setManagerId(managerId);
+                rating.setPerformanceCycle(cycle);
+                rating.setScore(3.0);
+                entityManager.persist(rating);
+                rating.setStatus(RatingStatus.MANAGER_SUBMITTED);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+
+    private Goal goal(Long employeeId, double secondKeyResultValue) {
+        Goal goal = new Goal();
+        goal.setTitle("Goal");
+        goal.setEmployeeId(employeeId);
+        goal.setPerformanceCycle(cycle);
+
+        for (double value : new double[] {10.0, secondKeyResultValue}) {
+            KeyResult keyResult = new KeyResult();
+            keyResult.setMetric("Metric");
+            keyResult.setTargetValue(10.0);
+            keyResult.setCurrentValue(value);
+            keyResult.setGoal(goal);
+            goal.getKeyResults().add(keyResult);
+        }
+        goal.recalculateProgressStats();
+
+        entityManager.persist(goal);
+        return goal;
+    }
+
+    /* ---------- Assertions ---------- */
+
+    private ManagerDashboardSummary countStatements(long expected, List<Long> team) {
+        when(hierarchyService.getDirectReporteeIds(managerId)).thenReturn(team);
+
+        statistics.clear();
+        ManagerDashboardSummary summary = service.getSummary(managerId);
+        assertEquals(expected, statistics.getPrepareStatementCount(), "SQL statements executed");
+        return summary;
+    }
+
+    private void assertSummary(ManagerDashboardSummary summary, List<Long> team) {
+        int size = team.size();
+        int rated = (size + 1) / 2;
+
+        assertEquals(cycle.getName(), summary.cycleName);
+        assertEquals(2L * size, summary.totalGoals);
+        assertEquals(size, summary.pendingApprovals);
+        assertEquals(size, summary.completedGoals);
+        assertEquals(4L * size, summary.keyResults);
+        assertEquals(3L * size, summary.completedKeyResults);
+        assertEquals(75.0, summary.keyResultCompletionPercent);
+        assertEquals(size, summary.reviewsByStatus.get(ReviewStatus.SELF_REVIEW_SUBMITTED));
+        assertEquals(rated, summary.ratingsByStatus.get(RatingStatus.MANAGER_SUBMITTED));
+        assertEquals(size - rated, summary.unratedReportees);
+
+        assertEquals(size, summary.reportees.size());
+        ManagerDashboardSummary.ReporteeSummary first = summary.reportees.get(0);
+        assertEquals(team.get(0), first.employeeId);
+        assertEquals("Employee 0", first.employeeName);
+        assertEquals(2L, first.totalGoals);
+        assertEquals(RatingStatus.MANAGER_SUBMITTED, first.ratingStatus);
+        assertNull(summary.reportees.get(1).ratingStatus);
+    }
+
+    private static void signInAs(Long userId, String role) {
+        UserPrincipal principal = new UserPrincipal(userId, "user-" + userId, role);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+        );
+    }
+}
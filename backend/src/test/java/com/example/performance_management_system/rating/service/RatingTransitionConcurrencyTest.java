@@ -0,0 +1,421 @@
+package com.example.performance_management_system.rating.service;
+
+import com.example.performance_management_system.common.exception.BusinessException;
+import com.example.performance_management_system.config.security.model.UserPrincipal;
+import com.example.performance_management_system.performance.application.service.PerformanceScoringEngine;
+import com.example.performance_management_system.performance.domain.model.valueobject.PerformanceScore;
+import com.example.performance_management_system.performancecycle.model.CycleStatus;
+import com.example.performance_management_system.performancecycle.model.PerformanceCycle;
+import com.example.performance_management_system.performancecycle.repository.PerformanceCycleRepository;
+import com.example.performance_management_system.performancecycle.service.PerformanceCycleService;
+import com.example.performance_management_system.rating.dto.CalibrateRatingRequest;
+import com.example.performance_management_system.rating.model.Rating;
+import com.example.performance_management_system.rating.model.RatingStatus;
+import com.example.performance_management_system.rating.repository.RatingRepository;
+import com.example.performance_management_system.user.service.HierarchyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Races the single-rating transitions on committed rows and checks that every
+ * compare-and-set has exactly one winner, that the losers get a 409, and that
+ * the rating rows and the distribution counters end up agreeing.
+ * <p>
+ * The threads have to see each other's commits, so fixtures are committed
+ * under a fresh cycle and deleted again after each test.
+ */
+@SpringBootTest(properties = "pms.cache-bus.type=memory")
+class RatingTransitionConcurrencyTest {
+
+    private static final int RATINGS = 5;
+    private static final int CONTENDERS = 4;
+    private static final int THREADS = 16;
+
+    private static final double MANAGER_SCORE = 4.0;
+
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private PerformanceCycleRepository cycleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private HierarchyService hierarchyService;
+
+    @MockitoBean
+    private PerformanceCycleService cycleService;
+
+    @MockitoBean
+    private PerformanceScoringEngine scoringEngine;
+
+    private PerformanceCycle cycle;
+    private Long managerId;
+    private List<Long> ratingIds;
+
+    @BeforeEach
+    void setUp() {
+        cycle = new PerformanceCycle();
+        cycle.setName("rating-race-" + UUID.randomUUID());
+        cycle.setCycleType("ANNUAL");
+        cycle.setStartDate(LocalDate.now());
+        cycle.setEndDate(LocalDate.now().plusYears(1));
+        cycle.setStatus(CycleStatus.DRAFT);
+        cycle.setCreatedBy("test");
+        cycle = cycleRepository.save(cycle);
+
+        // ids no real user has
+        managerId = -Math.abs(UUID.randomUUID().getMostSignificantBits() % 1_000_000_000L) - 1;
+
+        ratingIds = new ArrayList<>();
+        for (int i = 0; i < RATINGS; i++) {
+            Rating rating = new Rating();
+            rating.setEmployeeId(managerId - 1 - i);
+            rating.setManagerId(managerId);
+            rating.setPerformanceCycle(cycle);
+            rating.setScore(3.0);
+            ratingIds.add(ratingRepository.save(rating).getId());
+        }
+
+        when(cycleService.getActiveCycle()).thenReturn(cycle);
+        when(scoringEngine.score(any(), any())).thenReturn(new PerformanceScore(MANAGER_SCORE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+
+        Long cycleId = cycle.getId();
+        jdbcTemplate.update("DELETE FROM rating_distribution WHERE performance_cycle_id = ?", cycleId);
+        jdbcTemplate.update("DELETE FROM rating_distribution_cycle WHERE performance_cycle_id = ?", cycleId);
+        jdbcTemplate.update("DELETE FROM rating WHERE performance_cycle_id = ?", cycleId);
+        jdbcTemplate.update("DELETE FROM performance_cycle WHERE id = ?", cycleId);
+    }
+
+    @Test
+    void eachTransitionHasExactlyOneWinner() throws InterruptedException {
+
+        // DRAFT: submissions race manager edits
+        List<Attempt> attempts = new ArrayList<>();
+        for (Long ratingId : ratingIds) {
+            for (int i = 0; i < CONTENDERS; i++) {
+                attempts.add(submission(ratingId));
+                attempts.add(edit(ratingId));
+            }
+        }
+        List<Result> results = race(attempts);
+
+        assertOneWinnerPerRating(results, "submit");
+        assertWonOrConflict(results, "update");
+        assertStatuses(RatingStatus.MANAGER_SUBMITTED);
+
+        // MANAGER_SUBMITTED: calibrations race late submissions and edits
+        attempts.clear();
+        for (Long ratingId : ratingIds) {
+            for (int i = 0; i < CONTENDERS; i++) {
+                attempts.add(calibration(ratingId, 1.5 + i * 0.5));
+                attempts.add(submission(ratingId));
+                attempts.add(edit(ratingId));
+            }
+        }
+        results = race(attempts);
+
+        assertOneWinnerPerRating(results, "calibrate");
+        assertAllConflict(results, "submit");
+        assertAllConflict(results, "update");
+        assertStatuses(RatingStatus.HR_CALIBRATED);
+        assertScoresMatchWinners(results, "calibrate");
+
+        // HR_CALIBRATED: finalizations race late calibrations
+        Map<Long, Double> calibrated = scores();
+        attempts.clear();
+        for (Long ratingId : ratingIds) {
+            for (int i = 0; i < CONTENDERS; i++) {
+                attempts.add(finalization(ratingId));
+                attempts.add(calibration(ratingId, 5.0));
+            }
+        }
+        results = race(attempts);
+
+        assertOneWinnerPerRating(results, "finalize");
+        assertAllConflict(results, "calibrate");
+        assertStatuses(RatingStatus.FINALIZED);
+        assertEquals(calibrated, scores());
+
+        assertDistributionMatchesRatings();
+    }
+
+    @Test
+    void transitionsRacedOutOfOrderNeverSkipAState() throws InterruptedException {
+
+        List<Attempt> attempts = new ArrayList<>();
+        for (Long ratingId : ratingIds) {
+            for (int i = 0; i < CONTENDERS; i++) {
+                attempts.add(submission(ratingId));
+                attempts.add(calibration(ratingId, 2.0 + i * 0.5));
+                attempts.add(finalization(ratingId));
+                attempts.add(edit(ratingId));
+            }
+        }
+        Collections.shuffle(attempts);
+        List<Result> results = race(attempts);
+
+        for (Result result : results) {
+            if (!result.won()) {
+                assertConflict(result);
+            }
+        }
+
+        Map<Long, String> statuses = statuses();
+        for (Long ratingId : ratingIds) {
+            long submitted = wins(results, "submit", ratingId);
+            long calibrated = wins(results, "calibrate", ratingId);
+            long finalized = wins(results, "finalize", ratingId);
+
+            assertTrue(submitted <= 1 && calibrated <= 1 && finalized <= 1,
+                    "rating " + ratingId + " moved through a state twice");
+            assertTrue(calibrated <= submitted && finalized <= calibrated,
+                    "rating " + ratingId + " skipped a state");
+
+            RatingStatus expected = finalized == 1 ? RatingStatus.FINALIZED
+                    : calibrated == 1 ? RatingStatus.HR_CALIBRATED
+                    : submitted == 1 ? RatingStatus.MANAGER_SUBMITTED
+                    : RatingStatus.DRAFT;
+            assertEquals(expected.name(), statuses.get(ratingId), "status of rating " + ratingId);
+        }
+
+        assertScoresMatchWinners(results, "calibrate");
+        assertDistributionMatchesRatings();
+    }
+
+    /* ---------- Attempts ---------- */
+
+    private record Attempt(String operation, Long ratingId, Double score, String role, Runnable call) {
+    }
+
+    private record Result(Attempt attempt, Throwable failure) {
+        boolean won() {
+            return failure == null;
+        }
+    }
+
+    private Attempt submission(Long ratingId) {
+        return new Attempt("submit", ratingId, null, "MANAGER",
+                () -> ratingService.submitByManager(ratingId));
+    }
+
+    private Attempt edit(Long ratingId) {
+        return new Attempt("update", ratingId, MANAGER_SCORE, "MANAGER",
+                () -> ratingService.updateByManager(ratingId, MANAGER_SCORE, "edited"));
+    }
+
+    private Attempt calibration(Long ratingId, double score) {
+        CalibrateRatingRequest request = new CalibrateRatingRequest();
+        request.newScore = score;
+        request.justification = "calibrated to " + score;
+        return new Attempt("calibrate", ratingId, score, "HR",
+                () -> ratingService.calibrate(ratingId, request));
+    }
+
+    private Attempt finalization(Long ratingId) {
+        return new Attempt("finalize", ratingId, null, "LEADERSHIP",
+                () -> ratingService.finalizeRating(ratingId));
+    }
+
+    /**
+     * Starts every attempt at once (as far as the pool allows) and waits for all of them.
+     */
+    private List<Result> race(List<Attempt> attempts) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(attempts.size());
+        ConcurrentLinkedQueue<Result> results = new ConcurrentLinkedQueue<>();
+
+        try {
+            for (Attempt attempt : attempts) {
+                pool.execute(() -> {
+                    Throwable failure = null;
+                    try {
+                        start.await();
+                        signInAs(attempt.role().equals("MANAGER") ? managerId : 1L, attempt.role());
+                        attempt.call().run();
+                    } catch (Throwable ex) {
+                        failure = ex;
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                        results.add(new Result(attempt, failure));
+                        done.countDown();
+                    }
+                });
+            }
+
+            start.countDown();
+            assertTrue(done.await(2, TimeUnit.MINUTES), "race did not finish");
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return new ArrayList<>(results);
+    }
+
+    /* ---------- Assertions ---------- */
+
+    private void assertOneWinnerPerRating(List<Result> results, String operation) {
+        for (Long ratingId : ratingIds) {
+            assertEquals(1, wins(results, operation, ratingId),
+                    operation + " winners for rating " + ratingId);
+        }
+        assertWonOrConflict(results, operation);
+    }
+
+    private static void assertWonOrConflict(List<Result> results, String operation) {
+        results.stream()
+                .filter(result -> result.attempt().operation().equals(operation) && !result.won())
+                .forEach(RatingTransitionConcurrencyTest::assertConflict);
+    }
+
+    private static void assertAllConflict(List<Result> results, String operation) {
+        results.stream()
+                .filter(result -> result.attempt().operation().equals(operation))
+                .forEach(RatingTransitionConcurrencyTest::assertConflict);
+    }
+
+    private static void assertConflict(Result result) {
+        Attempt attempt = result.attempt();
+        String label = attempt.operation() + " of rating " + attempt.ratingId();
+
+        BusinessException ex = assertInstanceOf(BusinessException.class, result.failure(), label + " should lose with a 409");
+        assertEquals(HttpStatus.CONFLICT, ex.getStatus(), label);
+    }
+
+    private static long wins(List<Result> results, String operation, Long ratingId) {
+        return results.stream()
+                .filter(result -> result.attempt().operation().equals(operation)
+                        && result.attempt().ratingId().equals(ratingId)
+                        && result.won())
+                .count();
+    }
+
+    private void assertStatuses(RatingStatus expected) {
+        statuses().forEach((ratingId, status) ->
+                assertEquals(expected.name(), status, "status of rating " + ratingId));
+    }
+
+    // the winning calibration's score is the one on the row
+    private void assertScoresMatchWinners(List<Result> results, String operation) {
+        Map<Long, Double> scores = scores();
+        results.stream()
+                .filter(result -> result.attempt().operation().equals(operation) && result.won())
+                .forEach(result -> assertEquals(
+                        result.attempt().score(),
+                        scores.get(result.attempt().ratingId()),
+                        "score of rating " + result.attempt().ratingId()
+                ));
+    }
+
+    /**
+     * The counters of every group type must add up to exactly the rating rows,
+     * per status, in count and in score sum.
+     */
+    private void assertDistributionMatchesRatings() {
+        Map<String, Long> expectedCounts = new HashMap<>();
+        Map<String, Double> expectedSums = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT status, COUNT(*) AS n, SUM(score) AS total FROM rating WHERE performance_cycle_id = ? GROUP BY status",
+                rs -> {
+                    expectedCounts.put(rs.getString("status"), rs.getLong("n"));
+                    expectedSums.put(rs.getString("status"), rs.getDouble("total"));
+                },
+                cycle.getId()
+        );
+
+        for (String groupType : List.of("CYCLE", "DEPARTMENT", "MANAGER")) {
+            Map<String, Long> counts = new HashMap<>();
+            Map<String, Double> sums = new HashMap<>();
+            jdbcTemplate.query(
+                    """
+                    SELECT status, SUM(rating_count) AS n, SUM(score_sum) AS total
+                    FROM rating_distribution
+                    WHERE performance_cycle_id = ? AND group_type = ?
+                    GROUP BY status
+                    """,
+                    rs -> {
+                        counts.put(rs.getString("status"), rs.getLong("n"));
+                        sums.put(rs.getString("status"), rs.getDouble("total"));
+                    },
+                    cycle.getId(),
+                    groupType
+            );
+
+            for (RatingStatus status : RatingStatus.values()) {
+                assertEquals(expectedCounts.getOrDefault(status.name(), 0L), counts.getOrDefault(status.name(), 0L),
+                        groupType + " count of " + status);
+                assertEquals(expectedSums.getOrDefault(status.name(), 0.0), sums.getOrDefault(status.name(), 0.0), 1e-9,
+                        groupType + " score sum of " + status);
+            }
+        }
+    }
+
+    private Map<Long, String> statuses() {
+        Map<Long, String> statuses = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, status FROM rating WHERE performance_cycle_id = ?",
+                rs -> {
+                    statuses.put(rs.getLong("id"), rs.getString("status"));
+                },
+                cycle.getId()
+        );
+        return statuses;
+    }
+
+    private Map<Long, Double> scores() {
+        Map<Long, Double> scores = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, score FROM rating WHERE performance_cycle_id = ?",
+                rs -> {
+                    scores.put(rs.getLong("id"), rs.getDouble("score"));
+                },
+                cycle.getId()
+        );
+        return scores;
+    }
+
+    private static void signInAs(Long userId, String role) {
+        UserPrincipal principal = new UserPrincipal(userId, "user-" + userId, role);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+        );
+    }
+}
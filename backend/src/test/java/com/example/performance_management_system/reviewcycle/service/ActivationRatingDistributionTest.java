@@ -0,0 +1,317 @@
+package com.example.performance_management_system.reviewcycle.service;
+
+import com.example.performance_management_system.common.enums.DepartmentType;
+import com.example.performance_management_system.common.enums.Role;
+import com.example.performance_management_system.config.security.model.UserPrincipal;
+import com.example.performance_management_system.department.model.Department;
+import com.example.performance_management_system.department.repository.DepartmentRepository;
+import com.example.performance_management_system.performance.application.dto.CalculateCycleScoresCommand;
+import com.example.performance_management_system.performance.application.dto.CalculatePerformanceScoreCommand;
+import com.example.performance_management_system.performance.application.port.in.CalculateCycleScoresUseCase;
+import com.example.performance_management_system.performance.application.port.in.CalculatePerformanceScoreUseCase;
+import com.example.performance_management_system.performance.application.service.PerformanceScoringEngine;
+import com.example.performance_management_system.performance.domain.model.valueobject.EmployeeId;
+import com.example.performance_management_system.performance.domain.model.valueobject.PerformanceScore;
+import com.example.performance_management_system.performancecycle.model.CycleStatus;
+import com.example.performance_management_system.performancecycle.model.PerformanceCycle;
+import com.example.performance_management_system.rating.dto.RatingDistributionResponse;
+import com.example.performance_management_system.rating.model.DistributionGroup;
+import com.example.performance_management_system.rating.model.RatingStatus;
+import com.example.performance_management_system.rating.repository.RatingDistributionRepository;
+import com.example.performance_management_system.rating.repository.RatingDistributionRepository.BucketRow;
+import com.example.performance_management_system.rating.service.RatingDistributionService;
+import com.example.performance_management_system.rating.service.RatingService;
+import com.example.performance_management_system.role.model.RoleEntity;
+import com.example.performance_management_system.role.repository.RoleRepository;
+import com.example.performance_management_system.user.model.User;
+import com.example.performance_management_system.user.service.HierarchyService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the rating writes that bypass {@code RatingService} (activation drafts,
+ * cycle-wide rescoring, single rescoring) against a cycle whose distribution
+ * counters already exist, and checks the counters against a rebuild from
+ * scratch.
+ * <p>
+ * Fixtures are written inside the test transaction and rolled back.
+ */
+@SpringBootTest(properties = "pms.cache-bus.type=memory")
+@Transactional
+class ActivationRatingDistributionTest {
+
+    private static final int EMPLOYEES = 12;
+
+    @Autowired
+    private ReviewCycleActivationWorker worker;
+
+    @Autowired
+    private CalculateCycleScoresUseCase cycleScores;
+
+    @Autowired
+    private CalculatePerformanceScoreUseCase singleScore;
+
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private RatingDistributionService distributionService;
+
+    @Autowired
+    private RatingDistributionRepository distributionRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private HierarchyService hierarchyService;
+
+    @MockitoBean
+    private PerformanceScoringEngine scoringEngine;
+
+    private PerformanceCycle cycle;
+    private Long managerId;
+    private List<Long> employeeIds;
+
+    // what the mocked scoring engine answers, swapped between the steps
+    private Function<Long, Double> scores;
+
+    @BeforeEach
+    void setUp() {
+        cycle = new PerformanceCycle();
+        cycle.setName("activation-distribution-" + UUID.randomUUID());
+        cycle.setCycleType("ANNUAL");
+        cycle.setStartDate(LocalDate.now());
+        cycle.setEndDate(LocalDate.now().plusYears(1));
+        cycle.setStatus(CycleStatus.DRAFT);
+        cycle.setCreatedBy("test");
+        entityManager.persist(cycle);
+
+        RoleEntity employeeRole = roleRepository.findByName(Role.EMPLOYEE).orElseGet(() -> {
+            RoleEntity role = new RoleEntity();
+            role.setName(Role.EMPLOYEE);
+            entityManager.persist(role);
+            return role;
+        });
+
+        Department department = departmentRepository.findByType(DepartmentType.ENGINEERING).orElseGet(() -> {
+            Department created = new Department();
+            created.setType(DepartmentType.ENGINEERING);
+            created.setDisplayName("Engineering");
+            entityManager.persist(created);
+            return created;
+        });
+
+        // an id no real user has
+        managerId = -Math.abs(UUID.randomUUID().getMostSignificantBits() % 1_000_000_000L) - 1;
+
+        employeeIds = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            User user = new User();
+            user.setName("Employee " + i);
+            user.setEmail("activation-" + UUID.randomUUID() + "@example.com");
+            user.setPassword("secret");
+            user.setRole(employeeRole);
+            user.setDepartment(department);
+            user.setManagerId(managerId);
+            entityManager.persist(user);
+            employeeIds.add(user.getId());
+        }
+
+        entityManager.flush();
+
+        when(scoringEngine.scoreAll(any(), any(), any())).thenAnswer(invocation -> {
+            Collection<EmployeeId> ids = invocation.getArgument(0);
+            Map<EmployeeId, PerformanceScore> result = new HashMap<>();
+            ids.forEach(id -> result.put(id, new PerformanceScore(scores.apply(id.value()))));
+            return result;
+        });
+        when(scoringEngine.score(any(), any(), any())).thenAnswer(invocation -> {
+            EmployeeId id = invocation.getArgument(0);
+            return new PerformanceScore(scores.apply(id.value()));
+        });
+        when(hierarchyService.isManagerOf(anyLong(), anyLong())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void countersMatchARebuildAfterActivationAndRescoring() {
+        Long cycleId = cycle.getId();
+
+        // counters exist before any rating does, so every write below must report a delta
+        signInAs(1L, "HR");
+        distributionService.rebuild(cycleId);
+
+        scores = employeeId -> 1.5 + (employeeId % 4) * 0.5;
+        int created = worker.generateRatings(
+                cycleId,
+                employeeIds.get(0) - 1,
+                employeeIds.get(EMPLOYEES - 1),
+                LocalDateTime.now()
+        );
+        assertEquals(EMPLOYEES, created);
+        assertCountersMatchRatings();
+
+        // half of the drafts move on, so the rescoring below has to skip them
+        signInAs(managerId, "MANAGER");
+        ratingService.submitByManager(ratingIds().subList(0, EMPLOYEES / 2));
+
+        scores = employeeId -> 3.2 + (employeeId % 3) * 0.4;
+        cycleScores.calculateForCycle(new CalculateCycleScoresCommand(cycleId, null));
+        assertCountersMatchRatings();
+
+        scores = employeeId -> 4.9;
+        singleScore.calculate(new CalculatePerformanceScoreCommand(employeeIds.get(EMPLOYEES - 1), cycleId, null));
+        assertCountersMatchRatings();
+
+        // the rest moves on from the rescored values
+        ratingService.submitByManager(ratingIds());
+        assertCountersMatchRatings();
+
+        Map<String, Long> incremental = counters();
+        signInAs(1L, "HR");
+        distributionService.rebuild(cycleId);
+        assertEquals(counters(), incremental);
+    }
+
+    @Test
+    void unseededDistributionIsReadWithoutWriting() {
+        Long cycleId = cycle.getId();
+
+        jdbcTemplate.update(
+                "INSERT INTO rating (employee_id, manager_id, performance_cycle_id, score, status, created_at) "
+                        + "VALUES (?, ?, ?, 3.0, 'DRAFT', now())",
+                employeeIds.get(0), managerId, cycleId
+        );
+
+        signInAs(1L, "HR");
+        List<RatingDistributionResponse> distribution =
+                distributionService.getDistribution(cycleId, DistributionGroup.CYCLE, null);
+
+        assertEquals(1, distribution.size());
+        assertEquals(1, distribution.get(0).count());
+        assertFalse(isSeeded(cycleId));
+        assertTrue(counters().isEmpty());
+    }
+
+    /* ---------- Helpers ---------- */
+
+    private List<Long> ratingIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM rating WHERE performance_cycle_id = ? ORDER BY employee_id",
+                Long.class,
+                cycle.getId()
+        );
+    }
+
+    /**
+     * Every group type and status must hold exactly what an aggregate of the
+     * rating rows (the query the rebuild inserts from) holds, and no counter
+     * may have gone negative.
+     */
+    private void assertCountersMatchRatings() {
+        Long cycleId = cycle.getId();
+
+        for (DistributionGroup groupType : DistributionGroup.values()) {
+            for (RatingStatus status : RatingStatus.values()) {
+                List<BucketRow> expected = distributionRepository.findBucketsFromRatings(cycleId, groupType, status);
+                List<BucketRow> actual = distributionRepository.findBuckets(cycleId, groupType, status);
+
+                String label = groupType + " " + status;
+                assertEquals(expected.size(), actual.size(), label + " buckets");
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).groupId(), actual.get(i).groupId(), label);
+                    assertEquals(expected.get(i).bucket(), actual.get(i).bucket(), label);
+                    assertEquals(expected.get(i).count(), actual.get(i).count(), label + " count");
+                    assertEquals(expected.get(i).sum(), actual.get(i).sum(), 1e-9, label + " score sum");
+                }
+            }
+        }
+
+        Long negative = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM rating_distribution WHERE performance_cycle_id = ? AND rating_count < 0",
+                Long.class,
+                cycleId
+        );
+        assertEquals(0L, negative, "negative counters");
+    }
+
+    /**
+     * Non-empty counters of the cycle as group/status/bucket to count.
+     */
+    private Map<String, Long> counters() {
+        Map<String, Long> counters = new HashMap<>();
+        jdbcTemplate.query(
+                """
+                SELECT group_type, group_id, status, bucket, rating_count
+                FROM rating_distribution
+                WHERE performance_cycle_id = ? AND rating_count <> 0
+                """,
+                rs -> {
+                    counters.put(
+                            rs.getString("group_type") + "/" + rs.getLong("group_id") + "/"
+                                    + rs.getString("status") + "/" + rs.getInt("bucket"),
+                            rs.getLong("rating_count")
+                    );
+                },
+                cycle.getId()
+        );
+        return counters;
+    }
+
+    private boolean isSeeded(Long cycleId) {
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM rating_distribution_cycle WHERE performance_cycle_id = ?",
+                Long.class,
+                cycleId
+        );
+        return rows != null && rows > 0;
+    }
+
+    private static void signInAs(Long userId, String role) {
+        UserPrincipal principal = new UserPrincipal(userId, "user-" + userId, role);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+        );
+    }
+}